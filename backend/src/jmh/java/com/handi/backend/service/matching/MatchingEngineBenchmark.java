@@ -0,0 +1,81 @@
+package com.handi.backend.service.matching;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 간호사 1명 매칭 마이크로 벤치마크
+ * ./gradlew jmh ( 할당량은 gc 프로파일러의 gc.alloc.rate.norm )
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class MatchingEngineBenchmark {
+
+    @Param({"min-cost", "hopcroft-karp"})
+    public String engine;
+
+    @Param({"10", "50", "100"})
+    public int seniors;
+
+    @Param({"1", "14"})
+    public int days;
+
+    @Param({"UNIFORM", "PEAK"})
+    public MatchingWorkload.Distribution distribution;
+
+    private MatchingEngine matchingEngine;
+    private List<MatchingWorkload.NurseProblem> problems;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        matchingEngine = switch (engine) {
+            case "min-cost" -> new MinCostMatchingEngine("earliest");
+            case "hopcroft-karp" -> new HopcroftKarpMatchingEngine();
+            default -> throw new IllegalArgumentException("지원하지 않는 매칭 엔진입니다: " + engine);
+        };
+        problems = MatchingWorkload.generate(42L, 64, seniors, days, 0.0, distribution).nurses();
+    }
+
+    @Benchmark
+    public Map<Integer, String> matchNurse() {
+        MatchingWorkload.NurseProblem problem = problems.get(next++ & (problems.size() - 1));
+        return matchingEngine.match(problem.employeeSlots(), problem.seniorSlots());
+    }
+
+    /**
+     * 기존 백트래킹은 시니어 수에 대해 지수 시간이라 작은 입력만 측정
+     */
+    @State(Scope.Benchmark)
+    public static class SmallCaseload {
+        @Param({"8", "12"})
+        public int seniors;
+
+        List<MatchingWorkload.NurseProblem> problems;
+        int next;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            problems = MatchingWorkload.generate(42L, 64, seniors, 1, 0.0, MatchingWorkload.Distribution.PEAK).nurses();
+        }
+    }
+
+    @Benchmark
+    public void backtrackingSmall(SmallCaseload state, Blackhole blackhole) {
+        MatchingWorkload.NurseProblem problem = state.problems.get(state.next++ & (state.problems.size() - 1));
+        blackhole.consume(new BacktrackingMatchingEngine().match(problem.employeeSlots(), problem.seniorSlots()));
+    }
+}
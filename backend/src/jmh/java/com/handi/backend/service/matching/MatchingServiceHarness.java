@@ -0,0 +1,192 @@
+package com.handi.backend.service.matching;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.handi.backend.converter.DateTimeConverter;
+import com.handi.backend.dto.meeting.EmployeeScheduleData;
+import com.handi.backend.dto.meeting.GuardianRequestData;
+import com.handi.backend.dto.meeting.MatchedMeeting;
+import com.handi.backend.entity.MeetingMatches;
+import com.handi.backend.entity.Users;
+import com.handi.backend.enums.ConsultationStatus;
+import com.handi.backend.enums.Role;
+import com.handi.backend.repository.UsersRepository;
+import com.handi.backend.service.AlertService;
+import com.handi.backend.service.InMemoryMeetingScheduleStore;
+import com.handi.backend.service.MeetingMatchesWriter;
+import com.handi.backend.service.MeetingMatchingService;
+import com.handi.backend.service.MeetingScheduleStore;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * MeetingMatchingService.performMatching 을 외부 서비스 없이 실행
+ * - 일정 저장소 : InMemoryMeetingScheduleStore ( Redis 와 같은 직렬화 / 예약 규칙 )
+ * - DB 저장 / 트랜잭션 / 알림 : 아무것도 하지 않는 대역 ( 저장 건수만 셈 )
+ * 묶음 나누기, 병렬 실행, 일정 조회 / 예약 비용까지 측정 ( DB / 네트워크 왕복 제외 )
+ */
+final class MatchingServiceHarness {
+
+    private static final int GUARDIAN_ID_OFFSET = 1_000_000;   // 보호자 ID = 시니어 ID + offset
+
+    private final MatchingWorkload workload;
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    MatchingServiceHarness(MatchingWorkload workload) {
+        this.workload = workload;
+    }
+
+    /**
+     * 실행 결과
+     *
+     * @param partitionP95Nanos 묶음 처리 시간 p95 ( matching.partition.duration )
+     * @param written           DB 에 저장했을 매칭 수
+     */
+    record Result(long totalNanos, int matched, long partitions, long partitionP95Nanos, long partitionMaxNanos,
+                  int written) {
+    }
+
+    /**
+     * 매번 새 저장소에 일정을 넣고 구간 전체를 한 번 매칭
+     */
+    Result run(MatchingEngine engine, int parallelism) {
+        MeetingScheduleStore store = seed();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        CountingWriter writer = new CountingWriter();
+
+        MeetingMatchingService service = new MeetingMatchingService(
+                new DateTimeConverter(), store, new TransactionTemplate(new NoTransactionManager()), employees(),
+                writer, new NoAlertService(), List.of(engine), registry, null);
+        setField(service, "engineName", engine.name());
+        setField(service, "parallelism", parallelism);
+        service.init();
+        try {
+            long start = System.nanoTime();
+            List<MatchedMeeting> matches = service.performMatching(workload.fromDate(), workload.toDate());
+            long totalNanos = System.nanoTime() - start;
+
+            Timer timer = registry.get("matching.partition.duration").timer();
+            long p95 = 0;
+            for (ValueAtPercentile percentile : timer.takeSnapshot().percentileValues()) {
+                if (percentile.percentile() == 0.95) {
+                    p95 = (long) percentile.value(TimeUnit.NANOSECONDS);
+                }
+            }
+            return new Result(totalNanos, matches.size(), timer.count(), p95,
+                    (long) timer.max(TimeUnit.NANOSECONDS), writer.written.get());
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    private MeetingScheduleStore seed() {
+        InMemoryMeetingScheduleStore store = new InMemoryMeetingScheduleStore(objectMapper);
+        workload.employeeCalendars().forEach((employeeId, calendar) -> store.saveEmployeeSchedule(employeeId,
+                new EmployeeScheduleData(workload.seniorsByEmployee().get(employeeId), calendar, null, null, null), null));
+        workload.requestCalendars().forEach((seniorId, calendar) -> store.saveGuardianRequest(seniorId,
+                new GuardianRequestData(GUARDIAN_ID_OFFSET + seniorId, calendar, null, null, ConsultationStatus.PENDING), null));
+        return store;
+    }
+
+    // findByRole 만 사용 ( 간호사 목록 )
+    private UsersRepository employees() {
+        List<Users> employees = new ArrayList<>();
+        for (Integer employeeId : workload.seniorsByEmployee().keySet()) {
+            Users user = new Users();
+            user.setId(employeeId);
+            user.setRole(Role.EMPLOYEE);
+            employees.add(user);
+        }
+        return (UsersRepository) Proxy.newProxyInstance(UsersRepository.class.getClassLoader(),
+                new Class<?>[]{UsersRepository.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("findByRole")) {
+                        return employees;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    // @Value 필드 ( 스프링 없이 생성하므로 직접 설정 )
+    private static void setField(Object target, String name, Object value) {
+        Field field = ReflectionUtils.findField(target.getClass(), name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+    }
+
+    // DB 없이 저장한 것으로 처리 ( 시니어 이름은 ID 로 만듦 )
+    private static final class CountingWriter extends MeetingMatchesWriter {
+
+        private final DateTimeConverter dateTimeConverter = new DateTimeConverter();
+        private final AtomicInteger sequence = new AtomicInteger();
+        private final AtomicInteger written = new AtomicInteger();
+
+        CountingWriter() {
+            super(null, null, null, null, null);
+        }
+
+        @Override
+        public Map<Integer, String> findSeniorNames(Collection<Integer> seniorIds) {
+            Map<Integer, String> names = new HashMap<>();
+            for (Integer seniorId : seniorIds) {
+                names.put(seniorId, "시니어" + seniorId);
+            }
+            return names;
+        }
+
+        @Override
+        public List<MeetingMatches> write(List<MatchedMeeting> matches, Map<Integer, String> seniorNames, String algorithmInfo) {
+            List<MeetingMatches> saved = new ArrayList<>(matches.size());
+            for (MatchedMeeting match : matches) {
+                MeetingMatches entity = new MeetingMatches();
+                entity.setId(sequence.incrementAndGet());
+                entity.setMeetingTime(dateTimeConverter.stringToLocalDateTime(match.getMeetingTime()));
+                saved.add(entity);
+            }
+            written.addAndGet(saved.size());
+            return saved;
+        }
+    }
+
+    private static final class NoAlertService extends AlertService {
+
+        NoAlertService() {
+            super(null, null, null, null, null, null, null, null, null);
+        }
+
+        @Override
+        public void scheduleMeetingAlert(MeetingMatches meetingMatches) {
+        }
+    }
+
+    private static final class NoTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.handi.backend.service.matching;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 자정 일괄 매칭 규모의 시뮬레이션 ( 외부 서비스 없이 실행 )
+ * ./gradlew matchingSimulation -PsimulationArgs="--nurses=300 --seniors=50 --days=14 --distribution=PEAK --threads=8"
+ *
+ * 엔진별로 전체 간호사를 매칭해서 아래 항목 출력
+ * - 실행 시간 ( 전체 / 간호사당 p50, p95, 최대 )
+ * - 할당량 ( 현재 스레드 기준 )
+ * - 매칭 수와 최대 매칭 대비 부족한 수 ( Hopcroft–Karp 결과가 최대 )
+ * - 빠른 시간 우선 비용과 min-cost 대비 차이 ( 같은 매칭 수일 때만 비교 가능 )
+ * 엔진 표는 엔진 + 슬롯 달력 계산만 측정
+ *
+ * 이어서 MeetingMatchingService.performMatching 을 엔진별로 실행 ( MatchingServiceHarness )
+ * - 묶음 나누기 / 병렬 실행 / 일정 조회 / 예약( 직렬화 + 원본 비교 ) 비용 포함
+ * - 일정 저장소는 메모리, DB 저장 / 알림은 대역이라 네트워크 왕복은 포함하지 않음
+ */
+public final class MatchingSimulation {
+
+    private MatchingSimulation() {
+    }
+
+    public static void main(String[] args) {
+        Map<String, String> options = parse(args);
+        long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+        int nurses = Integer.parseInt(options.getOrDefault("nurses", "300"));
+        int seniors = Integer.parseInt(options.getOrDefault("seniors", "50"));
+        int days = Integer.parseInt(options.getOrDefault("days", "14"));
+        double shared = Double.parseDouble(options.getOrDefault("shared", "0.05"));
+        int backtrackMax = Integer.parseInt(options.getOrDefault("backtrack-max", "12"));
+        int threads = Integer.parseInt(options.getOrDefault("threads", "0"));
+        MatchingWorkload.Distribution distribution =
+                MatchingWorkload.Distribution.valueOf(options.getOrDefault("distribution", "UNIFORM"));
+
+        long generateStart = System.nanoTime();
+        MatchingWorkload workload = MatchingWorkload.generate(seed, nurses, seniors, days, shared, distribution);
+        List<List<Integer>> partitions = MatchingPartitioner.partition(workload.seniorsByEmployee());
+        System.out.printf("workload: seed=%d nurses=%d seniors/nurse=%d days=%d shared=%.2f distribution=%s (%d ms)%n",
+                seed, nurses, seniors, days, shared, distribution, (System.nanoTime() - generateStart) / 1_000_000);
+        System.out.printf("partitions: %d ( largest %d nurses )%n",
+                partitions.size(), partitions.isEmpty() ? 0 : partitions.get(0).size());
+
+        List<MatchingWorkload.NurseProblem> problems = workload.nurses();
+        List<MatchingEngine> engines = List.of(
+                new MinCostMatchingEngine("earliest"),
+                new HopcroftKarpMatchingEngine(),
+                new BacktrackingMatchingEngine());
+
+        // 기준값 : 최대 매칭 수 ( Hopcroft–Karp ), 최소 비용 ( min-cost )
+        List<Map<Integer, String>> maximum = run(new HopcroftKarpMatchingEngine(), problems, Integer.MAX_VALUE).assignments;
+        List<Map<Integer, String>> cheapest = run(new MinCostMatchingEngine("earliest"), problems, Integer.MAX_VALUE).assignments;
+
+        System.out.printf("%-14s %9s %8s %8s %8s %12s %8s %8s %10s %8s%n",
+                "engine", "total_ms", "p50_us", "p95_us", "max_us", "alloc_mb", "matched", "gap", "cost_gap", "skipped");
+        for (MatchingEngine engine : engines) {
+            // 워밍업 1회 후 측정
+            int limit = engine instanceof BacktrackingMatchingEngine ? backtrackMax : Integer.MAX_VALUE;
+            run(engine, problems, limit);
+            Result result = run(engine, problems, limit);
+
+            int matched = 0;
+            int gap = 0;
+            long costGap = 0;
+            for (int i = 0; i < problems.size(); i++) {
+                Map<Integer, String> assignment = result.assignments.get(i);
+                if (assignment == null) continue;
+                matched += assignment.size();
+                gap += maximum.get(i).size() - assignment.size();
+                if (assignment.size() == cheapest.get(i).size()) {
+                    costGap += cost(problems.get(i), assignment) - cost(problems.get(i), cheapest.get(i));
+                }
+            }
+
+            long[] sorted = result.nanosPerNurse.stream().mapToLong(Long::longValue).sorted().toArray();
+            System.out.printf("%-14s %9d %8d %8d %8d %12.1f %8d %8d %10d %8d%n",
+                    engine.name(),
+                    result.totalNanos / 1_000_000,
+                    percentile(sorted, 0.50) / 1_000,
+                    percentile(sorted, 0.95) / 1_000,
+                    sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000,
+                    result.allocatedBytes / (1024.0 * 1024.0),
+                    matched, gap, costGap, result.skipped);
+        }
+
+        // 서비스 전체 ( 백트래킹은 큰 입력에서 끝나지 않으므로 제외 )
+        MatchingServiceHarness harness = new MatchingServiceHarness(workload);
+        System.out.printf("%nperformMatching %s ~ %s, threads=%s%n", workload.fromDate(), workload.toDate(),
+                threads > 0 ? threads : Runtime.getRuntime().availableProcessors());
+        System.out.printf("%-14s %9s %10s %12s %12s %8s %8s%n",
+                "engine", "total_ms", "partitions", "part_p95_us", "part_max_us", "matched", "written");
+        for (MatchingEngine engine : List.of(new MinCostMatchingEngine("earliest"), new HopcroftKarpMatchingEngine())) {
+            // 워밍업 1회 후 측정
+            harness.run(engine, threads);
+            MatchingServiceHarness.Result result = harness.run(engine, threads);
+            System.out.printf("%-14s %9d %10d %12d %12d %8d %8d%n",
+                    engine.name(),
+                    result.totalNanos() / 1_000_000,
+                    result.partitions(),
+                    result.partitionP95Nanos() / 1_000,
+                    result.partitionMaxNanos() / 1_000,
+                    result.matched(),
+                    result.written());
+        }
+    }
+
+    private static Result run(MatchingEngine engine, List<MatchingWorkload.NurseProblem> problems, int seniorLimit) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        Result result = new Result();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (MatchingWorkload.NurseProblem problem : problems) {
+            if (problem.seniorSlots().size() > seniorLimit) {
+                result.assignments.add(null);
+                result.skipped++;
+                continue;
+            }
+            long nurseStart = System.nanoTime();
+            result.assignments.add(engine.match(problem.employeeSlots(), problem.seniorSlots()));
+            result.nanosPerNurse.add(System.nanoTime() - nurseStart);
+        }
+        result.totalNanos = System.nanoTime() - start;
+        result.allocatedBytes = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        return result;
+    }
+
+    // min-cost(earliest) 와 같은 기준 : 간호사 가능 시간 중 몇 번째 시간인지의 합
+    private static long cost(MatchingWorkload.NurseProblem problem, Map<Integer, String> assignment) {
+        List<String> slots = problem.employeeSlots();
+        long cost = 0;
+        for (String time : assignment.values()) {
+            cost += Math.max(0, Collections.binarySearch(slots, time));
+        }
+        return cost;
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) return 0;
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(p * sorted.length) - 1)];
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        Arrays.stream(args)
+                .filter(arg -> arg.startsWith("--") && arg.contains("="))
+                .forEach(arg -> options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1)));
+        return options;
+    }
+
+    private static final class Result {
+        final List<Map<Integer, String>> assignments = new ArrayList<>();
+        final List<Long> nanosPerNurse = new ArrayList<>();
+        long totalNanos;
+        long allocatedBytes;
+        int skipped;
+    }
+}
@@ -0,0 +1,183 @@
+package com.handi.backend.service.matching;
+
+import com.handi.backend.util.SlotCalendar;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * 매칭 벤치마크용 가상 데이터 생성 ( 같은 seed 면 항상 같은 데이터 )
+ * - 간호사 / 시니어 / 담당 관계 / 가능 시간 분포
+ * - 시간은 화면과 같은 09:00 ~ 17:30, 30분 단위
+ * - 서비스와 같은 방식으로 SlotCalendar 교집합을 구해서 엔진 입력을 만듦
+ */
+public final class MatchingWorkload {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final LocalDate BASE_DATE = LocalDate.of(2025, 6, 2);
+    private static final int FIRST_SLOT = 18;   // 09:00
+    private static final int SLOTS_PER_DAY = 18; // 09:00 ~ 17:30
+
+    /**
+     * 보호자 희망 시간 분포
+     * - UNIFORM : 모든 시간 고르게
+     * - PEAK    : 오전 10시 / 오후 2시 근처에 몰림 ( 경쟁이 심한 경우 )
+     * - SPARSE  : 1 ~ 2개만 선택
+     */
+    public enum Distribution { UNIFORM, PEAK, SPARSE }
+
+    /**
+     * 간호사 1명의 매칭 입력
+     */
+    public record NurseProblem(int employeeId, List<String> employeeSlots, Map<Integer, List<String>> seniorSlots) {
+    }
+
+    private final List<NurseProblem> nurses;
+    private final Map<Integer, List<Integer>> seniorsByEmployee;
+    private final Map<Integer, SlotCalendar> employeeCalendars;
+    private final Map<Integer, SlotCalendar> requestCalendars;
+    private final String fromDate;
+    private final String toDate;
+
+    private MatchingWorkload(List<NurseProblem> nurses, Map<Integer, List<Integer>> seniorsByEmployee,
+                             Map<Integer, SlotCalendar> employeeCalendars, Map<Integer, SlotCalendar> requestCalendars,
+                             String fromDate, String toDate) {
+        this.nurses = nurses;
+        this.seniorsByEmployee = seniorsByEmployee;
+        this.employeeCalendars = employeeCalendars;
+        this.requestCalendars = requestCalendars;
+        this.fromDate = fromDate;
+        this.toDate = toDate;
+    }
+
+    public List<NurseProblem> nurses() {
+        return nurses;
+    }
+
+    public Map<Integer, List<Integer>> seniorsByEmployee() {
+        return seniorsByEmployee;
+    }
+
+    // 간호사 ID → 가능 시간 ( 저장소에 넣을 값 )
+    public Map<Integer, SlotCalendar> employeeCalendars() {
+        return employeeCalendars;
+    }
+
+    // 시니어 ID → 보호자 요청 시간 ( 요청한 시니어만 )
+    public Map<Integer, SlotCalendar> requestCalendars() {
+        return requestCalendars;
+    }
+
+    // 매칭 구간 ( yyyyMMdd, 양 끝 포함 )
+    public String fromDate() {
+        return fromDate;
+    }
+
+    public String toDate() {
+        return toDate;
+    }
+
+    /**
+     * @param nurseCount      간호사 수
+     * @param seniorsPerNurse 간호사당 담당 시니어 수
+     * @param days            매칭 구간 일수
+     * @param sharedRatio     다른 간호사와 같이 담당하는 시니어 비율 ( 0 ~ 1 )
+     */
+    public static MatchingWorkload generate(long seed, int nurseCount, int seniorsPerNurse, int days,
+                                            double sharedRatio, Distribution distribution) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<String> dates = new ArrayList<>(days);
+        for (int d = 0; d < days; d++) {
+            dates.add(BASE_DATE.plusDays(d).format(DATE_FORMATTER));
+        }
+
+        // 1. 담당 관계 ( 시니어 ID 는 간호사마다 연속, 일부는 앞 간호사 시니어와 공유 )
+        Map<Integer, List<Integer>> seniorsByEmployee = new LinkedHashMap<>();
+        int nextSeniorId = 1;
+        for (int e = 1; e <= nurseCount; e++) {
+            List<Integer> seniors = new ArrayList<>(seniorsPerNurse);
+            for (int s = 0; s < seniorsPerNurse; s++) {
+                if (e > 1 && random.nextDouble() < sharedRatio) {
+                    List<Integer> other = seniorsByEmployee.get(1 + random.nextInt(e - 1));
+                    seniors.add(other.get(random.nextInt(other.size())));
+                } else {
+                    seniors.add(nextSeniorId++);
+                }
+            }
+            seniorsByEmployee.put(e, seniors.stream().distinct().toList());
+        }
+
+        // 2. 보호자 요청 ( 시니어의 80% 만 요청 )
+        Map<Integer, SlotCalendar> requests = new LinkedHashMap<>();
+        for (int seniorId = 1; seniorId < nextSeniorId; seniorId++) {
+            if (random.nextDouble() < 0.8) {
+                requests.put(seniorId, guardianSlots(random, dates, distribution));
+            }
+        }
+
+        // 3. 간호사 가능 시간 ( 근무일마다 절반 정도 ) + 엔진 입력
+        List<NurseProblem> nurses = new ArrayList<>(nurseCount);
+        Map<Integer, SlotCalendar> employeeCalendars = new LinkedHashMap<>();
+        for (Map.Entry<Integer, List<Integer>> entry : seniorsByEmployee.entrySet()) {
+            SlotCalendar employee = new SlotCalendar();
+            for (String date : dates) {
+                if (random.nextDouble() < 0.7) {
+                    employee.addAll(date, randomBits(random, 0.5));
+                }
+            }
+
+            Map<Integer, List<String>> seniorSlots = new LinkedHashMap<>();
+            for (Integer seniorId : entry.getValue()) {
+                SlotCalendar request = requests.get(seniorId);
+                if (request == null) continue;
+                SlotCalendar common = employee.intersect(request);
+                if (!common.isEmpty()) {
+                    seniorSlots.put(seniorId, common.toTimes());
+                }
+            }
+            nurses.add(new NurseProblem(entry.getKey(), employee.toTimes(), seniorSlots));
+            employeeCalendars.put(entry.getKey(), employee);
+        }
+        return new MatchingWorkload(Collections.unmodifiableList(nurses), seniorsByEmployee,
+                employeeCalendars, requests, dates.get(0), dates.get(dates.size() - 1));
+    }
+
+    private static SlotCalendar guardianSlots(SplittableRandom random, List<String> dates, Distribution distribution) {
+        SlotCalendar calendar = new SlotCalendar();
+        int count = switch (distribution) {
+            case UNIFORM, PEAK -> 2 + random.nextInt(7);
+            case SPARSE -> 1 + random.nextInt(2);
+        };
+        for (int i = 0; i < count; i++) {
+            String date = dates.get(random.nextInt(dates.size()));
+            int slot = switch (distribution) {
+                case PEAK -> peakSlot(random);
+                case UNIFORM, SPARSE -> random.nextInt(SLOTS_PER_DAY);
+            };
+            calendar.addAll(date, 1L << (FIRST_SLOT + slot));
+        }
+        return calendar;
+    }
+
+    // 10:00 / 14:00 중심으로 ±1시간
+    private static int peakSlot(SplittableRandom random) {
+        int center = random.nextBoolean() ? 2 : 10;
+        return Math.max(0, Math.min(SLOTS_PER_DAY - 1, center + random.nextInt(5) - 2));
+    }
+
+    private static long randomBits(SplittableRandom random, double probability) {
+        long bits = 0;
+        for (int slot = 0; slot < SLOTS_PER_DAY; slot++) {
+            if (random.nextDouble() < probability) {
+                bits |= 1L << (FIRST_SLOT + slot);
+            }
+        }
+        return bits;
+    }
+}
@@ -0,0 +1,73 @@
+package com.handi.backend.util;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.crypto.SecretKey;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 파싱 비교
+ * - cached   : JwtTokenProvider 가 한 번 만든 JwtParser 재사용
+ * - perCall  : 호출마다 JwtParser 를 새로 생성 ( 이전 방식 )
+ * - request* : 요청 1건 기준 ( 이전 : 값마다 토큰 재파싱 4회 / 현재 : 필터에서 1회 파싱한 Claims 재사용 )
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JwtParseBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-0123456789";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private SecretKey secretKey;
+    private String accessToken;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(SECRET);
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes());
+        accessToken = jwtTokenProvider.generateAccessToken(1, 1, "홍길동", "user@handi.com");
+    }
+
+    @Benchmark
+    public Claims parseCached() {
+        return jwtTokenProvider.parseClaims(accessToken);
+    }
+
+    @Benchmark
+    public Claims parsePerCall() {
+        return parseWithNewParser();
+    }
+
+    @Benchmark
+    public Integer requestPerCall(Blackhole blackhole) {
+        // 검증 + 토큰 종류 + 이메일 + 사용자 ID 를 각각 파싱
+        blackhole.consume(parseWithNewParser());
+        blackhole.consume(parseWithNewParser().get("type", String.class));
+        blackhole.consume(parseWithNewParser().getSubject());
+        return parseWithNewParser().get("oauthUserId", Integer.class);
+    }
+
+    @Benchmark
+    public Integer requestCached(Blackhole blackhole) {
+        Claims claims = jwtTokenProvider.parseClaims(accessToken);
+        blackhole.consume(jwtTokenProvider.isRefreshToken(claims));
+        blackhole.consume(jwtTokenProvider.getEmail(claims));
+        return jwtTokenProvider.getOauthUserId(claims);
+    }
+
+    private Claims parseWithNewParser() {
+        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(accessToken).getPayload();
+    }
+}
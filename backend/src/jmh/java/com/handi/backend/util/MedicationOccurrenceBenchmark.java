@@ -0,0 +1,102 @@
+package com.handi.backend.util;
+
+import com.handi.backend.dto.medication.MedicationOccurrence;
+import com.handi.backend.entity.MedicationSchedules;
+import com.handi.backend.entity.Medications;
+import com.handi.backend.enums.MedicationTime;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 투약 예정 생성 비교 ( 30 / 180 / 365일, 하루 3회 )
+ * - legacyEntities  : 날짜 x 시간대마다 Medications 엔티티를 만들어 목록에 모으는 기존 방식 ( saveAll 직전까지 )
+ * - streamChunks    : MedicationOccurrenceGenerator 로 만들고 MedicationsBulkRepositoryImpl 처럼 1000건씩 끊기 ( JDBC 호출 제외 )
+ * - mergeVirtual    : 저장된 내역 없이 기간 전체를 가상 투약 예정으로 합치기 ( virtual 모드 조회 )
+ * DB 왕복은 포함하지 않음 ( 청크 수 = 왕복 2번 단위 )
+ * - 실제 PostgreSQL 에서 저장 시간 / JDBC 호출 수 비교는 MedicationsBulkInsertComparisonTest ( src/test )
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class MedicationOccurrenceBenchmark {
+
+    private static final int BATCH_SIZE = 1000;     // MedicationsBulkRepositoryImpl 과 같은 크기
+    private static final String[] MEDICATION_TIMES = {
+            MedicationTime.AFTER_BREAKFAST.name(), MedicationTime.AFTER_LUNCH.name(), MedicationTime.AFTER_DINNER.name()};
+
+    // 투약 기간 ( 일 )
+    @Param({"30", "180", "365"})
+    public int days;
+
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private MedicationSchedules schedule;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        startDate = LocalDate.of(2025, 6, 1);
+        endDate = startDate.plusDays(days - 1);
+
+        schedule = new MedicationSchedules();
+        schedule.setId(1);
+        schedule.setMedicationStartdate(startDate);
+        schedule.setMedicationEnddate(endDate);
+        schedule.setMedicationTime(MEDICATION_TIMES);
+        schedule.setIsDeleted(false);
+    }
+
+    @Benchmark
+    public List<Medications> legacyEntities() {
+        LocalDateTime createdAt = LocalDateTime.now();
+        List<Medications> medications = new ArrayList<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            for (String time : MEDICATION_TIMES) {
+                Medications medication = new Medications();
+                medication.setMedicationSchedules(schedule);
+                medication.setMedicationDate(date);
+                medication.setMedicationSchedule(MedicationTime.valueOf(time));
+                medication.setCreatedAt(createdAt);
+                medication.setIsDeleted(false);
+                medications.add(medication);
+            }
+        }
+        return medications;
+    }
+
+    @Benchmark
+    public int streamChunks(Blackhole blackhole) {
+        int chunks = 0;
+        Iterator<MedicationOccurrence> iterator =
+                MedicationOccurrenceGenerator.generate(startDate, endDate, MEDICATION_TIMES).iterator();
+        List<MedicationOccurrence> chunk = new ArrayList<>(BATCH_SIZE);
+        while (iterator.hasNext()) {
+            chunk.add(iterator.next());
+            if (chunk.size() == BATCH_SIZE || !iterator.hasNext()) {
+                blackhole.consume(chunk);
+                chunk.clear();
+                chunks++;
+            }
+        }
+        return chunks;
+    }
+
+    @Benchmark
+    public List<Medications> mergeVirtual() {
+        return MedicationOccurrenceGenerator.merge(schedule, List.of(), startDate, endDate);
+    }
+}
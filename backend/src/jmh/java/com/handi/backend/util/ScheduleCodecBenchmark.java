@@ -0,0 +1,132 @@
+package com.handi.backend.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.handi.backend.dto.meeting.EmployeeScheduleData;
+import com.handi.backend.dto.meeting.GuardianRequestData;
+import com.handi.backend.enums.ConsultationStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상담 일정 Redis 값 직렬화 비교
+ * - legacy : JSON 문자열을 GenericJackson2JsonRedisSerializer 로 한 번 더 감싼 기존 방식
+ * - binary : ScheduleCodec
+ * 키 하나당 바이트 수는 시작할 때 출력, 직렬화 / 역직렬화 시간은 JMH 결과 ( ns )
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ScheduleCodecBenchmark {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.BASIC_ISO_DATE;
+
+    // 간호사 가능 날짜 수
+    @Param({"1", "14"})
+    public int days;
+
+    // 담당 시니어 수
+    @Param({"50"})
+    public int seniors;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final GenericJackson2JsonRedisSerializer legacySerializer = new GenericJackson2JsonRedisSerializer();
+    private final ScheduleCodec<EmployeeScheduleData> employeeCodec = ScheduleCodec.employee(objectMapper);
+    private final ScheduleCodec<GuardianRequestData> guardianCodec = ScheduleCodec.guardian(objectMapper);
+
+    private EmployeeScheduleData employee;
+    private GuardianRequestData guardian;
+    private byte[] legacyEmployeeBytes;
+    private byte[] binaryEmployeeBytes;
+    private byte[] legacyGuardianBytes;
+    private byte[] binaryGuardianBytes;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        SplittableRandom random = new SplittableRandom(42L);
+        LocalDate start = LocalDate.of(2025, 6, 2);
+
+        SlotCalendar employeeSlots = new SlotCalendar();
+        for (int d = 0; d < days; d++) {
+            long bits = 0;
+            for (int slot = 18; slot < 36; slot++) {    // 09:00 ~ 17:30
+                if (random.nextBoolean()) bits |= 1L << slot;
+            }
+            employeeSlots.addAll(start.plusDays(d).format(DATE_FORMATTER), bits);
+        }
+        List<Integer> seniorIds = new ArrayList<>(seniors);
+        for (int i = 0; i < seniors; i++) {
+            seniorIds.add(1000 + i);
+        }
+        employee = new EmployeeScheduleData(seniorIds, employeeSlots, null, "20250601120000", "20250623000000");
+
+        SlotCalendar guardianSlots = new SlotCalendar();
+        for (int i = 0; i < 4; i++) {
+            guardianSlots.addAll(start.plusDays(random.nextInt(days)).format(DATE_FORMATTER), 1L << (18 + random.nextInt(18)));
+        }
+        guardian = new GuardianRequestData(2000, guardianSlots, null, "20250601120000", ConsultationStatus.PENDING);
+
+        legacyEmployeeBytes = legacySerializer.serialize(objectMapper.writeValueAsString(employee));
+        binaryEmployeeBytes = employeeCodec.serialize(employee);
+        legacyGuardianBytes = legacySerializer.serialize(objectMapper.writeValueAsString(guardian));
+        binaryGuardianBytes = guardianCodec.serialize(guardian);
+
+        System.out.printf("%nbytes per key ( days=%d, seniors=%d ): employee legacy=%d binary=%d, guardian legacy=%d binary=%d%n",
+                days, seniors, legacyEmployeeBytes.length, binaryEmployeeBytes.length,
+                legacyGuardianBytes.length, binaryGuardianBytes.length);
+    }
+
+    @Benchmark
+    public byte[] employeeSerializeLegacy() throws Exception {
+        return legacySerializer.serialize(objectMapper.writeValueAsString(employee));
+    }
+
+    @Benchmark
+    public byte[] employeeSerializeBinary() {
+        return employeeCodec.serialize(employee);
+    }
+
+    @Benchmark
+    public EmployeeScheduleData employeeDeserializeLegacy() throws Exception {
+        return objectMapper.readValue((String) legacySerializer.deserialize(legacyEmployeeBytes), EmployeeScheduleData.class);
+    }
+
+    @Benchmark
+    public EmployeeScheduleData employeeDeserializeBinary() {
+        return employeeCodec.deserialize(binaryEmployeeBytes);
+    }
+
+    @Benchmark
+    public byte[] guardianSerializeLegacy() throws Exception {
+        return legacySerializer.serialize(objectMapper.writeValueAsString(guardian));
+    }
+
+    @Benchmark
+    public byte[] guardianSerializeBinary() {
+        return guardianCodec.serialize(guardian);
+    }
+
+    @Benchmark
+    public GuardianRequestData guardianDeserializeLegacy() throws Exception {
+        return objectMapper.readValue((String) legacySerializer.deserialize(legacyGuardianBytes), GuardianRequestData.class);
+    }
+
+    @Benchmark
+    public GuardianRequestData guardianDeserializeBinary() {
+        return guardianCodec.deserialize(binaryGuardianBytes);
+    }
+}
@@ -4,6 +4,7 @@ package com.handi.backend.config;
 import com.google.auth.oauth2.GoogleCredentials;
 import com.google.firebase.FirebaseApp;
 import com.google.firebase.FirebaseOptions;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.ClassPathResource;
@@ -11,7 +12,9 @@ import org.springframework.core.io.ClassPathResource;
 import java.io.IOException;
 import java.io.InputStream;
 
+// fcm.stub=true 이면 Firebase 초기화 없이 StubFcmSender 사용
 @Configuration
+@ConditionalOnProperty(name = "fcm.stub", havingValue = "false", matchIfMissing = true)
 public class FirebaseConfig {
 
     @Bean
@@ -0,0 +1,36 @@
+package com.handi.backend.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+
+/**
+ * Flyway 마이그레이션 실행 시점 조정
+ * - 테이블은 Hibernate( ddl-auto: update )가 만들기 때문에 기본 시점( EntityManagerFactory 생성 전 )에는 테이블이 없을 수 있음
+ * - 기본 시점에는 아무것도 하지 않고, EntityManagerFactory 생성 직후에 migrate
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.flyway.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class FlywayConfig {
+
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy() {
+        // 기본 초기화( flywayInitializer )에서는 건너뜀
+        return flyway -> { };
+    }
+
+    @Bean
+    @DependsOn("entityManagerFactory")
+    public InitializingBean flywayAfterHibernate(Flyway flyway) {
+        return () -> {
+            int applied = flyway.migrate().migrationsExecuted;
+            log.info("Flyway 마이그레이션 완료: {}건 적용", applied);
+        };
+    }
+}
@@ -0,0 +1,32 @@
+package com.handi.backend.config;
+
+import com.handi.backend.service.PrincipalCacheService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 여러 백엔드 노드 간 인증 사용자 캐시 무효화 ( Redis pub/sub )
+ * auth.principal-cache.redis-invalidation=true 일 때만 활성화
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "auth.principal-cache", name = "redis-invalidation", havingValue = "true")
+public class PrincipalCacheInvalidationConfig {
+
+    @Bean
+    public RedisMessageListenerContainer principalCacheListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                         PrincipalCacheService principalCacheService) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> principalCacheService.handleInvalidationMessage(
+                        new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(PrincipalCacheService.INVALIDATION_CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,94 @@
+package com.handi.backend.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 기동 시 인덱스 확인
+ * - 기대하는 인덱스 = db/migration/*.sql 의 CREATE INDEX 문 ( 마이그레이션과 목록이 따로 놀지 않도록 파일에서 직접 읽음 )
+ * - DB 에 없거나 INVALID 상태( CONCURRENTLY 생성 실패 등 )인 인덱스를 경고 로그로 보고
+ * - schema.index-check.fail-on-missing 이면 기동 실패
+ */
+@Component
+@Slf4j
+public class SchemaIndexValidator {
+
+    private static final String MIGRATION_LOCATION = "classpath:db/migration/*.sql";
+    private static final Pattern CREATE_INDEX = Pattern.compile(
+            "CREATE\\s+(?:UNIQUE\\s+)?INDEX\\s+(?:CONCURRENTLY\\s+)?(?:IF\\s+NOT\\s+EXISTS\\s+)?(\\w+)\\s+ON\\s+(\\w+)",
+            Pattern.CASE_INSENSITIVE);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final boolean failOnMissing;
+
+    public SchemaIndexValidator(JdbcTemplate jdbcTemplate,
+                                @Value("${schema.index-check.enabled:true}") boolean enabled,
+                                @Value("${schema.index-check.fail-on-missing:false}") boolean failOnMissing) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.failOnMissing = failOnMissing;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void validate() {
+        if (!enabled) {
+            return;
+        }
+
+        Map<String, String> expected;
+        Set<String> valid;
+        try {
+            expected = expectedIndexes();
+            valid = new HashSet<>(jdbcTemplate.queryForList(
+                    "SELECT c.relname FROM pg_index i " +
+                            "JOIN pg_class c ON c.oid = i.indexrelid " +
+                            "JOIN pg_namespace n ON n.oid = c.relnamespace " +
+                            "WHERE n.nspname = current_schema() AND i.indisvalid",
+                    String.class));
+        } catch (Exception e) {
+            log.error("인덱스 확인 실패: {}", e.getMessage());
+            return;
+        }
+
+        Map<String, String> missing = new LinkedHashMap<>(expected);
+        missing.keySet().removeAll(valid);
+        if (missing.isEmpty()) {
+            log.info("인덱스 확인 완료: {}개 모두 존재", expected.size());
+            return;
+        }
+
+        missing.forEach((index, table) -> log.warn("인덱스가 없거나 사용할 수 없습니다: {} ON {}", index, table));
+        if (failOnMissing) {
+            throw new IllegalStateException("필요한 인덱스가 없습니다: " + missing.keySet());
+        }
+    }
+
+    // 인덱스 이름 → 테이블 이름 ( Postgres 는 따옴표 없는 이름을 소문자로 저장 )
+    private Map<String, String> expectedIndexes() throws IOException {
+        Map<String, String> expected = new LinkedHashMap<>();
+        for (Resource resource : new PathMatchingResourcePatternResolver().getResources(MIGRATION_LOCATION)) {
+            String sql = resource.getContentAsString(StandardCharsets.UTF_8);
+            Matcher matcher = CREATE_INDEX.matcher(sql);
+            while (matcher.find()) {
+                expected.put(matcher.group(1).toLowerCase(), matcher.group(2).toLowerCase());
+            }
+        }
+        return expected;
+    }
+}
@@ -52,6 +52,10 @@ public class SecurityConfig {
                                 // Mock OAuth 테스트 경로 허용
                                 .requestMatchers("/mock-oauth/**").permitAll()
 
+                                // Actuator - 헬스 체크만 공개, 나머지 ( metrics 등 ) 는 ADMIN 권한 필요
+                                .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                                .requestMatchers("/actuator/**").hasRole("ADMIN")
+
                                 // 공통 사용자 기능 - 모든 로그인 사용자 접근 가능
                                 .requestMatchers("/api/v1/users/**").authenticated()
 
@@ -2,14 +2,15 @@ package com.handi.backend.controller;
 
 import com.handi.backend.dto.ai.document.DocumentMaskRequest;
 import com.handi.backend.dto.ai.document.DocumentDetectFromImageResponse;
-import com.handi.backend.dto.ai.document.DocumentMaskResponse;
 import com.handi.backend.service.FastApiService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -67,21 +68,25 @@ public class AIDocumentController {
         @ApiResponse(responseCode = "400", description = "잘못된 요청"),
         @ApiResponse(responseCode = "500", description = "서버 오류")
     })
-    public ResponseEntity<byte[]> documentMasking (
+    public void documentMasking (
             @Parameter(description = "마스킹 요청 데이터", required = true)
-            @ModelAttribute DocumentMaskRequest request) throws Exception {
+            @ModelAttribute DocumentMaskRequest request,
+            HttpServletResponse httpResponse) throws Exception {
         try{
-            DocumentMaskResponse response = fastApiService.documentMask(request);
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.valueOf(response.getContentType()));
-            headers.setContentDispositionFormData("attachment", response.getFilename());
-            
-            return ResponseEntity.ok()
-                    .headers(headers)
-                    .body(response.getImageData());
+            // 마스킹된 이미지를 byte[] 로 모으지 않고 응답으로 바로 전달
+            fastApiService.documentMask(request, (in, contentType, contentLength) -> {
+                httpResponse.setContentType(contentType);
+                httpResponse.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.formData().name("attachment").filename("masked_image.jpg").build().toString());
+                if (contentLength >= 0) {
+                    httpResponse.setContentLengthLong(contentLength);
+                }
+                return in.transferTo(httpResponse.getOutputStream());
+            });
         }catch (Exception e) {
-            return ResponseEntity.internalServerError().body(null);
+            if (!httpResponse.isCommitted()) {
+                httpResponse.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            }
         }
     }
 }
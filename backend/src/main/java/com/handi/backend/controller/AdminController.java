@@ -9,6 +9,7 @@ import com.handi.backend.dto.senior.SeniorResponseDto;
 import com.handi.backend.enums.SortDirection;
 import com.handi.backend.service.AdminService;
 import com.handi.backend.service.OrganizationService;
+import com.handi.backend.service.PrincipalCacheService;
 import com.handi.backend.service.VerificationService;
 import com.handi.backend.util.PageableUtils;
 import io.swagger.v3.oas.annotations.Operation;
@@ -26,6 +27,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Map;
+
 @RestController
 @RequestMapping("/api/v1/admin")
 @RequiredArgsConstructor
@@ -36,6 +39,7 @@ public class AdminController {
 
     private final AdminService adminService;
     private final OrganizationService organizationService;
+    private final PrincipalCacheService principalCacheService;
 
 
     @PostMapping
@@ -257,4 +261,11 @@ public class AdminController {
         return ResponseEntity.ok().body(CommonResponseDto.success("사용자가 성공적으로 복구되었습니다", user));
     }
 
+    @GetMapping("/cache/principal")
+    @Operation(summary = "인증 사용자 캐시 통계", description = "JWT 필터의 인증 사용자 캐시 hit/miss/eviction 통계를 조회합니다.")
+    @ApiResponses({@ApiResponse(responseCode = "200", description = "조회 성공"), @ApiResponse(responseCode = "401", description = "인증 실패"), @ApiResponse(responseCode = "403", description = "권한 없음")})
+    public ResponseEntity<CommonResponseDto<Map<String, Object>>> getPrincipalCacheStats() {
+        return ResponseEntity.ok(CommonResponseDto.success(principalCacheService.getStats()));
+    }
+
 }
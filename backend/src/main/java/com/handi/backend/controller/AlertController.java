@@ -1,13 +1,11 @@
 package com.handi.backend.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.firebase.messaging.FirebaseMessaging;
-import com.google.firebase.messaging.Message;
-import com.google.firebase.messaging.Notification;
 import com.handi.backend.dto.common.CommonResponseDto;
+import com.handi.backend.dto.notification.PushNotification;
 import com.handi.backend.entity.Users;
 import com.handi.backend.repository.UsersRepository;
-import com.handi.backend.service.AlertService;
+import com.handi.backend.service.FcmDispatchService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -23,6 +21,8 @@ import java.util.Map;
 public class AlertController {
 
     private final UsersRepository usersRepository;
+    private final FcmDispatchService fcmDispatchService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping("/{id}")
     public ResponseEntity<CommonResponseDto<?>> alertTest(
@@ -33,28 +33,26 @@ public class AlertController {
         if(user == null){
             return ResponseEntity.ok().body(CommonResponseDto.error("해당 유저 없음"));
         }
+        // FCM 토큰이 있는 경우에만 발송
+        if(user.getFcmToken() == null || user.getFcmToken().trim().isEmpty()){
+            return ResponseEntity.ok().body(CommonResponseDto.error("해당 유저의 FCM 토큰 없음"));
+        }
 
         String title = "테스트 알림 title 입니다";
         String message = "테스트 알림 message 입니다";
         String type = "테스트 알림 type 입니다";
 
         try{
-            ObjectMapper mapper = new ObjectMapper();
             Map<String, Object> dataMap = new HashMap<>();
             dataMap.put("userId", user.getId());
-            String dataJson = mapper.writeValueAsString(dataMap);
-
-            com.google.firebase.messaging.Message fcmMessage = Message.builder()
-                    .setToken(user.getFcmToken())
-                    .setNotification(
-                            Notification.builder()
-                                    .setTitle(title)
-                                    .setBody(message)
-                                    .build())
-                    .putData("type", type)
-                    .putData("data", dataJson)
-                    .build();
-            FirebaseMessaging.getInstance().send(fcmMessage);
+            String dataJson = objectMapper.writeValueAsString(dataMap);
+
+            Map<String, String> data = new HashMap<>();
+            data.put("type", type);
+            data.put("data", dataJson);
+            if(!fcmDispatchService.enqueue(new PushNotification(user.getFcmToken(), title, message, data))){
+                return ResponseEntity.ok().body(CommonResponseDto.error("FCM 발송 대기열이 가득 찼습니다."));
+            }
             return ResponseEntity.ok().body(CommonResponseDto.success("알림 테스트 성공"));
         }catch (Exception e){
             throw new RuntimeException("FCM 메시지 전송 실패", e);
@@ -1,14 +1,11 @@
 package com.handi.backend.controller;
 
-import com.handi.backend.dto.ai.document.DocumentMaskRequest;
-import com.handi.backend.dto.ai.document.DocumentMaskResponse;
 import com.handi.backend.dto.common.CommonResponseDto;
 import com.handi.backend.dto.common.PageResponseDto;
 import com.handi.backend.dto.document.library.DocumentResponseDto;
 import com.handi.backend.dto.document.library.DocumentUploadRequestDto;
 import com.handi.backend.enums.SortDirection;
 import com.handi.backend.service.DocumentLibraryService;
-import com.handi.backend.service.FastApiService;
 import com.handi.backend.util.PageableUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -32,7 +29,6 @@ import org.springframework.web.multipart.MultipartFile;
 public class DocumentLibraryController {
 
     private final DocumentLibraryService documentLibraryService;
-    private final FastApiService fastApiService;
 
     @GetMapping("senior/{seniorId}")
     @Operation(summary = "✅ 환자별 문서 목록 조회", description = "특정 환자의 삭제되지 않은 모든 문서 조회")
@@ -100,11 +96,8 @@ public class DocumentLibraryController {
         // DocumentUploadRequestDto 생성
         DocumentUploadRequestDto documentUploadRequestDto = new DocumentUploadRequestDto(fileName, file, wordBoxes);
 
-        // 이미지 파일을 받아온다.
-        DocumentMaskRequest fastApiRequest = new DocumentMaskRequest(file, wordBoxes);
-        DocumentMaskResponse fastApiResponse = fastApiService.documentMask(fastApiRequest);
-
-        DocumentResponseDto document = documentLibraryService.uploadFileBySeniorId(seniorId, documentUploadRequestDto, fastApiResponse);
+        // FastAPI 마스킹 후 MinIO 저장
+        DocumentResponseDto document = documentLibraryService.uploadFileBySeniorId(seniorId, documentUploadRequestDto);
 
         return ResponseEntity.ok().body(CommonResponseDto.success("파일이 업로드 되었습니다.", document));
 
@@ -2,11 +2,13 @@ package com.handi.backend.controller;
 
 import com.handi.backend.dto.common.CommonResponseDto;
 import com.handi.backend.dto.common.PageResponseDto;
+import com.handi.backend.dto.common.SliceResponseDto;
 import com.handi.backend.dto.medication.MedicationOneResponseDto;
 import com.handi.backend.dto.medication.MedicationTodayResponseDto;
 import com.handi.backend.dto.medication.MedicationUploadRequestDto;
 import com.handi.backend.dto.medication.MedicationsResponseDto;
 import com.handi.backend.entity.Users;
+import com.handi.backend.enums.MedicationTime;
 import com.handi.backend.enums.SortDirection;
 import com.handi.backend.service.MedicationsService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -71,6 +73,28 @@ public class MedicationsController {
     }
 
 
+    // 아직 저장되지 않은 투약 예정 ( 투약 내역 ID 없음 ) 에 사진 업로드
+    @PutMapping(consumes = "multipart/form-data", path = "schedules/{schedulesId}")
+    @Operation(summary = "✅ 투약 예정 사진 업로드", description = "투약 내역 ID 가 없는 투약 예정에 스케줄 / 날짜 / 시간대로 이미지를 업로드 한다")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "업로드 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청 - 파일 없음 또는 스케줄에 없는 날짜 / 시간대"),
+        @ApiResponse(responseCode = "401", description = "인증 실패"),
+        @ApiResponse(responseCode = "404", description = "투약 스케줄을 찾을 수 없음")
+    })
+    public ResponseEntity<CommonResponseDto<?>> uploadMedicationImageBySchedule(
+            @Parameter(description = "투약 스케줄 ID", example = "1") @PathVariable("schedulesId") Integer schedulesId,
+            @Parameter(description = "투약 날짜", example = "20250803") @RequestParam String medicationDate,
+            @Parameter(description = "투약 시간대", example = "AFTER_BREAKFAST") @RequestParam MedicationTime medicationTime,
+            @Parameter(description = "업로드할 알약 사진") @ModelAttribute MedicationUploadRequestDto medicationUploadRequestDto) throws Exception{
+        log.info("투약 예정 이미지 업로드 요청 : schedulesId = {}, {} {}", schedulesId, medicationDate, medicationTime);
+
+        medicationsService.uploadFileBySchedule(schedulesId, medicationDate, medicationTime, medicationUploadRequestDto);
+
+        return ResponseEntity.ok().body(CommonResponseDto.success("투약 사진 업로드 성공"));
+    }
+
+
     // 각 투약 내역별 조회
     @GetMapping("/{id}")
     @Operation(summary = "✅ 투약 내역 조회", description = "투약 내역 id로 조회")
@@ -102,4 +126,16 @@ public class MedicationsController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/today/cursor")
+    @Operation(summary = "✅ 담당 환자의 당일 복약 내역 커서 조회", description = "시간대 순 무한 스크롤용 조회, 응답의 nextCursor 를 다음 요청의 cursor 로 그대로 전달 (전체 개수 없음)")
+    public ResponseEntity<SliceResponseDto<MedicationTodayResponseDto>> getTodayMedicationsByCursor(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기", example = "20") @RequestParam(defaultValue = "20") Integer size,
+            @AuthenticationPrincipal Users user
+    ){
+        SliceResponseDto<MedicationTodayResponseDto> response = medicationsService.getTodayMedicationsByCursor(user, cursor, size);
+
+        return ResponseEntity.ok(response);
+    }
+
 }
@@ -2,6 +2,7 @@ package com.handi.backend.controller;
 
 import com.handi.backend.dto.common.CommonResponseDto;
 import com.handi.backend.dto.common.PageResponseDto;
+import com.handi.backend.dto.common.SliceResponseDto;
 import com.handi.backend.dto.meeting.*;
 import com.handi.backend.entity.Users;
 import com.handi.backend.enums.SortDirection;
@@ -137,5 +138,24 @@ public class MeetingController {
         return ResponseEntity.ok().body(response);
     }
 
+    @GetMapping("/meeting-type/cursor")
+    @Operation(summary = "✅ 상담 분류에 따른 상담 커서 조회", description = "상담 시간순 무한 스크롤용 조회, 응답의 nextCursor 를 다음 요청의 cursor 로 그대로 전달 (전체 개수 없음)")
+    public ResponseEntity<SliceResponseDto<MeetingMatchesResponseDto>> getMeetingByMeetingTypeByCursor(
+            @Parameter(description = "상담 분류 (withDoctor 또는 withEmployee)", example = "withDoctor") @RequestParam @Pattern(regexp = "^(withDoctor|withEmployee)$", message = "meetingType은 withDoctor 또는 withEmployee만 가능합니다") String meetingType,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기", example = "20") @RequestParam(defaultValue = "20") Integer size,
+            @Parameter(description = "시작 날짜 (yyyyMMdd)", example = "20250801")
+            @RequestParam(defaultValue = "") String startDate,
+            @Parameter(description = "종료 날짜 (yyyyMMdd)", example = "20250807")
+            @RequestParam(defaultValue = "") String endDate,
+            @AuthenticationPrincipal Users user
+    ){
+        log.info("{} 의 {} 타입 상담 커서 조회: cursor={}, size={}", user.getId(), meetingType, cursor, size);
+
+        SliceResponseDto<MeetingMatchesResponseDto> response = meetingMatchesService.findByMeetingTypeByCursor(user, meetingType, cursor, size, startDate, endDate);
+
+        return ResponseEntity.ok().body(response);
+    }
+
 
 }
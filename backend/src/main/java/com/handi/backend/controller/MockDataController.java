@@ -171,7 +171,7 @@ public class MockDataController {
     @Transactional
     public ResponseEntity<CommonResponseDto<?>> createAdmin(HttpServletRequest request) {
         String accessToken = cookieUtil.getCookieValue(request, "accessToken").orElse(null);
-        Integer oauthUserId = jwtTokenProvider.getOauthUserIdFromToken(accessToken);
+        Integer oauthUserId = jwtTokenProvider.getOauthUserId(request, accessToken);
         OauthUsers oauth = oauthUsersRepository.findById(oauthUserId).orElse(null);
         Users newUser = new Users();
         newUser.setName("관리자");
@@ -195,7 +195,7 @@ public class MockDataController {
             HttpServletRequest request
     ){
         String accessToken = cookieUtil.getCookieValue(request, "accessToken").orElse(null);
-        Integer oauthUserId = jwtTokenProvider.getOauthUserIdFromToken(accessToken);
+        Integer oauthUserId = jwtTokenProvider.getOauthUserId(request, accessToken);
         Users user = usersRepository.findByOauthUserId(oauthUserId).orElse(null);
 
         List<Seniors> seniors = seniorsRepository.findByRelatedUserId(user.getId());
@@ -3,6 +3,7 @@ package com.handi.backend.controller;
 import com.handi.backend.dto.observation.record.*;
 import com.handi.backend.dto.common.CommonResponseDto;
 import com.handi.backend.dto.common.PageResponseDto;
+import com.handi.backend.dto.common.SliceResponseDto;
 import com.handi.backend.entity.Users;
 import com.handi.backend.enums.SortDirection;
 import com.handi.backend.service.ObservationRecordService;
@@ -51,6 +52,23 @@ public class ObservationRecordController {
         return ResponseEntity.ok().body(response);
     }
 
+    // 커서 조회 ( 무한 스크롤 )
+    @GetMapping("/seniors/{seniorId}/cursor")
+    @Operation(summary = "✅ 시니어의 관찰일지 커서 조회", description = "최신순 무한 스크롤용 조회, 응답의 nextCursor 를 다음 요청의 cursor 로 그대로 전달 (전체 개수 없음)")
+    @ApiResponses({@ApiResponse(responseCode = "200", description = "조회 성공"), @ApiResponse(responseCode = "400", description = "잘못된 요청 - 커서 형식 오류"), @ApiResponse(responseCode = "404", description = "환자를 찾을 수 없음")})
+    public ResponseEntity<SliceResponseDto<ObservationRecordResponseFullDto>> getSeniorObservationRecordsByCursor(
+            @Parameter(description = "시니어 ID", example = "1")
+            @PathVariable Integer seniorId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기", example = "20") @RequestParam(defaultValue = "20") Integer size) {
+
+        log.info("환자 관찰일지 커서 조회 요청: seniorId={}, cursor={}, size={}", seniorId, cursor, size);
+
+        SliceResponseDto<ObservationRecordResponseFullDto> response = observationRecordService.getListByCursor(seniorId, cursor, size);
+
+        return ResponseEntity.ok().body(response);
+    }
+
     // 생성
     @PostMapping("/seniors/{seniorId}")
     @Operation(summary = "✅ 시니어의 관찰일지 생성", description = "시니어의 당일 관찰일지 생성")
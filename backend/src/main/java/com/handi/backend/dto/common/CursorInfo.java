@@ -0,0 +1,23 @@
+package com.handi.backend.dto.common;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Schema(description = "커서 페이징 정보")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorInfo {
+    @Schema(description = "요청한 페이지 크기", example = "20")
+    private int size;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+
+    @Schema(description = "다음 페이지 요청 시 그대로 전달할 커서 (마지막 페이지면 null)", example = "MjAyNS0wOC0wNlQxNzoxNDowNnw0Mg")
+    private String nextCursor;
+}
@@ -0,0 +1,40 @@
+package com.handi.backend.dto.common;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+
+@Schema(description = "커서 페이징 응답 DTO (전체 개수 없음)")
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SliceResponseDto<T> {
+    @Schema(description = "성공 여부", example = "true")
+    private Boolean success;
+
+    @Schema(description = "응답 메시지", example = "요청이 성공적으로 처리되었습니다.")
+    private String message;
+
+    @Schema(description = "조회 결과")
+    private List<T> result;
+
+    @Schema(description = "커서 정보")
+    private CursorInfo cursorInfo;
+
+    // Slice와 변환된 List, 다음 커서를 함께 사용 ( 다음 페이지가 없으면 커서는 null )
+    public static <T, R> SliceResponseDto<R> from(String message, Slice<T> slice, List<R> convertedContent, String nextCursor) {
+        return new SliceResponseDto<>(
+                true,
+                message,
+                convertedContent,
+                new CursorInfo(slice.getSize(), slice.hasNext(), slice.hasNext() ? nextCursor : null)
+        );
+    }
+}
@@ -0,0 +1,11 @@
+package com.handi.backend.dto.medication;
+
+import com.handi.backend.enums.MedicationTime;
+
+import java.time.LocalDate;
+
+/**
+ * 투약 스케줄에서 계산한 투약 예정 한 건 ( 날짜 + 시간대 )
+ */
+public record MedicationOccurrence(LocalDate medicationDate, MedicationTime medicationTime) {
+}
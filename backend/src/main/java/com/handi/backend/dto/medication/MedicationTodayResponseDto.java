@@ -15,7 +15,7 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 public class MedicationTodayResponseDto {
-    @Schema(description = "투약 내역 ID", example = "1")
+    @Schema(description = "투약 내역 ID ( 아직 저장되지 않은 투약 예정이면 null )", example = "1", nullable = true)
     private Integer id;
 
     @Schema(description = "투약 스케줄 ID", example = "1")
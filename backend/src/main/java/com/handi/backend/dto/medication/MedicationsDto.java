@@ -14,7 +14,7 @@ import lombok.Setter;
 @AllArgsConstructor
 public class MedicationsDto {
 
-   @Schema(description = "투약 내역 ID", example = "1")
+   @Schema(description = "투약 내역 ID ( 아직 저장되지 않은 투약 예정이면 null )", example = "1", nullable = true)
    private Integer id;
    
    @Schema(description = "투약 사진 경로", example = "https://example.com/medication-photo.jpg", nullable = true)
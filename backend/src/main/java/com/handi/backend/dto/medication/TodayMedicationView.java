@@ -0,0 +1,22 @@
+package com.handi.backend.dto.medication;
+
+import com.handi.backend.enums.MedicationTime;
+
+import java.time.LocalDateTime;
+
+/**
+ * 간호사 당일 복약 목록 조회용 projection ( MedicationsRepository.findTodayByUserId )
+ * 저장되지 않은 투약 예정이면 id / 사진 / 투약 시각이 null
+ */
+public interface TodayMedicationView {
+    Integer getId();
+    Integer getSchedulesId();
+    String getMedicationName();
+    Integer getSeniorId();
+    String getSeniorName();
+    String getMedicationPhotoPath();
+    LocalDateTime getMedicatedAt();
+    MedicationTime getMedicationTime();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getUpdatedAt();
+}
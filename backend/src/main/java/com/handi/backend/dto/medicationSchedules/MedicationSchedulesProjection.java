@@ -0,0 +1,22 @@
+package com.handi.backend.dto.medicationSchedules;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 투약 일정 목록 조회용 projection ( 환자 이름까지 한 번에 조회 )
+ */
+public record MedicationSchedulesProjection(
+        Integer id,
+        Integer seniorId,
+        String seniorName,
+        String medicationName,
+        LocalDate startDate,
+        LocalDate endDate,
+        Map<String, Object> description,
+        String[] medicationTimes,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
@@ -1,6 +1,8 @@
 package com.handi.backend.dto.meeting;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.handi.backend.enums.ConsultationStatus;
+import com.handi.backend.util.SlotCalendar;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -16,7 +18,11 @@ public class GuardianRequestData {
     @Schema(description = "보호자 사용자 ID")
     private Integer userId;
     
-    @Schema(description = "요청 가능한 시간 목록", example = "[ 20250605090000, 20250605100000 ]")
+    @Schema(description = "요청 가능한 시간 ( 날짜 yyyyMMdd → 30분 단위 슬롯 비트 )", example = "{ \"20250605\": 786432 }")
+    private SlotCalendar availableSlots;
+
+    @Schema(description = "이전 형식의 요청 가능한 시간 목록 ( 읽기 전용 )", example = "[ 20250605090000, 20250605100000 ]")
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
     private List<String> availableTime;
 
     @Schema(description = "요청 생성 시각", example = "[ 20250605090000, 20250605100000 ]")
@@ -24,4 +30,13 @@ public class GuardianRequestData {
     
     @Schema(description = "요청 상태", allowableValues = {"PENDING", "CONDUCTED", "CANCELED"})
     private ConsultationStatus status;
+
+    // 이전 형식( availableTime )으로 저장된 데이터도 달력으로 변환해서 사용
+    public SlotCalendar slots() {
+        if (availableSlots == null) {
+            availableSlots = SlotCalendar.fromLegacyTimes(availableTime);
+            availableTime = null;
+        }
+        return availableSlots;
+    }
 }
\ No newline at end of file
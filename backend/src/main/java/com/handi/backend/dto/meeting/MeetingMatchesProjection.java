@@ -0,0 +1,38 @@
+package com.handi.backend.dto.meeting;
+
+import com.handi.backend.enums.ConsultationStatus;
+import com.handi.backend.enums.Gender;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 상담 목록 조회용 projection ( 간호사 / 보호자 / 시니어를 조인해서 한 번에 조회 )
+ */
+public record MeetingMatchesProjection(
+        Integer id,
+        LocalDateTime meetingTime,
+        ConsultationStatus status,
+        String title,
+        String meetingType,
+        String content,
+        String classification,
+        String hospitalName,
+        String doctorName,
+        LocalDateTime startedAt,
+        LocalDateTime endedAt,
+        Integer employeeId,
+        String employeeName,
+        String employeeEmail,
+        String employeePhoneNumber,
+        Integer guardianId,
+        String guardianName,
+        String guardianEmail,
+        String guardianPhoneNumber,
+        Integer seniorId,
+        String seniorName,
+        Gender seniorGender,
+        String seniorNote,
+        LocalDate seniorBirthDate
+) {
+}
@@ -0,0 +1,16 @@
+package com.handi.backend.dto.meeting;
+
+/**
+ * 상담 가능 시간 변경 이벤트 ( 온라인 매칭용 )
+ * 간호사 일정이 바뀌면 employeeId, 보호자 요청이 바뀌면 seniorId 만 채움
+ */
+public record MeetingScheduleChangedEvent(Integer employeeId, Integer seniorId) {
+
+    public static MeetingScheduleChangedEvent ofEmployee(Integer employeeId) {
+        return new MeetingScheduleChangedEvent(employeeId, null);
+    }
+
+    public static MeetingScheduleChangedEvent ofSenior(Integer seniorId) {
+        return new MeetingScheduleChangedEvent(null, seniorId);
+    }
+}
@@ -12,6 +12,6 @@ import java.util.List;
 @AllArgsConstructor
 @NoArgsConstructor
 public class MeetingScheduleEmployeeDto {
-    @Schema(description = "체크한 시간 목록", example = "[ 20250605090000, 20250605100000 ]")
+    @Schema(description = "체크한 시간 목록 ( yyyyMMddHHmmss, 30분 단위: 00분 / 30분, 00초가 아니면 400 )", example = "[ 20250605090000, 20250605100000 ]")
     private List<String> checkedTime;
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.handi.backend.dto.notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 토큰 한 건의 FCM 발송 결과
+ * errorCode 는 MessagingErrorCode 이름 ( UNREGISTERED, UNAVAILABLE ... ), 알 수 없으면 null
+ */
+@Getter
+@AllArgsConstructor
+public class FcmSendResult {
+    private final String token;
+    private final boolean success;
+    private final String errorCode;
+
+    public static FcmSendResult success(String token) {
+        return new FcmSendResult(token, true, null);
+    }
+
+    public static FcmSendResult failure(String token, String errorCode) {
+        return new FcmSendResult(token, false, errorCode);
+    }
+}
@@ -0,0 +1,42 @@
+package com.handi.backend.dto.notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.Map;
+
+/**
+ * FCM 발송 대기열에 들어가는 푸시 알림 한 건
+ */
+@Data
+@AllArgsConstructor
+public class PushNotification {
+    private String token;
+    private String title;
+    private String body;
+    private Map<String, String> data;
+    private int attempt;    // 재시도 횟수 ( 최초 0 )
+    private Long dedupKey;  // 중복 발송 방지 키 ( 최종 실패 시 기록 제거, 없으면 null )
+
+    public PushNotification(String token, String title, String body, Map<String, String> data) {
+        this(token, title, body, data, 0, null);
+    }
+
+    public PushNotification(String token, String title, String body, Map<String, String> data, Long dedupKey) {
+        this(token, title, body, data, 0, dedupKey);
+    }
+
+    /**
+     * 같은 내용을 다른 토큰으로 보낼 수 있는지 ( multicast 묶음 기준 )
+     */
+    public PayloadKey payloadKey() {
+        return new PayloadKey(title, body, data);
+    }
+
+    public PushNotification nextAttempt() {
+        return new PushNotification(token, title, body, data, attempt + 1, dedupKey);
+    }
+
+    public record PayloadKey(String title, String body, Map<String, String> data) {
+    }
+}
@@ -0,0 +1,18 @@
+package com.handi.backend.dto.observation.record;
+
+import com.handi.backend.enums.Level;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관찰일지 목록 조회용 projection
+ */
+public record ObservationRecordProjection(
+        Integer id,
+        String content,
+        Level level,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Boolean isDeleted
+) {
+}
@@ -0,0 +1,25 @@
+package com.handi.backend.dto.senior;
+
+import com.handi.backend.enums.Gender;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 시니어 목록 조회용 projection ( 기관 이름까지 한 번에 조회 )
+ */
+public record SeniorListProjection(
+        Integer id,
+        Integer organizationId,
+        String organizationName,
+        String name,
+        LocalDate birthDate,
+        Gender gender,
+        LocalDate admissionDate,
+        LocalDate dischargeDate,
+        String note,
+        Boolean isActive,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,16 @@
+package com.handi.backend.dto.senior;
+
+import com.handi.backend.enums.Role;
+
+/**
+ * 시니어 담당자 조회용 projection ( 관계 + 사용자 필요한 컬럼만, 엔티티 로딩 없음 )
+ */
+public record SeniorRelatedUserProjection(
+        Integer seniorId,
+        Role role,
+        Integer userId,
+        String name,
+        String email,
+        String phoneNumber
+) {
+}
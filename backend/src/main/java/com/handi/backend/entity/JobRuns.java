@@ -0,0 +1,59 @@
+package com.handi.backend.entity;
+
+import com.handi.backend.enums.JobRunStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "예약 작업 실행 기록")
+@Entity
+@Table(name = "job_runs")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobRuns {
+
+    @Schema(description = "실행 기록 ID (PK)", example = "1")
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Schema(description = "작업 이름", example = "meeting-matching")
+    @Column(name = "job_name", nullable = false)
+    private String jobName;
+
+    @Schema(description = "실행한 노드", example = "12345@backend-1")
+    @Column(name = "node_id", nullable = false)
+    private String nodeId;
+
+    @Schema(description = "시작 시각")
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Schema(description = "종료 시각")
+    @Column(name = "ended_at")
+    private LocalDateTime endedAt;
+
+    @Schema(description = "실행 상태", allowableValues = {"SUCCEEDED", "FAILED"})
+    @Column(name = "status", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private JobRunStatus status;
+
+    @Schema(description = "처리 건수", example = "120")
+    @Column(name = "items_processed")
+    private Integer itemsProcessed;
+
+    @Schema(description = "실패 건수", example = "0")
+    @Column(name = "failures")
+    private Integer failures;
+
+    @Schema(description = "오류 메시지")
+    @Column(name = "error_message", columnDefinition = "TEXT")
+    private String errorMessage;
+}
@@ -21,7 +21,9 @@ public class MeetingMatches {
     
     @Schema(description = "매칭 ID (PK)", example = "1")
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // IDENTITY 는 INSERT 배치가 꺼지므로 기존 serial 시퀀스를 그대로 사용 ( 매칭 결과 일괄 저장 )
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "meeting_matches_id_gen")
+    @SequenceGenerator(name = "meeting_matches_id_gen", sequenceName = "meeting_matches_id_seq", allocationSize = 50)
     private Integer id;
 
     @Schema(description = "간호사 사용자")
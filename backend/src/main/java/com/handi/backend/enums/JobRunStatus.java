@@ -0,0 +1,6 @@
+package com.handi.backend.enums;
+
+public enum JobRunStatus {
+    SUCCEEDED, // 완료
+    FAILED     // 실패
+}
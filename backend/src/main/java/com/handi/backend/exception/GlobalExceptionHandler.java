@@ -15,6 +15,7 @@ import org.springframework.validation.FieldError;
 import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.ConstraintViolation;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 import org.springframework.web.servlet.resource.NoResourceFoundException;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 
@@ -223,6 +224,36 @@ public class GlobalExceptionHandler {
     }
 
 
+    /**
+     * 업로드 파일 크기 초과 핸들러 ( spring.servlet.multipart.max-file-size )
+     *
+     * @param e       MaxUploadSizeExceededException
+     * @param request 요청 타입을 찾기 위한 매개 변수
+     */
+    @ExceptionHandler(MaxUploadSizeExceededException.class)
+    public ResponseEntity<?> handleMaxUploadSize(MaxUploadSizeExceededException e, WebRequest request) {
+        log.warn("[MaxUploadSizeExceededException] {}", e.getMessage());
+
+        return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE)
+                .body(CommonResponseDto.error("업로드 가능한 파일 크기를 초과했습니다"));
+    }
+
+    /**
+     * 업로드 동시 처리 한도 초과 핸들러
+     *
+     * @param e       UploadLimitExceededException
+     * @param request 요청 타입을 찾기 위한 매개 변수
+     */
+    @ExceptionHandler(UploadLimitExceededException.class)
+    public ResponseEntity<?> handleUploadLimit(UploadLimitExceededException e, WebRequest request) {
+        log.warn("[UploadLimitExceededException] {}", e.getMessage());
+
+        String errorMessage = getErrorMessage(e.getMessage(), "잠시 후 다시 시도해주세요");
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(CommonResponseDto.error(errorMessage));
+    }
+
     /**
      * Internal Server Error 핸들러
      *
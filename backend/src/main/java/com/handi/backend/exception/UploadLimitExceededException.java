@@ -0,0 +1,7 @@
+package com.handi.backend.exception;
+
+public class UploadLimitExceededException extends RuntimeException {
+    public UploadLimitExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.handi.backend.repository;
+
+import com.handi.backend.entity.JobRuns;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface JobRunsRepository extends JpaRepository<JobRuns, Integer> {
+}
@@ -1,5 +1,6 @@
 package com.handi.backend.repository;
 
+import com.handi.backend.dto.medicationSchedules.MedicationSchedulesProjection;
 import com.handi.backend.entity.MedicationSchedules;
 import com.handi.backend.entity.Seniors;
 import org.springframework.data.domain.Page;
@@ -11,6 +12,7 @@ import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 public interface MedicationSchedulesRepository extends JpaRepository<MedicationSchedules, Integer> {
     List<MedicationSchedules> findBySenior(Seniors seniors);
@@ -27,6 +29,21 @@ public interface MedicationSchedulesRepository extends JpaRepository<MedicationS
     Page<MedicationSchedules> findBySeniorIdAndMedicationEnddateGreaterThanEqualAndMedicationStartdateLessThanEqualAndIsDeletedFalse(
             Integer seniorId, LocalDate startDate, LocalDate endDate, Pageable pageable);
 
+    /**
+     * 특정 시니어의 삭제되지 않은 투약 스케줄 조회 (날짜 범위, 목록용 projection)
+     */
+    @Query(value = "SELECT new com.handi.backend.dto.medicationSchedules.MedicationSchedulesProjection(" +
+            "s.id, sn.id, sn.name, s.medicationName, s.medicationStartdate, s.medicationEnddate, " +
+            "s.description, s.medicationTime, s.createdAt, s.updatedAt) " +
+            "FROM MedicationSchedules s JOIN s.senior sn " +
+            "WHERE sn.id = :seniorId AND s.medicationEnddate >= :startDate AND s.medicationStartdate <= :endDate AND s.isDeleted = false",
+            countQuery = "SELECT COUNT(s) FROM MedicationSchedules s " +
+                    "WHERE s.senior.id = :seniorId AND s.medicationEnddate >= :startDate AND s.medicationStartdate <= :endDate AND s.isDeleted = false")
+    Page<MedicationSchedulesProjection> findProjectionBySeniorIdAndDateRange(@Param("seniorId") Integer seniorId,
+                                                                             @Param("startDate") LocalDate startDate,
+                                                                             @Param("endDate") LocalDate endDate,
+                                                                             Pageable pageable);
+
     /**
      * 삭제되지 않은 투약 스케줄 페이징 조회
      */
@@ -40,6 +57,35 @@ public interface MedicationSchedulesRepository extends JpaRepository<MedicationS
     // 삭제되지 않은 것 중 오늘것들만
     List<MedicationSchedules> findBySeniorAndIsDeletedFalseAndMedicationStartdateLessThanEqualAndMedicationEnddateGreaterThanEqual(Seniors senior, LocalDate today1, LocalDate today2);
 
+    /**
+     * 알림 발송용 단건 조회 ( 환자, 기관 즉시 로딩 )
+     */
+    @Query("SELECT s FROM MedicationSchedules s " +
+            "JOIN FETCH s.senior sn " +
+            "LEFT JOIN FETCH sn.organization " +
+            "WHERE s.id = :id")
+    Optional<MedicationSchedules> findByIdWithDetails(@Param("id") Integer id);
+
+    /**
+     * 특정 날짜에 진행 중인 삭제되지 않은 투약 스케줄 조회 ( 알림 큐 재구성용 )
+     */
+    @Query("SELECT s FROM MedicationSchedules s " +
+            "JOIN FETCH s.senior sn " +
+            "LEFT JOIN FETCH sn.organization " +
+            "WHERE s.isDeleted = false AND s.medicationStartdate <= :date AND s.medicationEnddate >= :date")
+    List<MedicationSchedules> findActiveOnDateWithDetails(@Param("date") LocalDate date);
+
+    /**
+     * 특정 기관 환자의 특정 날짜에 진행 중인 삭제되지 않은 투약 스케줄 조회 ( 기관 복약 알림 다시 예약용 )
+     */
+    @Query("SELECT s FROM MedicationSchedules s " +
+            "JOIN FETCH s.senior sn " +
+            "LEFT JOIN FETCH sn.organization " +
+            "WHERE s.isDeleted = false AND s.medicationStartdate <= :date AND s.medicationEnddate >= :date " +
+            "AND sn.organization.id = :organizationId")
+    List<MedicationSchedules> findActiveOnDateAndOrganizationWithDetails(@Param("date") LocalDate date,
+                                                                         @Param("organizationId") Integer organizationId);
+
     @Modifying
     @Query(value = "ALTER SEQUENCE medication_schedules_id_seq RESTART WITH 1", nativeQuery = true)
     void resetAutoIncrement();
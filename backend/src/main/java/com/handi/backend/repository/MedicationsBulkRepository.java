@@ -0,0 +1,20 @@
+package com.handi.backend.repository;
+
+import com.handi.backend.dto.medication.MedicationOccurrence;
+
+import java.util.stream.Stream;
+
+/**
+ * 투약 내역 대량 저장 ( MedicationsRepository 확장 )
+ */
+public interface MedicationsBulkRepository {
+
+    /**
+     * 투약 예정을 JDBC batch 로 저장 ( 이미 저장된 스케줄 + 날짜 + 시간대는 건너뜀 )
+     *
+     * @param schedulesId 투약 스케줄 ID
+     * @param occurrences 저장할 투약 예정
+     * @return 새로 저장한 건수
+     */
+    int bulkInsert(Integer schedulesId, Stream<MedicationOccurrence> occurrences);
+}
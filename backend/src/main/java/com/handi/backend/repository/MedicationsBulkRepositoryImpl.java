@@ -0,0 +1,84 @@
+package com.handi.backend.repository;
+
+import com.handi.backend.dto.medication.MedicationOccurrence;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Medications 는 IDENTITY 전략이라 Hibernate 가 INSERT 를 묶지 못하므로 JDBC 로 직접 저장
+ * - ID 는 시퀀스에서 한 번에 미리 할당 ( nextval x N 을 쿼리 1번으로 )
+ * - BATCH_SIZE 건씩 끊어서 저장하므로 청크마다 왕복 2번 ( ID 할당 + batch INSERT )
+ * - 이미 있는 스케줄 + 날짜 + 시간대는 건너뜀 ( uk_medications_schedule_date_time, 동시 생성 대비 )
+ */
+@RequiredArgsConstructor
+public class MedicationsBulkRepositoryImpl implements MedicationsBulkRepository {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String ALLOCATE_IDS_SQL =
+            "SELECT nextval(pg_get_serial_sequence('medications', 'id')) FROM generate_series(1, ?)";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO medications (id, medication_schedules_id, medication_schedule, medication_date, created_at, is_deleted) " +
+            "VALUES (?, ?, ?, ?, ?, false) " +
+            "ON CONFLICT (medication_schedules_id, medication_date, medication_schedule) DO NOTHING";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int bulkInsert(Integer schedulesId, Stream<MedicationOccurrence> occurrences) {
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        int inserted = 0;
+
+        Iterator<MedicationOccurrence> iterator = occurrences.iterator();
+        List<MedicationOccurrence> chunk = new ArrayList<>(BATCH_SIZE);
+        while (iterator.hasNext()) {
+            chunk.add(iterator.next());
+            if (chunk.size() == BATCH_SIZE || !iterator.hasNext()) {
+                inserted += insertChunk(schedulesId, chunk, createdAt);
+                chunk.clear();
+            }
+        }
+        return inserted;
+    }
+
+    private int insertChunk(Integer schedulesId, List<MedicationOccurrence> chunk, Timestamp createdAt) {
+        List<Integer> ids = jdbcTemplate.queryForList(ALLOCATE_IDS_SQL, Integer.class, chunk.size());
+
+        int[] counts = jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                MedicationOccurrence occurrence = chunk.get(i);
+                ps.setInt(1, ids.get(i));
+                ps.setInt(2, schedulesId);
+                ps.setString(3, occurrence.medicationTime().name());
+                ps.setDate(4, Date.valueOf(occurrence.medicationDate()));
+                ps.setTimestamp(5, createdAt);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return chunk.size();
+            }
+        });
+
+        // 충돌로 건너뛴 건은 0, 드라이버가 건수를 모르면 ( SUCCESS_NO_INFO ) 저장한 것으로 셈
+        int inserted = 0;
+        for (int count : counts) {
+            inserted += count == Statement.SUCCESS_NO_INFO ? 1 : count;
+        }
+        return inserted;
+    }
+}
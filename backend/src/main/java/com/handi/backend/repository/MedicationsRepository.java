@@ -1,8 +1,12 @@
 package com.handi.backend.repository;
 
+import com.handi.backend.dto.medication.TodayMedicationView;
 import com.handi.backend.entity.MedicationSchedules;
 import com.handi.backend.entity.Medications;
 import com.handi.backend.enums.MedicationTime;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -10,8 +14,25 @@ import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+
+public interface MedicationsRepository extends JpaRepository<Medications, Integer>, MedicationsBulkRepository {
+
+    // 당일 복약 목록 공통 SELECT / FROM ~ WHERE ( 조건 추가는 AND 로 이어 붙임 )
+    String TODAY_SELECT = "SELECT m.id AS id, ms.id AS schedulesId, ms.medication_name AS medicationName, " +
+            "s.id AS seniorId, s.name AS seniorName, m.medication_photo_path AS medicationPhotoPath, " +
+            "m.medicated_at AS medicatedAt, t.medication_time AS medicationTime, m.created_at AS createdAt, m.updated_at AS updatedAt ";
+    String TODAY_FROM = "FROM senior_user_relations sur " +
+            "JOIN seniors s ON s.id = sur.senior_id AND s.is_deleted = false " +
+            "JOIN medication_schedules ms ON ms.senior_id = s.id AND ms.is_deleted = false " +
+            "AND ms.medication_startdate <= :date AND ms.medication_enddate >= :date " +
+            "CROSS JOIN LATERAL unnest(string_to_array(ms.medication_times, ',')) AS t(medication_time) " +
+            "LEFT JOIN medications m ON m.medication_schedules_id = ms.id AND m.medication_date = :date " +
+            "AND m.medication_schedule = t.medication_time AND m.is_deleted IS NOT TRUE " +
+            "WHERE sur.user_id = :userId AND sur.is_deleted = false ";
+    // 시간대 순서 ( 1부터, MedicationTime 선언 순서와 동일 )
+    String TODAY_SLOT_ORDER = "array_position(ARRAY['BEFORE_BREAKFAST','AFTER_BREAKFAST','BEFORE_LUNCH','AFTER_LUNCH','BEFORE_DINNER','AFTER_DINNER','BEDTIME'], t.medication_time)";
 
-public interface MedicationsRepository extends JpaRepository<Medications, Integer> {
     @Query("SELECT m FROM Medications m WHERE m.medicationSchedules.senior.id = :seniorId AND m.medicationSchedule = :schedule")
     List<Medications> findBySeniorIdAndSchedule(@Param("seniorId") Integer seniorId, @Param("schedule") MedicationTime schedule);
 
@@ -19,6 +40,65 @@ public interface MedicationsRepository extends JpaRepository<Medications, Intege
 
     List<Medications> findByMedicationSchedulesAndMedicationDate(MedicationSchedules schedule, LocalDate today);
 
+    // 특정 날짜 / 시간대의 투약 내역 ( 가상 투약 예정 → 실제 투약 기록 전환 시 사용 )
+    Optional<Medications> findFirstByMedicationSchedulesAndMedicationDateAndMedicationSchedule(MedicationSchedules schedule, LocalDate date, MedicationTime time);
+
+    /**
+     * 알림 발송용 단건 조회 ( 스케줄, 환자, 기관 즉시 로딩 )
+     */
+    @Query("SELECT m FROM Medications m " +
+            "JOIN FETCH m.medicationSchedules s " +
+            "JOIN FETCH s.senior sn " +
+            "LEFT JOIN FETCH sn.organization " +
+            "WHERE m.id = :id")
+    Optional<Medications> findByIdWithDetails(@Param("id") Integer id);
+
+    /**
+     * 특정 날짜의 삭제되지 않은 투약 내역 조회 ( 알림 큐 재구성용 )
+     */
+    @Query("SELECT m FROM Medications m " +
+            "JOIN FETCH m.medicationSchedules s " +
+            "JOIN FETCH s.senior sn " +
+            "LEFT JOIN FETCH sn.organization " +
+            "WHERE m.medicationDate = :date AND s.isDeleted = false")
+    List<Medications> findByMedicationDateWithDetails(@Param("date") LocalDate date);
+
+    /**
+     * 특정 기관 환자의 특정 날짜 삭제되지 않은 투약 내역 조회 ( 기관 복약 알림 다시 예약용 )
+     */
+    @Query("SELECT m FROM Medications m " +
+            "JOIN FETCH m.medicationSchedules s " +
+            "JOIN FETCH s.senior sn " +
+            "LEFT JOIN FETCH sn.organization " +
+            "WHERE m.medicationDate = :date AND s.isDeleted = false AND sn.organization.id = :organizationId")
+    List<Medications> findByMedicationDateAndOrganizationWithDetails(@Param("date") LocalDate date,
+                                                                      @Param("organizationId") Integer organizationId);
+
+    /**
+     * 사용자 담당 환자의 특정 날짜 복약 목록 ( 쿼리 1번 + count 1번, DB 페이징 )
+     * 진행 중인 스케줄의 시간대마다 한 줄, 저장된 투약 내역이 있으면 LEFT JOIN 으로 채움 ( 가상 투약 예정 포함 )
+     */
+    @Query(value = TODAY_SELECT + TODAY_FROM +
+            "ORDER BY " + TODAY_SLOT_ORDER + ", s.id, ms.id",
+            countQuery = "SELECT count(*) " + TODAY_FROM,
+            nativeQuery = true)
+    Page<TodayMedicationView> findTodayByUserId(@Param("userId") Integer userId, @Param("date") LocalDate date, Pageable pageable);
+
+    /**
+     * 사용자 담당 환자의 특정 날짜 복약 목록 ( 커서 조회, count 없음 )
+     * ( 시간대 순서, 환자 ID, 스케줄 ID ) 가 커서보다 뒤인 행만 조회 ( 첫 페이지는 0, 0, 0 )
+     */
+    @Query(value = TODAY_SELECT + TODAY_FROM +
+            "AND (" + TODAY_SLOT_ORDER + ", s.id, ms.id) > (:slot, :seniorId, :schedulesId) " +
+            "ORDER BY " + TODAY_SLOT_ORDER + ", s.id, ms.id",
+            nativeQuery = true)
+    Slice<TodayMedicationView> findTodaySliceByUserId(@Param("userId") Integer userId,
+                                                      @Param("date") LocalDate date,
+                                                      @Param("slot") int slot,
+                                                      @Param("seniorId") int seniorId,
+                                                      @Param("schedulesId") int schedulesId,
+                                                      Pageable pageable);
+
     @Modifying
     @Query(value = "ALTER SEQUENCE medications_id_seq RESTART WITH 1", nativeQuery = true)
     void resetAutoIncrement();
@@ -1,11 +1,13 @@
 package com.handi.backend.repository;
 
+import com.handi.backend.dto.meeting.MeetingMatchesProjection;
 import com.handi.backend.entity.MeetingMatches;
 import com.handi.backend.entity.Users;
 import com.handi.backend.entity.Seniors;
 import com.handi.backend.enums.ConsultationStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -13,12 +15,20 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface MeetingMatchesRepository extends JpaRepository<MeetingMatches, Integer> {
 
+    // 목록용 projection 공통 SELECT
+    String MEETING_PROJECTION_SELECT = "SELECT new com.handi.backend.dto.meeting.MeetingMatchesProjection(" +
+            "m.id, m.meetingTime, m.status, m.title, m.meetingType, m.content, m.classification, m.hospitalName, m.doctorName, " +
+            "m.startedAt, m.endedAt, e.id, e.name, e.email, e.phoneNumber, g.id, g.name, g.email, g.phoneNumber, " +
+            "s.id, s.name, s.gender, s.note, s.birthDate) " +
+            "FROM MeetingMatches m JOIN m.employee e JOIN m.guardian g JOIN m.senior s ";
+
     /**
      * ID로 미팅 조회 (연관 엔티티들을 즉시 로딩)
      */
@@ -89,6 +99,17 @@ public interface MeetingMatchesRepository extends JpaRepository<MeetingMatches,
 
     MeetingMatches findTopBySeniorAndMeetingTypeOrderByMeetingTimeDesc(Seniors senior, String meetingType);
 
+    /**
+     * 시니어별 마지막 상담 시간 ( 상담이 없는 시니어는 빠짐 )
+     *
+     * @return [시니어 ID, 마지막 상담 시간] 목록
+     */
+    @Query("SELECT m.senior.id, MAX(m.meetingTime) FROM MeetingMatches m " +
+            "WHERE m.senior.id IN :seniorIds AND m.meetingType = :meetingType " +
+            "GROUP BY m.senior.id")
+    List<Object[]> findLastMeetingTimeBySeniorIdIn(@Param("seniorIds") Collection<Integer> seniorIds,
+                                                   @Param("meetingType") String meetingType);
+
     MeetingMatches findByEmployeeAndMeetingTime(Users employee, LocalDateTime meetingTime);
 
     Page<MeetingMatches> findByEmployeeAndMeetingTypeAndMeetingTimeAfter(Users user, String meetingType, LocalDateTime now, Pageable pageable);
@@ -101,6 +122,62 @@ public interface MeetingMatchesRepository extends JpaRepository<MeetingMatches,
 
     Page<MeetingMatches> findByGuardianAndMeetingTypeAndMeetingTimeBetweenOrderByMeetingTimeAsc(Users user, String meetingType, LocalDateTime start, LocalDateTime end, Pageable pageable);
 
+    /**
+     * 간호사 상담 목록 조회 (목록용 projection, 간호사 / 보호자 / 시니어 조인 1회)
+     */
+    @Query(value = MEETING_PROJECTION_SELECT +
+            "WHERE e.id = :userId AND m.meetingType = :meetingType AND m.meetingTime BETWEEN :start AND :end " +
+            "ORDER BY m.meetingTime ASC",
+            countQuery = "SELECT COUNT(m) FROM MeetingMatches m " +
+                    "WHERE m.employee.id = :userId AND m.meetingType = :meetingType AND m.meetingTime BETWEEN :start AND :end")
+    Page<MeetingMatchesProjection> findProjectionByEmployee(@Param("userId") Integer userId,
+                                                            @Param("meetingType") String meetingType,
+                                                            @Param("start") LocalDateTime start,
+                                                            @Param("end") LocalDateTime end,
+                                                            Pageable pageable);
+
+    /**
+     * 보호자 상담 목록 조회 (목록용 projection, 간호사 / 보호자 / 시니어 조인 1회)
+     */
+    @Query(value = MEETING_PROJECTION_SELECT +
+            "WHERE g.id = :userId AND m.meetingType = :meetingType AND m.meetingTime BETWEEN :start AND :end " +
+            "ORDER BY m.meetingTime ASC",
+            countQuery = "SELECT COUNT(m) FROM MeetingMatches m " +
+                    "WHERE m.guardian.id = :userId AND m.meetingType = :meetingType AND m.meetingTime BETWEEN :start AND :end")
+    Page<MeetingMatchesProjection> findProjectionByGuardian(@Param("userId") Integer userId,
+                                                            @Param("meetingType") String meetingType,
+                                                            @Param("start") LocalDateTime start,
+                                                            @Param("end") LocalDateTime end,
+                                                            Pageable pageable);
+
+    /**
+     * 간호사 상담 목록 커서 조회 ( 상담 시간순, ( 상담 시간, ID ) 가 커서보다 뒤인 행만, count 없음 )
+     */
+    @Query(MEETING_PROJECTION_SELECT +
+            "WHERE e.id = :userId AND m.meetingType = :meetingType AND m.meetingTime <= :end " +
+            "AND (m.meetingTime > :afterTime OR (m.meetingTime = :afterTime AND m.id > :afterId)) " +
+            "ORDER BY m.meetingTime ASC, m.id ASC")
+    Slice<MeetingMatchesProjection> findSliceByEmployee(@Param("userId") Integer userId,
+                                                        @Param("meetingType") String meetingType,
+                                                        @Param("afterTime") LocalDateTime afterTime,
+                                                        @Param("afterId") Integer afterId,
+                                                        @Param("end") LocalDateTime end,
+                                                        Pageable pageable);
+
+    /**
+     * 보호자 상담 목록 커서 조회 ( 상담 시간순, ( 상담 시간, ID ) 가 커서보다 뒤인 행만, count 없음 )
+     */
+    @Query(MEETING_PROJECTION_SELECT +
+            "WHERE g.id = :userId AND m.meetingType = :meetingType AND m.meetingTime <= :end " +
+            "AND (m.meetingTime > :afterTime OR (m.meetingTime = :afterTime AND m.id > :afterId)) " +
+            "ORDER BY m.meetingTime ASC, m.id ASC")
+    Slice<MeetingMatchesProjection> findSliceByGuardian(@Param("userId") Integer userId,
+                                                        @Param("meetingType") String meetingType,
+                                                        @Param("afterTime") LocalDateTime afterTime,
+                                                        @Param("afterId") Integer afterId,
+                                                        @Param("end") LocalDateTime end,
+                                                        Pageable pageable);
+
     @Modifying
     @Query(value = "ALTER SEQUENCE meeting_matches_id_seq RESTART WITH 1", nativeQuery = true)
     void resetAutoIncrement();
@@ -1,24 +1,75 @@
 package com.handi.backend.repository;
 
+import com.handi.backend.dto.observation.record.ObservationRecordProjection;
 import com.handi.backend.entity.ObservationRecords;
 import com.handi.backend.entity.Seniors;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface ObservationRecordsRepository extends JpaRepository<ObservationRecords, Integer> {
     Page<ObservationRecords> findBySeniorIdAndIsDeletedFalse(Integer seniorId, Pageable pageable);
 
+    /**
+     * 목록 조회용 projection ( 시니어 엔티티 로딩 없음 )
+     */
+    @Query(value = "SELECT new com.handi.backend.dto.observation.record.ObservationRecordProjection(" +
+            "o.id, o.content, o.level, o.createdAt, o.updatedAt, o.isDeleted) " +
+            "FROM ObservationRecords o WHERE o.senior.id = :seniorId AND o.isDeleted = false",
+            countQuery = "SELECT COUNT(o) FROM ObservationRecords o WHERE o.senior.id = :seniorId AND o.isDeleted = false")
+    Page<ObservationRecordProjection> findProjectionBySeniorId(@Param("seniorId") Integer seniorId, Pageable pageable);
+
     List<ObservationRecords> findBySeniorIdInAndCreatedAtBetweenAndIsDeletedFalseOrderByLevelAscCreatedAtDesc(List<Integer> seniorIds, LocalDateTime startDate, LocalDateTime endDate );
 
     Page<ObservationRecords> findBySeniorIdAndCreatedAtBetweenAndIsDeletedFalse(Integer seniorId, LocalDateTime start, LocalDateTime end, Pageable pageable);
 
+    /**
+     * 기간별 목록 조회용 projection ( 시니어 엔티티 로딩 없음 )
+     */
+    @Query(value = "SELECT new com.handi.backend.dto.observation.record.ObservationRecordProjection(" +
+            "o.id, o.content, o.level, o.createdAt, o.updatedAt, o.isDeleted) " +
+            "FROM ObservationRecords o WHERE o.senior.id = :seniorId AND o.createdAt BETWEEN :start AND :end AND o.isDeleted = false",
+            countQuery = "SELECT COUNT(o) FROM ObservationRecords o " +
+                    "WHERE o.senior.id = :seniorId AND o.createdAt BETWEEN :start AND :end AND o.isDeleted = false")
+    Page<ObservationRecordProjection> findProjectionBySeniorIdAndCreatedAtBetween(@Param("seniorId") Integer seniorId,
+                                                                                  @Param("start") LocalDateTime start,
+                                                                                  @Param("end") LocalDateTime end,
+                                                                                  Pageable pageable);
+
+    /**
+     * 커서 조회용 projection ( 최신순, ( 생성 시각, ID ) 가 커서보다 앞인 행만, count 없음 )
+     */
+    @Query("SELECT new com.handi.backend.dto.observation.record.ObservationRecordProjection(" +
+            "o.id, o.content, o.level, o.createdAt, o.updatedAt, o.isDeleted) " +
+            "FROM ObservationRecords o WHERE o.senior.id = :seniorId AND o.isDeleted = false " +
+            "AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :id)) " +
+            "ORDER BY o.createdAt DESC, o.id DESC")
+    Slice<ObservationRecordProjection> findSliceBySeniorId(@Param("seniorId") Integer seniorId,
+                                                           @Param("createdAt") LocalDateTime createdAt,
+                                                           @Param("id") Integer id,
+                                                           Pageable pageable);
+
+    /**
+     * 시니어별 기간 내 가장 위험한 일지 1건씩 ( 같은 중요도면 최신, 일지가 없는 시니어는 빠짐 )
+     */
+    @Query(value = "SELECT r.* FROM (" +
+            "SELECT o.*, ROW_NUMBER() OVER (PARTITION BY o.senior_id " +
+            "ORDER BY CASE o.level WHEN 'HIGH' THEN 0 WHEN 'MEDIUM' THEN 1 ELSE 2 END, o.created_at DESC) AS rn " +
+            "FROM observation_records o " +
+            "WHERE o.senior_id IN (:seniorIds) AND o.created_at BETWEEN :start AND :end AND o.is_deleted = false" +
+            ") r WHERE r.rn = 1", nativeQuery = true)
+    List<ObservationRecords> findMostSevereBySeniorIdIn(@Param("seniorIds") Collection<Integer> seniorIds,
+                                                        @Param("start") LocalDateTime start,
+                                                        @Param("end") LocalDateTime end);
+
     ObservationRecords findFirstBySeniorAndCreatedAtBetweenAndIsDeletedFalseOrderByLevelAscCreatedAtDesc(Seniors senior, LocalDateTime startDate, LocalDateTime endDate);
 
     @Modifying
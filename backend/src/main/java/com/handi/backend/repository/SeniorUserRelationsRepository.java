@@ -1,5 +1,6 @@
 package com.handi.backend.repository;
 
+import com.handi.backend.dto.senior.SeniorRelatedUserProjection;
 import com.handi.backend.entity.SeniorUserRelations;
 import com.handi.backend.entity.SeniorUserRelationsId;
 import com.handi.backend.enums.Role;
@@ -7,6 +8,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -38,6 +40,52 @@ public interface SeniorUserRelationsRepository extends JpaRepository<SeniorUserR
      */
     List<SeniorUserRelations> findBySeniorIdAndRoleAndIsDeletedFalse(Integer seniorId, Role role);
 
+    /**
+     * 시니어 ID와 역할로 관계 목록 조회 (사용자 즉시 로딩)
+     *
+     * @param seniorId 시니어 ID
+     * @param role     역할
+     * @return 관계 목록
+     */
+    @Query("SELECT sur FROM SeniorUserRelations sur JOIN FETCH sur.user " +
+            "WHERE sur.senior.id = :seniorId AND sur.role = :role AND sur.isDeleted = false")
+    List<SeniorUserRelations> findWithUserBySeniorIdAndRole(@Param("seniorId") Integer seniorId, @Param("role") Role role);
+
+    /**
+     * 시니어 담당자 조회 (관계 + 사용자 필요한 컬럼만, 쿼리 1회)
+     *
+     * @param seniorId 시니어 ID
+     * @return 담당자 목록
+     */
+    @Query("SELECT new com.handi.backend.dto.senior.SeniorRelatedUserProjection(" +
+            "sur.senior.id, sur.role, u.id, u.name, u.email, u.phoneNumber) " +
+            "FROM SeniorUserRelations sur JOIN sur.user u " +
+            "WHERE sur.senior.id = :seniorId AND sur.isDeleted = false")
+    List<SeniorRelatedUserProjection> findRelatedUsersBySeniorId(@Param("seniorId") Integer seniorId);
+
+    /**
+     * 여러 시니어의 담당자 한 번에 조회
+     *
+     * @param seniorIds 시니어 ID 목록
+     * @return 담당자 목록
+     */
+    @Query("SELECT new com.handi.backend.dto.senior.SeniorRelatedUserProjection(" +
+            "sur.senior.id, sur.role, u.id, u.name, u.email, u.phoneNumber) " +
+            "FROM SeniorUserRelations sur JOIN sur.user u " +
+            "WHERE sur.senior.id IN :seniorIds AND sur.isDeleted = false")
+    List<SeniorRelatedUserProjection> findRelatedUsersBySeniorIdIn(@Param("seniorIds") Collection<Integer> seniorIds);
+
+    /**
+     * 시니어 ID와 역할로 사용자 ID 목록 조회
+     *
+     * @param seniorId 시니어 ID
+     * @param role     역할
+     * @return 사용자 ID 목록
+     */
+    @Query("SELECT sur.user.id FROM SeniorUserRelations sur " +
+            "WHERE sur.senior.id = :seniorId AND sur.role = :role AND sur.isDeleted = false")
+    List<Integer> findUserIdsBySeniorIdAndRole(@Param("seniorId") Integer seniorId, @Param("role") Role role);
+
     /**
      * 특정 관계 존재 여부 확인
      *
@@ -1,5 +1,6 @@
 package com.handi.backend.repository;
 
+import com.handi.backend.dto.senior.SeniorListProjection;
 import com.handi.backend.entity.Seniors;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -8,6 +9,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface SeniorsRepository extends JpaRepository<Seniors, Integer> {
@@ -45,6 +47,22 @@ public interface SeniorsRepository extends JpaRepository<Seniors, Integer> {
      */
     Page<Seniors> findByOrganizationIdAndIsActiveTrueAndIsDeletedFalse(Integer organizationId, Pageable pageable);
 
+    /**
+     * 특정 기관의 활성 환자 목록 조회 (목록용 projection, 기관 이름 포함)
+     *
+     * @param organizationId 소속 기관 ID
+     * @param pageable       page 정보
+     * @return 활성 환자 목록
+     */
+    @Query(value = "SELECT new com.handi.backend.dto.senior.SeniorListProjection(" +
+            "s.id, o.id, o.name, s.name, s.birthDate, s.gender, s.admissionDate, s.dischargeDate, " +
+            "s.note, s.isActive, s.createdAt, s.updatedAt) " +
+            "FROM Seniors s LEFT JOIN s.organization o " +
+            "WHERE o.id = :organizationId AND s.isActive = true AND s.isDeleted = false",
+            countQuery = "SELECT COUNT(s) FROM Seniors s " +
+                    "WHERE s.organization.id = :organizationId AND s.isActive = true AND s.isDeleted = false")
+    Page<SeniorListProjection> findActiveProjectionByOrganizationId(@Param("organizationId") Integer organizationId, Pageable pageable);
+
     /**
      * 특정 기관의 키워드를 포함하는 활성/비활성 환자 목록 조회
      *
@@ -96,6 +114,16 @@ public interface SeniorsRepository extends JpaRepository<Seniors, Integer> {
     @Query("SELECT s FROM Seniors s JOIN s.seniorUserRelations sur WHERE sur.user.id = :userId")
     List<Seniors> findByRelatedUserId(Integer userId);
 
+    /**
+     * 특정 사용자와 관련된 삭제되지 않은 시니어 전체 조회 (관계 테이블을 통해)
+     *
+     * @param userId 사용자 ID
+     * @return 시니어 목록
+     */
+    @Query("SELECT s FROM Seniors s JOIN s.seniorUserRelations sur " +
+            "WHERE s.isDeleted = false AND sur.isDeleted = false AND sur.user.id = :userId ORDER BY s.id")
+    List<Seniors> findActiveRelatedByUserId(@Param("userId") Integer userId);
+
     /**
      * 특정 사용자와 관련된 활성 시니어 목록 조회 (관계 테이블을 통해)
      *
@@ -106,6 +134,15 @@ public interface SeniorsRepository extends JpaRepository<Seniors, Integer> {
     @Query("SELECT s FROM Seniors s JOIN s.seniorUserRelations sur WHERE s.isDeleted = false AND sur.isDeleted = false AND sur.user.id = :userId AND s.isActive = true")
     Page<Seniors> findByRelatedUserIdAndIsActiveTrue(@Param("userId") Integer userId, Pageable pageable);
 
+    /**
+     * 상담 제목용 이름만 한 번에 조회
+     *
+     * @param ids 시니어 ID 목록
+     * @return [id, name] 목록
+     */
+    @Query("SELECT s.id, s.name FROM Seniors s WHERE s.id IN :ids")
+    List<Object[]> findIdAndNameByIdIn(@Param("ids") Collection<Integer> ids);
+
     @Modifying
     @Query(value = "ALTER SEQUENCE seniors_id_seq RESTART WITH 1", nativeQuery = true)
     void resetAutoIncrement();
@@ -8,7 +8,10 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -97,6 +100,21 @@ public interface UsersRepository extends JpaRepository<Users, Integer> {
 
     Page<Users> findByOrganizationIdAndRoleAndNameContaining(Integer id, Role role, String keyword, Pageable pageable);
 
+    /**
+     * 해당 FCM 토큰을 가진 사용자 ( 토큰 제거 후 인증 사용자 캐시 제거용 )
+     */
+    @Query("SELECT u FROM Users u LEFT JOIN FETCH u.oauthUser WHERE u.fcmToken IN :tokens")
+    List<Users> findWithOauthUserByFcmTokenIn(@Param("tokens") Collection<String> tokens);
+
+    /**
+     * FCM 에서 더 이상 유효하지 않다고 응답한 토큰 제거
+     * 벌크 UPDATE 라 PrincipalCacheService 캐시는 호출한 쪽에서 제거
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Users u SET u.fcmToken = null WHERE u.fcmToken IN :tokens")
+    int clearFcmTokens(@Param("tokens") Collection<String> tokens);
+
     @Modifying
     @Query(value = "ALTER SEQUENCE users_id_seq RESTART WITH 1", nativeQuery = true)
     void resetAutoIncrement();
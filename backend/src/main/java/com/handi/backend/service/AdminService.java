@@ -31,6 +31,7 @@ public class AdminService {
     private final UserMapper userMapper;
     private final OrganizationsRepository organizationsRepository;
     private final DateTimeConverter dateTimeConverter;
+    private final PrincipalCacheService principalCacheService;
 
     /**
      * 관리자가 사용자를 생성
@@ -131,11 +132,15 @@ public class AdminService {
             throw new IllegalArgumentException("이미 존재하는 휴대폰 번호입니다: " + requestDto.getPhoneNumber());
         }
 
+        // 변경 전 이메일 기준 캐시 제거
+        principalCacheService.evict(user);
+
         // 엔티티 업데이트
         userMapper.updateEntity(user, requestDto);
 
         // 데이터베이스에 수정
         Users savedUser = usersRepository.save(user);
+        principalCacheService.evict(savedUser);
 
         log.info("관리자 사용자 수정 완료: ID={}, 이메일={}", savedUser.getId(), savedUser.getEmail());
 
@@ -157,6 +162,7 @@ public class AdminService {
         // 논리 삭제 (실제로는 isDeleted 플래그를 true로 설정)
         user.setIsDeleted(true);
         usersRepository.save(user);
+        principalCacheService.evict(user);
 
         log.info("관리자 사용자 삭제 완료: ID={}, 이메일={}", user.getId(), user.getEmail());
     }
@@ -201,6 +207,7 @@ public class AdminService {
 
         user.setIsDeleted(false);
         Users savedUser = usersRepository.save(user);
+        principalCacheService.evict(savedUser);
 
         log.info("관리자 사용자 복구 완료: ID={}, 이메일={}", savedUser.getId(), savedUser.getEmail());
 
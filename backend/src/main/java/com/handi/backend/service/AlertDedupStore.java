@@ -0,0 +1,36 @@
+package com.handi.backend.service;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 중복 발송 방지 저장소
+ * - alert.dedup.store=redis ( 기본 ) : RedisAlertDedupStore, 여러 노드 / 재시작 후에도 유지
+ * - alert.dedup.store=memory         : InMemoryAlertDedupStore, 단일 노드 / 로컬 개발용
+ * 기록은 자정 일괄 초기화가 아니라 알림 대상 이벤트 시각 기준으로 만료
+ */
+public interface AlertDedupStore {
+
+    int TYPE_MEDICATION = 0;
+    int TYPE_MEETING = 1;
+    int TYPE_MEDICATION_SLOT = 2;   // 아직 저장되지 않은 투약 예정 ( eventId = 스케줄 ID << 3 | 시간대 )
+
+    /**
+     * 처음 발송하는 알림이면 기록하고 true, 이미 발송했으면 false
+     *
+     * @param key      알림 키 ( key(userId, eventId, type) )
+     * @param expireAt 기록 만료 시각
+     */
+    boolean tryAcquire(long key, LocalDateTime expireAt);
+
+    /**
+     * 발송 실패 시 기록 제거 ( 다음 시도에서 다시 발송 가능 )
+     */
+    void release(long key);
+
+    /**
+     * 사용자 ID(상위 32비트) + 이벤트 ID(30비트) + 알림 종류(2비트) 를 long 하나로 표현
+     */
+    static long key(int userId, int eventId, int type) {
+        return ((long) userId << 32) | (((long) eventId << 2) & 0xFFFFFFFFL) | (type & 3);
+    }
+}
@@ -0,0 +1,96 @@
+package com.handi.backend.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 알림 발송 예정 큐 ( Redis Sorted Set )
+ * - member : "MEDICATION:{투약내역 ID}" / "MEDICATION_SLOT:{스케줄 ID}:{yyyyMMdd}:{시간대}" / "MEETING:{상담 ID}"
+ * - score  : 발송 예정 시각 (epoch millis)
+ * 재시작해도 유지되고, ZREM 으로 선점하므로 여러 노드가 동시에 polling 해도 한 번만 처리됨
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AlertQueueService {
+
+    private static final String ALERT_QUEUE_KEY = "alert:queue";
+    public static final String MEDICATION_PREFIX = "MEDICATION:";
+    public static final String MEDICATION_SLOT_PREFIX = "MEDICATION_SLOT:";  // 저장되지 않은 투약 예정
+    public static final String MEETING_PREFIX = "MEETING:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 알림 예약 ( 같은 member 는 발송 시각만 갱신 )
+     */
+    public void schedule(String member, LocalDateTime dueAt) {
+        stringRedisTemplate.opsForZSet().add(ALERT_QUEUE_KEY, member, toEpochMillis(dueAt));
+    }
+
+    /**
+     * 여러 알림 한 번에 예약 ( ZADD 1회 )
+     */
+    public void scheduleAll(Map<String, LocalDateTime> dueAtByMember) {
+        if (dueAtByMember.isEmpty()) {
+            return;
+        }
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+        dueAtByMember.forEach((member, dueAt) ->
+                tuples.add(new DefaultTypedTuple<>(member, (double) toEpochMillis(dueAt))));
+        stringRedisTemplate.opsForZSet().add(ALERT_QUEUE_KEY, tuples);
+        log.debug("알림 {}건 예약", tuples.size());
+    }
+
+    /**
+     * 예약 취소
+     */
+    public void cancel(String member) {
+        stringRedisTemplate.opsForZSet().remove(ALERT_QUEUE_KEY, member);
+    }
+
+    /**
+     * 발송 시각이 지난 알림을 최대 limit 건 선점해서 반환
+     */
+    public List<String> claimDue(LocalDateTime now, int limit) {
+        Set<String> due = stringRedisTemplate.opsForZSet()
+                .rangeByScore(ALERT_QUEUE_KEY, Double.NEGATIVE_INFINITY, toEpochMillis(now), 0, limit);
+
+        List<String> claimed = new ArrayList<>();
+        if (due == null) {
+            return claimed;
+        }
+        for (String member : due) {
+            // 다른 노드가 먼저 가져갔으면 0 반환
+            Long removed = stringRedisTemplate.opsForZSet().remove(ALERT_QUEUE_KEY, member);
+            if (removed != null && removed > 0) {
+                claimed.add(member);
+            }
+        }
+        return claimed;
+    }
+
+    /**
+     * 대기 중인 알림 수
+     */
+    public long size() {
+        Long size = stringRedisTemplate.opsForZSet().zCard(ALERT_QUEUE_KEY);
+        return size != null ? size : 0;
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
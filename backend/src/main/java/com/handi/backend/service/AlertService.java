@@ -1,230 +1,397 @@
 package com.handi.backend.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.firebase.messaging.FirebaseMessaging;
-import com.google.firebase.messaging.Message;
-import com.google.firebase.messaging.Notification;
+import com.handi.backend.dto.medication.MedicationOccurrence;
+import com.handi.backend.dto.notification.PushNotification;
 import com.handi.backend.entity.*;
+import com.handi.backend.enums.ConsultationStatus;
 import com.handi.backend.enums.MedicationTime;
 import com.handi.backend.enums.Role;
 import com.handi.backend.repository.*;
+import com.handi.backend.service.job.JobResult;
+import com.handi.backend.service.job.JobRunner;
+import com.handi.backend.service.job.JobSpec;
+import com.handi.backend.util.MedicationOccurrenceGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * 복약 / 상담 알림
+ * 투약 내역, 상담이 생성될 때 발송 예정 시각을 AlertQueueService 에 예약해두고
+ * 주기적으로 시각이 지난 항목만 꺼내서 발송 ( 전체 사용자 스캔 없음 )
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AlertService {
 
-    private final UsersRepository usersRepository;
+    private static final int CLAIM_BATCH_SIZE = 200;      // 한 번에 꺼낼 최대 알림 수
+    private static final long ALERT_WINDOW_MINUTES = 30;  // 식전/식후 알림 구간
+    private static final long MEETING_ALERT_MINUTES = 20; // 상담 시작 20분 전 알림
+
+    // 발송 : 빈 실행은 기록하지 않음 / 재구성 : 자정에 노드 하나만
+    private static final JobSpec DISPATCH_JOB = new JobSpec("alert-dispatch", Duration.ofMinutes(1), Duration.ZERO, false);
+    private static final JobSpec REBUILD_JOB = new JobSpec("alert-rebuild", Duration.ofMinutes(5), Duration.ofMinutes(10), true);
+
     private final MeetingMatchesRepository meetingMatchesRepository;
-    private final MedicationSchedulesRepository medicationSchedulesRepository;
-    private final SeniorsRepository seniorsRepository;
     private final MedicationsRepository medicationsRepository;
-    private final OrganizationsRepository organizationsRepository;
+    private final MedicationSchedulesRepository medicationSchedulesRepository;
+    private final SeniorUserRelationsRepository seniorUserRelationsRepository;
+    private final AlertQueueService alertQueueService;
+    private final FcmDispatchService fcmDispatchService;
+    private final ObjectMapper objectMapper;
+    private final AlertDedupStore alertDedupStore;
+    private final JobRunner jobRunner;
+
+    // ==================== 알림 예약 ====================
+
+    /**
+     * 투약 내역 알림 예약 ( 아직 지나지 않은 것만 )
+     * id 가 없는 가상 투약 예정은 스케줄 / 날짜 / 시간대로 예약
+     *
+     * @param medications 투약 내역 목록
+     * @param org         환자 소속 기관 ( 식사 / 취침 시간 )
+     */
+    public void scheduleMedicationAlerts(List<Medications> medications, Organizations org) {
+        if (org == null) return;
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, LocalDateTime> dueAtByMember = new LinkedHashMap<>();
+        for (Medications medication : medications) {
+            LocalDateTime dueAt = medicationDueAt(medication, org);
+            if (dueAt != null && dueAt.isAfter(now)) {
+                dueAtByMember.put(medicationMember(medication), dueAt);
+            }
+        }
+        alertQueueService.scheduleAll(dueAtByMember);
+    }
 
-    // 중복 방지를 위해 set에 저장
-    private final Set<String> sendAlerts = ConcurrentHashMap.newKeySet();
+    /**
+     * 상담 알림 예약 ( 상담 20분 전 )
+     */
+    public void scheduleMeetingAlert(MeetingMatches meetingMatches) {
+        LocalDateTime dueAt = meetingMatches.getMeetingTime().minusMinutes(MEETING_ALERT_MINUTES);
+        if (meetingMatches.getMeetingTime().isAfter(LocalDateTime.now())) {
+            alertQueueService.schedule(AlertQueueService.MEETING_PREFIX + meetingMatches.getId(), dueAt);
+        }
+    }
 
-    @Scheduled(fixedRate = 300000) // 5분 = 300,000 ms
-    public void alert(){
-        log.info("Alerting : {}", LocalDateTime.now());
+    /**
+     * 상담 변경 후 알림 다시 예약 ( 같은 member 라 ZADD 로 발송 시각만 갱신, 취소 / 삭제된 상담은 예약 취소 )
+     */
+    public void rescheduleMeetingAlert(MeetingMatches meetingMatches) {
+        if (ConsultationStatus.CANCELED.equals(meetingMatches.getStatus()) || Boolean.TRUE.equals(meetingMatches.getIsDeleted())) {
+            alertQueueService.cancel(AlertQueueService.MEETING_PREFIX + meetingMatches.getId());
+            return;
+        }
+        scheduleMeetingAlert(meetingMatches);
+    }
+
+    /**
+     * 기관 식사 / 취침 시간 변경 후 그 기관의 오늘 복약 알림 다시 예약
+     * 이전 시각으로 남아 있던 member 는 ZADD 로 발송 시각만 갱신 ( 앞당겨진 알림이 늦게 나가지 않도록 )
+     */
+    public void rescheduleMedicationAlerts(Integer organizationId) {
+        Map<String, LocalDateTime> dueAtByMember = todayMedicationDueAts(organizationId);
+        alertQueueService.scheduleAll(dueAtByMember);
+        log.info("기관 {} 복약 알림 다시 예약 : {}건", organizationId, dueAtByMember.size());
+    }
 
-        List<Users> allUsers = usersRepository.findAll();  // 전체 유저 조회
-        
-        for (Users user : allUsers) {
-            if(user.getRole().equals(Role.EMPLOYEE)){
-                // 상담 알림
-                checkMeetingMatchAlert(user);
+    /**
+     * 오늘 투약 내역 / 24시간 내 상담으로 알림 큐 재구성
+     * 기능 도입 이전 데이터나 Redis 유실에 대비 ( 이미 지난 시각은 넣지 않으므로 재발송 없음 )
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildAlertQueue() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("알림 큐 재구성 실패", e);
+        }
+    }
 
-                // 복약 알림
-                checkMedicationAlert(user);
-            }
+    // 예약한 알림 수 반환
+    private int rebuild() {
+        LocalDateTime now = LocalDateTime.now();
 
-            if(user.getRole().equals(Role.GUARDIAN)){
-                // 상담 알림
-                checkMeetingMatchAlert(user);
-            }
+        Map<String, LocalDateTime> dueAtByMember = todayMedicationDueAts(null);
+        for (MeetingMatches meetingMatches : meetingMatchesRepository.findByMeetingTimeBetween(now, now.plusDays(1))) {
+            dueAtByMember.put(AlertQueueService.MEETING_PREFIX + meetingMatches.getId(),
+                    meetingMatches.getMeetingTime().minusMinutes(MEETING_ALERT_MINUTES));
         }
+        alertQueueService.scheduleAll(dueAtByMember);
 
+        log.info("알림 큐 재구성 완료 : {}건 예약, 대기 {}건", dueAtByMember.size(), alertQueueService.size());
+        return dueAtByMember.size();
     }
 
-    // 복약 알림
-    private void checkMedicationAlert(Users user) {
+    // 저장된 오늘 투약 내역 + 저장되지 않은 오늘 투약 예정의 발송 시각 ( organizationId 가 null 이면 전체 기관 )
+    // 기관이 정해져 있으면 그 기관 환자만 조회 ( 기관 설정 변경마다 전체 기관을 읽지 않도록 )
+    private Map<String, LocalDateTime> todayMedicationDueAts(Integer organizationId) {
+        LocalDateTime now = LocalDateTime.now();
         LocalDate today = LocalDate.now();
-        LocalTime nowTime = LocalTime.now();
-
-        // 소속 기관이 없으면 종료
-        Organizations org = organizationsRepository.findById(user.getOrganizationId()).orElse(null);
-        if(org == null) return;
-
-        // 사용자 담당 환자 목록
-        List<Seniors> seniorList = seniorsRepository.findByRelatedUserId(user.getId());
-        for(Seniors senior : seniorList){
-
-            // 환자의 투약 기간 스케줄
-            List<MedicationSchedules> schedulesList = medicationSchedulesRepository.findBySeniorAndIsDeletedFalseAndMedicationStartdateLessThanEqualAndMedicationEnddateGreaterThanEqual(senior, today, today);
-            for(MedicationSchedules schedule : schedulesList){
-
-                // 오늘 복약 내역
-                List<Medications> medicationsList = medicationsRepository.findByMedicationSchedulesAndMedicationDate(schedule, today);
-                for(Medications medication : medicationsList){
-
-                    String alertKey = user.getId() + "_" + medication.getId() + "_" + "Medication";
-                    if (!sendAlerts.add(alertKey)) continue;
-
-                    MedicationTime mTime = medication.getMedicationSchedule();
-                    boolean shouldAlert = false;
-                    String when="";
-
-                    switch (mTime) {
-                        case BEFORE_BREAKFAST:
-                            shouldAlert = isWithinBeforeWindow(nowTime, org.getBreakfastTime());
-                            when = "아침 식전";
-                            break;
-                        case AFTER_BREAKFAST:
-                            shouldAlert = isWithinAfterWindow(nowTime, org.getBreakfastTime());
-                            when = "아침 식후";
-                            break;
-                        case BEFORE_LUNCH:
-                            shouldAlert = isWithinBeforeWindow(nowTime, org.getLunchTime());
-                            when = "점심 식전";
-                            break;
-                        case AFTER_LUNCH:
-                            shouldAlert = isWithinAfterWindow(nowTime, org.getLunchTime());
-                            when = "점심 식후";
-                            break;
-                        case BEFORE_DINNER:
-                            shouldAlert = isWithinBeforeWindow(nowTime, org.getDinnerTime());
-                            when = "저녁 식전";
-                            break;
-                        case AFTER_DINNER:
-                            shouldAlert = isWithinAfterWindow(nowTime, org.getDinnerTime());
-                            when = "저녁 식후";
-                            break;
-                        case BEDTIME:
-                            shouldAlert = isWithinBeforeWindow(nowTime, org.getSleepTime());
-                            when = "취침 전";
-                            break;
-                    }
-
-                    // 알람 보내야하고, FCM 토큰이 있는 경우에만 발송
-                    if(shouldAlert && user.getFcmToken() != null && !user.getFcmToken().trim().isEmpty()){
-                        String title = "복약 알림";
-                        String message = String.format("%s 환자의 %s 복약 시간입니다.", senior.getName(), when);
-
-                        try{
-                            // 알람 보내기
-                            sendFCMAlerts(user.getFcmToken(), title, message, "Medication", senior);
-                        }catch (Exception e){
-                            log.error("FCM 상담 알림 전송 실패", e);
-                            sendAlerts.remove(alertKey);
-                        }
-
-                    }
+
+        List<Medications> medications = organizationId == null
+                ? medicationsRepository.findByMedicationDateWithDetails(today)
+                : medicationsRepository.findByMedicationDateAndOrganizationWithDetails(today, organizationId);
+        List<MedicationSchedules> schedules = organizationId == null
+                ? medicationSchedulesRepository.findActiveOnDateWithDetails(today)
+                : medicationSchedulesRepository.findActiveOnDateAndOrganizationWithDetails(today, organizationId);
+
+        Map<Integer, List<Medications>> persistedBySchedule = new HashMap<>();
+        for (Medications medication : medications) {
+            persistedBySchedule.computeIfAbsent(medication.getMedicationSchedules().getId(), k -> new ArrayList<>()).add(medication);
+        }
+
+        Map<String, LocalDateTime> dueAtByMember = new LinkedHashMap<>();
+        for (MedicationSchedules schedule : schedules) {
+            Organizations org = schedule.getSenior().getOrganization();
+            if (org == null) continue;
+
+            List<Medications> persisted = persistedBySchedule.getOrDefault(schedule.getId(), List.of());
+            for (Medications medication : MedicationOccurrenceGenerator.merge(schedule, persisted, today, today)) {
+                LocalDateTime dueAt = medicationDueAt(medication, org);
+                if (dueAt != null && dueAt.isAfter(now)) {
+                    dueAtByMember.put(medicationMember(medication), dueAt);
                 }
             }
         }
+        return dueAtByMember;
+    }
+
+    // ==================== 알림 발송 ====================
+
+    @Scheduled(fixedDelay = 30000) // 30초 마다 발송 시각이 지난 알림만 처리
+    public void alert(){
+        jobRunner.submit(DISPATCH_JOB, this::dispatchDueAlerts);
     }
 
-    // 식전 30분 인지 체크
-    private boolean isWithinBeforeWindow(LocalTime now, LocalTime target) {
-        if(target == null) return false;
-        LocalTime start = target.minusMinutes(30);
-        return !now.isBefore(start) && now.isBefore(target);
+    private JobResult dispatchDueAlerts() {
+        List<String> dueMembers = alertQueueService.claimDue(LocalDateTime.now(), CLAIM_BATCH_SIZE);
+        if (dueMembers.isEmpty()) return JobResult.of(0);
+
+        log.info("Alerting : {}건, {}", dueMembers.size(), LocalDateTime.now());
+
+        int failures = 0;
+        for (String member : dueMembers) {
+            try {
+                if (member.startsWith(AlertQueueService.MEDICATION_PREFIX)) {
+                    // 복약 알림
+                    medicationsRepository.findByIdWithDetails(Integer.valueOf(member.substring(AlertQueueService.MEDICATION_PREFIX.length())))
+                            .ifPresent(this::fireMedicationAlert);
+                } else if (member.startsWith(AlertQueueService.MEDICATION_SLOT_PREFIX)) {
+                    // 저장되지 않은 투약 예정 복약 알림
+                    resolveMedicationSlot(member.substring(AlertQueueService.MEDICATION_SLOT_PREFIX.length()))
+                            .ifPresent(this::fireMedicationAlert);
+                } else if (member.startsWith(AlertQueueService.MEETING_PREFIX)) {
+                    // 상담 알림
+                    fireMeetingAlert(Integer.valueOf(member.substring(AlertQueueService.MEETING_PREFIX.length())));
+                }
+            } catch (Exception e) {
+                log.error("알림 처리 실패 : {}", member, e);
+                failures++;
+            }
+        }
+        return new JobResult(dueMembers.size() - failures, failures);
     }
 
-    // 식후 30분 인지 체크
-    private boolean isWithinAfterWindow(LocalTime now, LocalTime target) {
-        if (target == null) return false;
-        LocalTime end = target.plusMinutes(30);
-        return now.isAfter(target) && !now.isAfter(end);
+    // "{스케줄 ID}:{yyyyMMdd}:{시간대}" → 저장된 투약 내역이 있으면 그것, 없으면 가상 투약 예정
+    private Optional<Medications> resolveMedicationSlot(String slot) {
+        String[] parts = slot.split(":");
+        MedicationSchedules schedule = medicationSchedulesRepository.findByIdWithDetails(Integer.valueOf(parts[0])).orElse(null);
+        if (schedule == null) return Optional.empty();
+
+        LocalDate date = LocalDate.parse(parts[1], DateTimeFormatter.BASIC_ISO_DATE);
+        MedicationTime time = MedicationTime.valueOf(parts[2]);
+        if (!MedicationOccurrenceGenerator.isScheduled(schedule, date, time)) return Optional.empty();
+
+        Medications persisted = medicationsRepository
+                .findFirstByMedicationSchedulesAndMedicationDateAndMedicationSchedule(schedule, date, time).orElse(null);
+        if (persisted != null) {
+            // 이미 투약한 경우 알림 불필요
+            return persisted.getMedicatedAt() != null ? Optional.empty() : Optional.of(persisted);
+        }
+        return Optional.of(MedicationOccurrenceGenerator.virtualOf(schedule, new MedicationOccurrence(date, time)));
     }
 
-    // 상담 알림
-    private void checkMeetingMatchAlert(Users user) {
-        List<MeetingMatches> list;
-        if(user.getRole().equals(Role.EMPLOYEE)) {
-            list = meetingMatchesRepository.findByEmployeeAndStartedAtLessThanEqualAndEndedAtGreaterThanEqual(user, LocalDateTime.now(), LocalDateTime.now());
+    // 복약 알림
+    private void fireMedicationAlert(Medications medication) {
+        MedicationSchedules schedule = medication.getMedicationSchedules();
+        if (Boolean.TRUE.equals(schedule.getIsDeleted())) return;
+
+        Seniors senior = schedule.getSenior();
+        Organizations org = senior.getOrganization();
+        if (org == null) return;
+
+        // 예약 이후 기관 식사시간이 바뀐 경우 다시 계산
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime dueAt = medicationDueAt(medication, org);
+        if (dueAt == null) return;
+        if (dueAt.isAfter(now)) {
+            alertQueueService.schedule(medicationMember(medication), dueAt);
+            return;
         }
-        else if(user.getRole().equals(Role.GUARDIAN)) {
-            list = meetingMatchesRepository.findByGuardianAndStartedAtLessThanEqualAndEndedAtGreaterThanEqual(user, LocalDateTime.now(), LocalDateTime.now());
+        if (now.isAfter(dueAt.plusMinutes(ALERT_WINDOW_MINUTES))) {
+            log.info("복약 알림 구간이 지나 발송하지 않음 : {}", medicationMember(medication));
+            return;
         }
-        else{
-            log.info("해당 유저는 간호사 혹은 보호자가 아닙니다.");
+
+        String when = medicationTimeLabel(medication.getMedicationSchedule());
+        String title = "복약 알림";
+        String message = String.format("%s 환자의 %s 복약 시간입니다.", senior.getName(), when);
+
+        // 환자 담당 간호사에게 발송
+        for (SeniorUserRelations relation : seniorUserRelationsRepository.findWithUserBySeniorIdAndRole(senior.getId(), Role.EMPLOYEE)) {
+            Users user = relation.getUser();
+            if (!Role.EMPLOYEE.equals(user.getRole())) continue;
+
+            // 이미 보낸 알람인지 중복 체크 ( 알림 구간이 끝나면 기록 만료 )
+            long alertKey = medicationAlertKey(user, medication);
+            if (!alertDedupStore.tryAcquire(alertKey, dueAt.plusMinutes(ALERT_WINDOW_MINUTES))) continue;
+
+            // FCM 토큰이 있는 경우에만 발송
+            if (user.getFcmToken() != null && !user.getFcmToken().trim().isEmpty()) {
+                try{
+                    // 알람 보내기
+                    sendFCMAlerts(user.getFcmToken(), title, message, "Medication", senior, alertKey);
+                }catch (Exception e){
+                    log.error("FCM 복약 알림 전송 실패", e);
+                    alertDedupStore.release(alertKey);
+                }
+            }
+        }
+    }
+
+    // 상담 알림
+    private void fireMeetingAlert(Integer meetingId) {
+        MeetingMatches meetingMatches = meetingMatchesRepository.findByIdWithDetails(meetingId).orElse(null);
+        if (meetingMatches == null) return;
+        if (ConsultationStatus.CANCELED.equals(meetingMatches.getStatus()) || Boolean.TRUE.equals(meetingMatches.getIsDeleted())) return;
+
+        // 예약 이후 상담 시간이 바뀐 경우 다시 예약
+        LocalDateTime now = LocalDateTime.now();
+        long minutesDiff = ChronoUnit.MINUTES.between(now, meetingMatches.getMeetingTime());
+        if (minutesDiff > MEETING_ALERT_MINUTES) {
+            scheduleMeetingAlert(meetingMatches);
             return;
         }
+        if (minutesDiff < 0) return;
 
-        for (MeetingMatches meetingMatches : list) {
-            // 시간 체크
-            long minutesDiff = ChronoUnit.MINUTES.between(LocalDateTime.now(), meetingMatches.getMeetingTime());
-            if(minutesDiff < 0 || minutesDiff > 20) continue;
+        Seniors senior = meetingMatches.getSenior();
+        String title = "상담 알림!";
+        String message = String.format("%s 환자 상담 %d분 전입니다.", senior.getName(), minutesDiff);
 
-            // 이미 보낸 알람인지 중복 체크
-            String alertKey = user.getId() + "_" + meetingMatches.getId() + "_" + "Meeting";
-            if (!sendAlerts.add(alertKey)) continue;
+        // 보호자가 없는 상담은 간호사에게만 발송
+        for (Users user : Stream.of(meetingMatches.getEmployee(), meetingMatches.getGuardian())
+                .filter(Objects::nonNull).toList()) {
+            // 이미 보낸 알람인지 중복 체크 ( 상담 시작 시각이 지나면 기록 만료 )
+            long alertKey = AlertDedupStore.key(user.getId(), meetingMatches.getId(), AlertDedupStore.TYPE_MEETING);
+            if (!alertDedupStore.tryAcquire(alertKey, meetingMatches.getMeetingTime())) continue;
 
             // FCM Token이 있는 경우에만 전송
             if(user.getFcmToken() != null && !user.getFcmToken().trim().isEmpty()){
-               Seniors senior = meetingMatches.getSenior();
-
-               String title = "상담 알림!";
-               String message = String.format("%s 환자 상담 %d분 전입니다.", senior.getName(),minutesDiff);
-
                try{
                    // 알람 보내기
-                   sendFCMAlerts(user.getFcmToken(), title, message, "Meeting", senior);
-                   // 중복 체크
-                   sendAlerts.add(alertKey);
+                   sendFCMAlerts(user.getFcmToken(), title, message, "Meeting", senior, alertKey);
                }catch (Exception e){
                    log.error("FCM 상담 알림 전송 실패", e);
-                   sendAlerts.remove(alertKey);
+                   alertDedupStore.release(alertKey);
                }
             }
         }
+    }
+
+    // 알림 큐 member ( 저장된 투약 내역은 ID, 가상 투약 예정은 스케줄 / 날짜 / 시간대 )
+    private String medicationMember(Medications medication) {
+        if (medication.getId() != null) {
+            return AlertQueueService.MEDICATION_PREFIX + medication.getId();
+        }
+        return AlertQueueService.MEDICATION_SLOT_PREFIX + medication.getMedicationSchedules().getId()
+                + ":" + medication.getMedicationDate().format(DateTimeFormatter.BASIC_ISO_DATE)
+                + ":" + medication.getMedicationSchedule().name();
+    }
 
+    // 가상 투약 예정은 날짜가 키에 없지만 기록이 알림 구간 이후 만료되므로 다른 날짜와 겹치지 않음
+    private long medicationAlertKey(Users user, Medications medication) {
+        if (medication.getId() != null) {
+            return AlertDedupStore.key(user.getId(), medication.getId(), AlertDedupStore.TYPE_MEDICATION);
+        }
+        int slotId = (medication.getMedicationSchedules().getId() << 3) | medication.getMedicationSchedule().ordinal();
+        return AlertDedupStore.key(user.getId(), slotId, AlertDedupStore.TYPE_MEDICATION_SLOT);
     }
 
-    // FCM 으로 알림 보내기
-    private void sendFCMAlerts(String fcmToken, String title, String message, String type, Seniors seniors){
+    // 복약 알림 발송 시각 ( 식전/취침전 : 30분 전, 식후 : 식사 시각 )
+    private LocalDateTime medicationDueAt(Medications medication, Organizations org) {
+        if (org == null || medication.getMedicationDate() == null) return null;
+
+        LocalTime dueTime = switch (medication.getMedicationSchedule()) {
+            case BEFORE_BREAKFAST -> minusWindow(org.getBreakfastTime());
+            case AFTER_BREAKFAST -> org.getBreakfastTime();
+            case BEFORE_LUNCH -> minusWindow(org.getLunchTime());
+            case AFTER_LUNCH -> org.getLunchTime();
+            case BEFORE_DINNER -> minusWindow(org.getDinnerTime());
+            case AFTER_DINNER -> org.getDinnerTime();
+            case BEDTIME -> minusWindow(org.getSleepTime());
+        };
+        return dueTime != null ? medication.getMedicationDate().atTime(dueTime) : null;
+    }
+
+    private LocalTime minusWindow(LocalTime target) {
+        return target != null ? target.minusMinutes(ALERT_WINDOW_MINUTES) : null;
+    }
+
+    private String medicationTimeLabel(MedicationTime mTime) {
+        return switch (mTime) {
+            case BEFORE_BREAKFAST -> "아침 식전";
+            case AFTER_BREAKFAST -> "아침 식후";
+            case BEFORE_LUNCH -> "점심 식전";
+            case AFTER_LUNCH -> "점심 식후";
+            case BEFORE_DINNER -> "저녁 식전";
+            case AFTER_DINNER -> "저녁 식후";
+            case BEDTIME -> "취침 전";
+        };
+    }
+
+    // FCM 발송 대기열에 추가 ( 실제 발송은 FcmDispatchService 에서 묶어서 비동기 처리, 최종 실패 시 alertKey 기록 제거 )
+    private void sendFCMAlerts(String fcmToken, String title, String message, String type, Seniors seniors, long alertKey){
         try{
-            ObjectMapper mapper = new ObjectMapper();
             Map<String, Object> dataMap = new HashMap<>();
             dataMap.put("seniorId", seniors.getId());
-            String dataJson = mapper.writeValueAsString(dataMap);
-
-            com.google.firebase.messaging.Message fcmMessage = Message.builder()
-                    .setToken(fcmToken)
-                    .setNotification(
-                        Notification.builder()
-                                .setTitle(title)
-                                .setBody(message)
-                                .build())
-                    .putData("type", type)
-                    .putData("data", dataJson)
-                    .build();
-            FirebaseMessaging.getInstance().send(fcmMessage);
+            String dataJson = objectMapper.writeValueAsString(dataMap);
+
+            Map<String, String> data = new HashMap<>();
+            data.put("type", type);
+            data.put("data", dataJson);
+            if (!fcmDispatchService.enqueue(new PushNotification(fcmToken, title, message, data, alertKey))) {
+                throw new IllegalStateException("FCM 발송 대기열이 가득 찼습니다.");
+            }
         }catch (Exception e){
             throw new RuntimeException("FCM 메시지 전송 실패", e);
         }
     }
 
-    // 매일 자정에 전송된 알림 기록 초기화
+    // 매일 자정에 오늘 알림 큐 재구성 ( 발송 기록은 AlertDedupStore 에서 이벤트 시각 기준으로 만료 )
     @Scheduled(cron = "0 0 0 * * *")
     public void resetDayAlert(){
-        sendAlerts.clear();
-        log.info("일일 알림 기록 초기화 완료");
+        jobRunner.submit(REBUILD_JOB, () -> JobResult.of(rebuild()));
     }
 }
@@ -5,6 +5,7 @@ import com.handi.backend.exception.NotFoundException;
 import com.handi.backend.repository.UsersRepository;
 import com.handi.backend.util.CookieUtil;
 import com.handi.backend.util.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -24,35 +25,49 @@ public class AuthService {
 
     // Access Token 이 없을 때, 쿠키에서 Refresh Token 가져와서 Access Token 발급하기
     public String refreshAccessToken(HttpServletRequest request, HttpServletResponse response) {
-        try {
+        String refreshToken = cookieUtil.getCookieValue(request, "refreshToken").orElse(null);
+        if (refreshToken == null) {
+            log.error("[AUTH] Access Token 재발급 실패: refreshToken 쿠키에 없음");
+            return null;
+        }
+
+        // Refresh Token 유효성 검증 ( 한 번만 파싱 )
+        Claims refreshClaims = jwtTokenProvider.parseClaims(refreshToken);
+        if (refreshClaims == null) {
+            log.error("[AUTH] Access Token 재발급 실패: 유효하지 않은 토큰");
+            return null;
+        }
 
-            String refreshToken = cookieUtil.getCookieValue(request, "refreshToken").orElseThrow(() -> new IllegalArgumentException("[AUTH] refreshToken 쿠키에 없음"));
+        return refreshAccessToken(refreshToken, refreshClaims, response);
+    }
 
-            // 2. Refresh Token 유효성 검증
-            if (!jwtTokenProvider.validateToken(refreshToken)) {
-                throw new IllegalArgumentException("[AUTH] 유효하지 않은 토큰");
+    // 이미 검증된 Refresh Token Claims 로 Access Token 발급하기 ( JWT 필터에서 사용 )
+    public String refreshAccessToken(String refreshToken, Claims refreshClaims, HttpServletResponse response) {
+        try {
+            // 1. Refresh Token 타입 확인
+            if (!jwtTokenProvider.isRefreshToken(refreshClaims)) {
+                throw new IllegalArgumentException("[AUTH] Refresh Token이 아님");
             }
 
-            // 3. Refresh Token 에서 사용자 ID 추출
-            String refreshId = jwtTokenProvider.getRefreshIdFromToken(refreshToken);
-            Integer oauthUserId = jwtTokenProvider.getOauthUserIdFromToken(refreshToken);
+            // 2. Refresh Token 에서 사용자 ID 추출
+            Integer oauthUserId = jwtTokenProvider.getOauthUserId(refreshClaims);
             if (oauthUserId == null) {
                 throw new IllegalArgumentException("[AUTH] Refresh Token에서 oauthUserId 없음");
             }
 
-            // 4. Redis에서 해당 사용자의 Refresh Token 유효성 확인
+            // 3. Redis에서 해당 사용자의 Refresh Token 유효성 확인
             if (!redisService.validateRefreshTokenInRedis(refreshToken, oauthUserId)) {
                 throw new IllegalArgumentException("[AUTH] 만료된 refresh token");
             }
 
-            // 5. 사용자 정보 조회
+            // 4. 사용자 정보 조회
             Users user = usersRepository.findByOauthUserId(oauthUserId).orElseThrow(() -> new NotFoundException("[AUTH] 사용자 없음"));
 
-            // 6. 새로운 Access Token 생성
+            // 5. 새로운 Access Token 생성
             // oauthUserId
             String newAccessToken = jwtTokenProvider.generateAccessToken(oauthUserId, user.getId(), user.getName(), user.getEmail());
 
-            // 7. 새로운 Access Token 쿠키에 저장
+            // 6. 새로운 Access Token 쿠키에 저장
             cookieUtil.createAccessTokenCookie(response, newAccessToken);
 
             log.info("[AUTH] Access Token 재발급 성공");
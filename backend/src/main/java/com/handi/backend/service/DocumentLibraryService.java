@@ -1,7 +1,7 @@
 package com.handi.backend.service;
 
 import com.handi.backend.converter.DateTimeConverter;
-import com.handi.backend.dto.ai.document.DocumentMaskResponse;
+import com.handi.backend.dto.ai.document.DocumentMaskRequest;
 import com.handi.backend.dto.document.library.DocumentResponseDto;
 import com.handi.backend.dto.document.library.DocumentUploadRequestDto;
 import com.handi.backend.dto.observation.record.Senior;
@@ -11,35 +11,29 @@ import com.handi.backend.exception.NotFoundException;
 import com.handi.backend.repository.DocumentLibraryRepository;
 import com.handi.backend.repository.SeniorsRepository;
 import com.handi.backend.util.MinioUtil;
-import com.handi.backend.util.FastAPIUtil;
-import io.minio.GetPresignedObjectUrlArgs;
-import io.minio.MinioClient;
-import io.minio.http.Method;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.concurrent.TimeUnit;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class DocumentLibraryService {
 
-    @Value("${minio.bucket}")
-    private String bucketName;
-
     private final DateTimeConverter dateTimeConverter;
     private final SeniorsRepository seniorsRepository;
     private final DocumentLibraryRepository documentLibraryRepository;
     private final MinioUtil minioUtil;
-    private final MinioClient minioClient;
+    private final PresignedUrlService presignedUrlService;
+    private final FastApiService fastApiService;
+
+    private static final String MASKED_FILE_NAME = "masked_image.jpg";
 
     // 전체 문서 조회
     public Page<DocumentResponseDto> getDocumentList(Integer seniorId, String keyword, Pageable pageable) {
@@ -55,6 +49,10 @@ public class DocumentLibraryService {
         }
 
 
+        // 사진 URL 은 한 번에 서명 ( 캐시에 있는 것은 재사용 )
+        Map<String, String> presignedUrls = presignedUrlService.getUrls(
+                page.getContent().stream().map(DocumentLibrary::getOriginalPhotoPaths).toList());
+
         return page.map(document -> {
             Senior seniorDto = new Senior(
                     senior.getId(),
@@ -64,20 +62,7 @@ public class DocumentLibraryService {
                     LocalDate.now().getYear() - senior.getBirthDate().getYear() + 1
             );
 
-            String presignedUrl;
-
-            try {
-                presignedUrl = minioClient.getPresignedObjectUrl(
-                        GetPresignedObjectUrlArgs.builder()
-                                .method(Method.GET)
-                                .bucket(bucketName)
-                                .object(document.getOriginalPhotoPaths())
-                                .expiry(1, TimeUnit.DAYS)
-                                .build()
-                );
-            } catch (Exception e) {
-                throw new RuntimeException("해당 url에 문서가 존재하지 않습니다.");
-            }
+            String presignedUrl = presignedUrls.get(document.getOriginalPhotoPaths());
 
             return new DocumentResponseDto(
                     document.getId(),
@@ -104,11 +89,10 @@ public class DocumentLibraryService {
     }
 
 
-    // 파일 업로드
+    // 파일 업로드 ( FastAPI 로 마스킹한 이미지를 메모리에 모으지 않고 바로 MinIO 에 저장 )
     public DocumentResponseDto uploadFileBySeniorId(
             Integer seniorId,
-            DocumentUploadRequestDto documentUploadRequestDto,
-            DocumentMaskResponse maskedDocument) throws Exception{
+            DocumentUploadRequestDto documentUploadRequestDto) throws Exception{
         Seniors senior = seniorsRepository.findByIdAndIsDeletedFalse(seniorId).orElseThrow(
                 ()-> new NotFoundException("환자가 없습니다."));
 
@@ -123,10 +107,10 @@ public class DocumentLibraryService {
 
         DocumentLibrary doc = documentLibraryRepository.save(documentLibrary);
 
-        // DocumentMaskResponse를 MultipartFile로 변환
-        MultipartFile maskedFile = FastAPIUtil.convertToMultipartFile(maskedDocument);
-
-        String filepath = minioUtil.uploadFile(seniorId, doc.getId(), maskedFile);
+        // 마스킹 응답 스트림 → MinIO
+        DocumentMaskRequest maskRequest = new DocumentMaskRequest(documentUploadRequestDto.getFile(), documentUploadRequestDto.getWord_boxes());
+        String filepath = fastApiService.documentMask(maskRequest,
+                (in, contentType, contentLength) -> minioUtil.uploadFile(seniorId, doc.getId(), MASKED_FILE_NAME, in, contentLength, contentType));
         doc.setOriginalPhotoPaths(filepath);
 
         log.info("filepath : " + filepath);
@@ -161,14 +145,7 @@ public class DocumentLibraryService {
                 () -> new NotFoundException("해당 환자가 없습니다.")
         );
 
-        String presignedUrl = minioClient.getPresignedObjectUrl(
-                GetPresignedObjectUrlArgs.builder()
-                        .method(Method.GET)
-                        .bucket(bucketName)
-                        .object(documentLibrary.getOriginalPhotoPaths())
-                        .expiry(1, TimeUnit.DAYS)
-                        .build()
-        );
+        String presignedUrl = presignedUrlService.getUrl(documentLibrary.getOriginalPhotoPaths());
 
         Senior seniorDto = new Senior();
         seniorDto.setId(seniors.getId());
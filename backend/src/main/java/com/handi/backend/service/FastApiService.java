@@ -2,15 +2,16 @@ package com.handi.backend.service;
 
 import com.handi.backend.dto.ai.document.DocumentMaskRequest;
 import com.handi.backend.dto.ai.document.DocumentDetectFromImageResponse;
-import com.handi.backend.dto.ai.document.DocumentMaskResponse;
 import com.handi.backend.dto.ai.drug.DrugSearchRequest;
 import com.handi.backend.dto.ai.drug.DrugDetectByImageResponse;
 import com.handi.backend.dto.ai.drug.DrugSearchByNameResponse;
+import com.handi.backend.util.UploadLimiter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
@@ -19,12 +20,17 @@ import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class FastApiService {
+    // 기본 요청 팩토리는 요청 본문을 메모리에 모으지 않고 바로 전송 ( 파일은 MultipartFile 의 스트림을 그대로 사용 )
     private final RestTemplate restTemplate = new RestTemplate();
+    private final UploadLimiter uploadLimiter;
 
     @Value("${fastapi.http-url}")
     private String FastApiUrl;
@@ -61,15 +67,8 @@ public class FastApiService {
 
         String endpoint = FastApiUrl + "/drug/detect-drug-from-image";
 
-        ByteArrayResource fileResource = new ByteArrayResource(file.getBytes()) {
-            @Override
-            public String getFilename() {
-                return file.getOriginalFilename();
-            }
-        };
-
         MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-        body.add("file", fileResource);
+        body.add("file", file.getResource());
 
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.MULTIPART_FORM_DATA);
@@ -77,11 +76,11 @@ public class FastApiService {
 
         HttpEntity<MultiValueMap<String, Object>> requestEntity = new HttpEntity<>(body, headers);
 
-        return restTemplate.postForObject(
+        return uploadLimiter.run(() -> restTemplate.postForObject(
                 endpoint,
                 requestEntity,
                 DrugDetectByImageResponse.class
-        );
+        ));
     }
 
     public DocumentDetectFromImageResponse detectFromImage(MultipartFile file, boolean all) throws Exception {
@@ -91,15 +90,8 @@ public class FastApiService {
         if (all) endpoint += "/detect-all-from-image";
         else endpoint += "/detect-entities-from-image";
 
-        ByteArrayResource fileResource = new ByteArrayResource(file.getBytes()) {
-            @Override
-            public String getFilename() {
-                return file.getOriginalFilename();
-            }
-        };
-
         MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-        body.add("file", fileResource);
+        body.add("file", file.getResource());
 
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.MULTIPART_FORM_DATA);
@@ -107,26 +99,24 @@ public class FastApiService {
 
         HttpEntity<MultiValueMap<String, Object>> requestEntity = new HttpEntity<>(body, headers);
 
-        return restTemplate.postForObject(
-                endpoint,
+        String url = endpoint;
+        return uploadLimiter.run(() -> restTemplate.postForObject(
+                url,
                 requestEntity,
                 DocumentDetectFromImageResponse.class
-        );
+        ));
     }
 
-    public DocumentMaskResponse documentMask(DocumentMaskRequest request) throws Exception {
+    /**
+     * 문서 마스킹 요청 후 마스킹된 이미지 응답을 스트림 그대로 handler 에 전달
+     * ( 응답 전체를 byte[] 로 받지 않고 MinIO / 클라이언트로 바로 흘려보냄 )
+     */
+    public <T> T documentMask(DocumentMaskRequest request, MaskedImageHandler<T> handler) throws Exception {
 
         String endpoint = FastApiUrl + "/document/mask-image";
 
-        ByteArrayResource fileResource = new ByteArrayResource(request.getFile().getBytes()) {
-            @Override
-            public String getFilename() {
-                return request.getFile().getOriginalFilename();
-            }
-        };
-
         MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-        body.add("file", fileResource);
+        body.add("file", request.getFile().getResource());
         body.add("word_boxes", request.getWord_boxes());
 
         HttpHeaders headers = new HttpHeaders();
@@ -134,18 +124,32 @@ public class FastApiService {
 
         HttpEntity<MultiValueMap<String, Object>> requestEntity = new HttpEntity<>(body, headers);
 
-        ResponseEntity<byte[]> response = restTemplate.postForEntity(
+        return uploadLimiter.run(() -> restTemplate.execute(
                 endpoint,
-                requestEntity,
-                byte[].class
-        );
-
-        DocumentMaskResponse documentMaskResponse = new DocumentMaskResponse();
-        documentMaskResponse.setImageData(response.getBody());
-        documentMaskResponse.setContentType("image/jpeg");
-        documentMaskResponse.setFilename("masked_image.jpg");
+                HttpMethod.POST,
+                restTemplate.httpEntityCallback(requestEntity),
+                response -> {
+                    MediaType contentType = response.getHeaders().getContentType();
+                    try {
+                        return handler.handle(
+                                response.getBody(),
+                                contentType != null ? contentType.toString() : MediaType.IMAGE_JPEG_VALUE,
+                                response.getHeaders().getContentLength());
+                    } catch (IOException e) {
+                        throw e;
+                    } catch (Exception e) {
+                        throw new IOException("마스킹 이미지 처리 실패", e);
+                    }
+                }
+        ));
+    }
 
-        return documentMaskResponse;
+    /**
+     * 마스킹된 이미지 스트림 처리 ( contentLength 를 모르면 -1 )
+     */
+    @FunctionalInterface
+    public interface MaskedImageHandler<T> {
+        T handle(InputStream body, String contentType, long contentLength) throws Exception;
     }
 
 }
@@ -0,0 +1,271 @@
+package com.handi.backend.service;
+
+import com.handi.backend.dto.notification.FcmSendResult;
+import com.handi.backend.dto.notification.PushNotification;
+import com.handi.backend.entity.Users;
+import com.handi.backend.repository.UsersRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * FCM 비동기 일괄 발송
+ * - enqueue 는 대기열에 넣기만 하고 바로 반환 ( 알림 스케줄러 스레드를 막지 않음 )
+ * - flush-interval-ms 마다 ( 또는 batch-size 만큼 쌓이면 ) 꺼내서 전용 스레드 풀에서 발송
+ * - 같은 내용은 sendEachForMulticast, 나머지는 sendEach 로 최대 500건씩 묶어서 발송
+ * - UNAVAILABLE / INTERNAL / QUOTA_EXCEEDED 는 지수 백오프로 재시도
+ * - UNREGISTERED 토큰은 Users.fcmToken 에서 제거 ( 캐시된 인증 사용자도 제거 )
+ * - 최종 실패한 알림은 중복 발송 기록을 제거 ( 다음 알림 처리에서 다시 발송 가능 )
+ */
+@Service
+@Slf4j
+public class FcmDispatchService {
+
+    private static final int FCM_MAX_BATCH_SIZE = 500;   // FCM 한 번 호출당 최대 메시지 수
+    private static final Set<String> RETRYABLE_ERRORS = Set.of("UNAVAILABLE", "INTERNAL", "QUOTA_EXCEEDED");
+    private static final Set<String> INVALID_TOKEN_ERRORS = Set.of("UNREGISTERED", "SENDER_ID_MISMATCH");
+
+    private final FcmSender fcmSender;
+    private final UsersRepository usersRepository;
+    private final AlertDedupStore alertDedupStore;
+    private final PrincipalCacheService principalCacheService;
+
+    private final BlockingQueue<PushNotification> queue;
+    private final ExecutorService sendExecutor;
+    private final ScheduledExecutorService scheduler;
+
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final int maxRetries;
+    private final long retryBaseDelayMs;
+
+    private final Timer sendTimer;
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+    private final Counter retriedCounter;
+    private final Counter droppedCounter;
+    private final Counter unregisteredCounter;
+
+    public FcmDispatchService(
+            FcmSender fcmSender,
+            UsersRepository usersRepository,
+            AlertDedupStore alertDedupStore,
+            PrincipalCacheService principalCacheService,
+            MeterRegistry meterRegistry,
+            @Value("${fcm.dispatch.queue-capacity:10000}") int queueCapacity,
+            @Value("${fcm.dispatch.batch-size:500}") int batchSize,
+            @Value("${fcm.dispatch.flush-interval-ms:1000}") long flushIntervalMs,
+            @Value("${fcm.dispatch.worker-threads:4}") int workerThreads,
+            @Value("${fcm.dispatch.max-retries:3}") int maxRetries,
+            @Value("${fcm.dispatch.retry-base-delay-ms:1000}") long retryBaseDelayMs) {
+        this.fcmSender = fcmSender;
+        this.usersRepository = usersRepository;
+        this.alertDedupStore = alertDedupStore;
+        this.principalCacheService = principalCacheService;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.batchSize = Math.min(batchSize, FCM_MAX_BATCH_SIZE);
+        this.flushIntervalMs = flushIntervalMs;
+        this.maxRetries = maxRetries;
+        this.retryBaseDelayMs = retryBaseDelayMs;
+        this.sendExecutor = Executors.newFixedThreadPool(workerThreads, namedThreadFactory("fcm-send-"));
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(namedThreadFactory("fcm-flush-"));
+
+        Gauge.builder("fcm.dispatch.queue.size", queue, BlockingQueue::size)
+                .description("FCM 발송 대기열 크기")
+                .register(meterRegistry);
+        this.sendTimer = Timer.builder("fcm.dispatch.send.latency")
+                .description("FCM 묶음 발송 한 번에 걸린 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.sentCounter = meterRegistry.counter("fcm.dispatch.messages", "result", "sent");
+        this.failedCounter = meterRegistry.counter("fcm.dispatch.messages", "result", "failed");
+        this.retriedCounter = meterRegistry.counter("fcm.dispatch.messages", "result", "retried");
+        this.droppedCounter = meterRegistry.counter("fcm.dispatch.messages", "result", "dropped");
+        this.unregisteredCounter = meterRegistry.counter("fcm.dispatch.messages", "result", "unregistered");
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        scheduler.shutdownNow();
+        // 남은 알림은 종료 전에 한 번 더 발송 시도
+        flush();
+        sendExecutor.shutdown();
+        if (!sendExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("FCM 발송 스레드 종료 대기 시간 초과, 대기열 {}건 유실", queue.size());
+            sendExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * 발송 대기열에 추가 ( 대기열이 가득 차면 버리고 false 반환 )
+     */
+    public boolean enqueue(PushNotification notification) {
+        if (!queue.offer(notification)) {
+            droppedCounter.increment();
+            log.warn("FCM 발송 대기열이 가득 차서 알림을 버림 : title={}", notification.getTitle());
+            releaseDedup(notification);
+            return false;
+        }
+        if (queue.size() >= batchSize && !scheduler.isShutdown()) {
+            scheduler.execute(this::flush);
+        }
+        return true;
+    }
+
+    /**
+     * 현재 대기 중인 알림 수
+     */
+    public int queueSize() {
+        return queue.size();
+    }
+
+    // 대기열을 batch-size 단위로 비워서 발송 스레드에 넘김
+    void flush() {
+        try {
+            while (true) {
+                List<PushNotification> batch = new ArrayList<>(batchSize);
+                queue.drainTo(batch, batchSize);
+                if (batch.isEmpty()) return;
+
+                sendExecutor.execute(() -> sendBatch(batch));
+                if (batch.size() < batchSize) return;
+            }
+        } catch (Exception e) {
+            log.error("FCM 대기열 flush 실패", e);
+        }
+    }
+
+    private void sendBatch(List<PushNotification> batch) {
+        // 같은 내용끼리 묶어서 2건 이상이면 multicast, 나머지는 sendEach
+        Map<PushNotification.PayloadKey, List<PushNotification>> groups = new LinkedHashMap<>();
+        for (PushNotification notification : batch) {
+            groups.computeIfAbsent(notification.payloadKey(), k -> new ArrayList<>()).add(notification);
+        }
+
+        List<PushNotification> singles = new ArrayList<>();
+        Set<String> invalidTokens = new HashSet<>();
+        for (List<PushNotification> group : groups.values()) {
+            if (group.size() == 1) {
+                singles.add(group.get(0));
+                continue;
+            }
+            List<String> tokens = group.stream().map(PushNotification::getToken).toList();
+            send(group, () -> fcmSender.sendMulticast(group.get(0), tokens), invalidTokens);
+        }
+        if (!singles.isEmpty()) {
+            send(singles, () -> fcmSender.sendEach(singles), invalidTokens);
+        }
+
+        if (!invalidTokens.isEmpty()) {
+            clearInvalidTokens(invalidTokens);
+        }
+    }
+
+    private void send(List<PushNotification> notifications, SendCall call, Set<String> invalidTokens) {
+        List<FcmSendResult> results;
+        long start = System.nanoTime();
+        try {
+            results = call.send();
+        } catch (Exception e) {
+            // 호출 자체가 실패한 경우 ( 네트워크 등 ) 전체 재시도
+            log.error("FCM 발송 호출 실패 : {}건", notifications.size(), e);
+            notifications.forEach(this::retryOrFail);
+            return;
+        } finally {
+            sendTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        for (int i = 0; i < results.size(); i++) {
+            FcmSendResult result = results.get(i);
+            if (result.isSuccess()) {
+                sentCounter.increment();
+            } else if (INVALID_TOKEN_ERRORS.contains(result.getErrorCode())) {
+                unregisteredCounter.increment();
+                invalidTokens.add(result.getToken());
+                releaseDedup(notifications.get(i));
+            } else if (RETRYABLE_ERRORS.contains(result.getErrorCode())) {
+                retryOrFail(notifications.get(i));
+            } else {
+                failedCounter.increment();
+                log.warn("FCM 발송 실패 : errorCode={}", result.getErrorCode());
+                releaseDedup(notifications.get(i));
+            }
+        }
+    }
+
+    // 지수 백오프 ( base, base*2, base*4 ... ) 후 대기열에 다시 넣음
+    private void retryOrFail(PushNotification notification) {
+        if (notification.getAttempt() >= maxRetries || scheduler.isShutdown()) {
+            failedCounter.increment();
+            log.warn("FCM 재시도 횟수 초과 : attempt={}", notification.getAttempt());
+            releaseDedup(notification);
+            return;
+        }
+        retriedCounter.increment();
+        long delay = retryBaseDelayMs << notification.getAttempt();
+        scheduler.schedule(() -> enqueue(notification.nextAttempt()), delay, TimeUnit.MILLISECONDS);
+    }
+
+    // 보내지 못한 알림이 중복으로 막히지 않도록 기록 제거
+    private void releaseDedup(PushNotification notification) {
+        if (notification.getDedupKey() == null) return;
+        try {
+            alertDedupStore.release(notification.getDedupKey());
+        } catch (Exception e) {
+            log.error("알림 중복 발송 기록 제거 실패 : key={}", notification.getDedupKey(), e);
+        }
+    }
+
+    // 더 이상 유효하지 않은 토큰은 사용자 정보에서 제거 ( 다음 알림부터 발송 대상에서 제외 )
+    private void clearInvalidTokens(Set<String> tokens) {
+        try {
+            List<Users> users = usersRepository.findWithOauthUserByFcmTokenIn(tokens);
+            int cleared = usersRepository.clearFcmTokens(tokens);
+            // UPDATE 커밋 이후 캐시 제거 ( 캐시된 principal 을 저장할 때 죽은 토큰이 되살아나지 않도록 )
+            users.forEach(principalCacheService::evict);
+            log.info("만료된 FCM 토큰 제거 : {}건", cleared);
+        } catch (Exception e) {
+            log.error("만료된 FCM 토큰 제거 실패", e);
+        }
+    }
+
+    private static ThreadFactory namedThreadFactory(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @FunctionalInterface
+    private interface SendCall {
+        List<FcmSendResult> send() throws Exception;
+    }
+}
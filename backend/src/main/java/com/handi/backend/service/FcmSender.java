@@ -0,0 +1,21 @@
+package com.handi.backend.service;
+
+import com.handi.backend.dto.notification.FcmSendResult;
+import com.handi.backend.dto.notification.PushNotification;
+
+import java.util.List;
+
+/**
+ * FCM 발송 구현체
+ * - fcm.stub=false ( 기본 ) : FirebaseFcmSender
+ * - fcm.stub=true           : StubFcmSender ( 부하 테스트 / 로컬 개발용, 실제 발송 없음 )
+ * 결과는 요청 순서와 같은 순서로 반환
+ */
+public interface FcmSender {
+
+    // 토큰마다 내용이 다른 메시지 묶음 발송 ( 최대 500건 )
+    List<FcmSendResult> sendEach(List<PushNotification> notifications) throws Exception;
+
+    // 같은 내용을 여러 토큰으로 발송 ( 최대 500건 )
+    List<FcmSendResult> sendMulticast(PushNotification payload, List<String> tokens) throws Exception;
+}
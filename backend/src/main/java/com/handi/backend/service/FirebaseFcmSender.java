@@ -0,0 +1,108 @@
+package com.handi.backend.service;
+
+import com.google.firebase.FirebaseApp;
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MulticastMessage;
+import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.SendResponse;
+import com.handi.backend.dto.notification.FcmSendResult;
+import com.handi.backend.dto.notification.PushNotification;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Firebase Admin SDK 로 실제 발송 ( sendEach / sendEachForMulticast )
+ * 메시지를 만들 수 없는 알림 ( 토큰 없음 등 ) 은 그 건만 INVALID_ARGUMENT 실패로 처리하고 나머지는 그대로 발송
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "fcm.stub", havingValue = "false", matchIfMissing = true)
+public class FirebaseFcmSender implements FcmSender {
+
+    private static final String INVALID_ARGUMENT = "INVALID_ARGUMENT";   // 재시도하지 않는 실패
+
+    private final FirebaseMessaging firebaseMessaging;
+
+    public FirebaseFcmSender(FirebaseApp firebaseApp) {
+        this.firebaseMessaging = FirebaseMessaging.getInstance(firebaseApp);
+    }
+
+    @Override
+    public List<FcmSendResult> sendEach(List<PushNotification> notifications) throws FirebaseMessagingException {
+        FcmSendResult[] results = new FcmSendResult[notifications.size()];
+        List<Message> messages = new ArrayList<>(notifications.size());
+        List<Integer> messageIndexes = new ArrayList<>(notifications.size());
+        for (int i = 0; i < notifications.size(); i++) {
+            PushNotification notification = notifications.get(i);
+            try {
+                messages.add(Message.builder()
+                        .setToken(notification.getToken())
+                        .setNotification(toNotification(notification))
+                        .putAllData(notification.getData())
+                        .build());
+                messageIndexes.add(i);
+            } catch (RuntimeException e) {
+                log.warn("FCM 메시지 생성 실패 : {}", e.getMessage());
+                results[i] = FcmSendResult.failure(notification.getToken(), INVALID_ARGUMENT);
+            }
+        }
+
+        if (!messages.isEmpty()) {
+            List<String> tokens = messageIndexes.stream().map(i -> notifications.get(i).getToken()).toList();
+            List<FcmSendResult> sent = toResults(tokens, firebaseMessaging.sendEach(messages));
+            for (int k = 0; k < sent.size(); k++) {
+                results[messageIndexes.get(k)] = sent.get(k);
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    @Override
+    public List<FcmSendResult> sendMulticast(PushNotification payload, List<String> tokens) throws FirebaseMessagingException {
+        // 토큰이 비어 있는 건이 있으면 건별 발송으로 처리 ( 그 건만 실패 )
+        if (tokens.stream().anyMatch(token -> token == null || token.isBlank())) {
+            return sendEach(tokens.stream()
+                    .map(token -> new PushNotification(token, payload.getTitle(), payload.getBody(), payload.getData()))
+                    .toList());
+        }
+        MulticastMessage message = MulticastMessage.builder()
+                .addAllTokens(tokens)
+                .setNotification(toNotification(payload))
+                .putAllData(payload.getData())
+                .build();
+        BatchResponse response = firebaseMessaging.sendEachForMulticast(message);
+        return toResults(tokens, response);
+    }
+
+    private Notification toNotification(PushNotification notification) {
+        return Notification.builder()
+                .setTitle(notification.getTitle())
+                .setBody(notification.getBody())
+                .build();
+    }
+
+    // BatchResponse 의 응답 순서는 요청 순서와 같음
+    private List<FcmSendResult> toResults(List<String> tokens, BatchResponse response) {
+        List<SendResponse> responses = response.getResponses();
+        List<FcmSendResult> results = new ArrayList<>(responses.size());
+        for (int i = 0; i < responses.size(); i++) {
+            SendResponse sendResponse = responses.get(i);
+            if (sendResponse.isSuccessful()) {
+                results.add(FcmSendResult.success(tokens.get(i)));
+            } else {
+                FirebaseMessagingException e = sendResponse.getException();
+                String errorCode = e != null && e.getMessagingErrorCode() != null ? e.getMessagingErrorCode().name() : null;
+                results.add(FcmSendResult.failure(tokens.get(i), errorCode));
+            }
+        }
+        return results;
+    }
+}
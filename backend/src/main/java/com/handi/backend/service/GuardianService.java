@@ -33,6 +33,7 @@ public class GuardianService {
     private final SeniorsRepository seniorsRepository;
     private final SeniorUserRelationsRepository seniorUserRelationsRepository;
     private final UserMapper userMapper;
+    private final PrincipalCacheService principalCacheService;
 
     /**
      * 보호자 등록 신청
@@ -118,6 +119,7 @@ public class GuardianService {
         user.setOrganizationId(originalOrganizationId);
 
         Users savedUser = usersRepository.save(user);
+        principalCacheService.evict(savedUser);
 
         log.info("보호자 본인 정보 수정 완료: ID={}, 이메일={}", savedUser.getId(), savedUser.getEmail());
 
@@ -0,0 +1,121 @@
+package com.handi.backend.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 단일 노드용 중복 방지 ( long 키 → 만료 시각, open addressing 배열 )
+ * 문자열 키 / 박싱 없이 항목당 16바이트, 테이블을 키울 때 만료된 항목은 버림
+ */
+@Component
+@ConditionalOnProperty(name = "alert.dedup.store", havingValue = "memory")
+public class InMemoryAlertDedupStore implements AlertDedupStore {
+
+    private static final long EMPTY = 0L;          // 키 0 은 userId 0 / eventId 0 이라 실제로 쓰이지 않음
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private long[] keys = new long[INITIAL_CAPACITY];
+    private long[] expireAts = new long[INITIAL_CAPACITY];
+    private int size;
+
+    @Override
+    public synchronized boolean tryAcquire(long key, LocalDateTime expireAt) {
+        long now = System.currentTimeMillis();
+        long expireAtMillis = expireAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        if (expireAtMillis <= now) {
+            return false;
+        }
+
+        int idx = indexOf(key);
+        if (keys[idx] == key) {
+            if (expireAts[idx] > now) {
+                return false;
+            }
+            // 만료된 기록은 새 기록으로 덮어씀
+            expireAts[idx] = expireAtMillis;
+            return true;
+        }
+
+        keys[idx] = key;
+        expireAts[idx] = expireAtMillis;
+        if (++size * 2 > keys.length) {
+            rehash(now);
+        }
+        return true;
+    }
+
+    @Override
+    public synchronized void release(long key) {
+        int idx = indexOf(key);
+        if (keys[idx] != key) {
+            return;
+        }
+        removeAt(idx);
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    // key 가 있는 칸, 없으면 넣을 빈 칸
+    private int indexOf(long key) {
+        int mask = keys.length - 1;
+        int idx = mix(key) & mask;
+        while (keys[idx] != EMPTY && keys[idx] != key) {
+            idx = (idx + 1) & mask;
+        }
+        return idx;
+    }
+
+    // linear probing 삭제 ( 뒤따르는 항목을 앞으로 당겨서 탐색 경로 유지 )
+    private void removeAt(int idx) {
+        int mask = keys.length - 1;
+        keys[idx] = EMPTY;
+        size--;
+        int next = (idx + 1) & mask;
+        while (keys[next] != EMPTY) {
+            long key = keys[next];
+            long expireAt = expireAts[next];
+            keys[next] = EMPTY;
+            int target = indexOf(key);
+            keys[target] = key;
+            expireAts[target] = expireAt;
+            next = (next + 1) & mask;
+        }
+    }
+
+    // 만료된 항목을 버리고, 남은 항목 수에 맞춰 크기 조정
+    private void rehash(long now) {
+        long[] oldKeys = keys;
+        long[] oldExpireAts = expireAts;
+
+        int live = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY && oldExpireAts[i] > now) live++;
+        }
+        int capacity = INITIAL_CAPACITY;
+        while (capacity < live * 4) {
+            capacity <<= 1;
+        }
+
+        keys = new long[capacity];
+        expireAts = new long[capacity];
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY && oldExpireAts[i] > now) {
+                int idx = indexOf(oldKeys[i]);
+                keys[idx] = oldKeys[i];
+                expireAts[idx] = oldExpireAts[i];
+                size++;
+            }
+        }
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,178 @@
+package com.handi.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.handi.backend.dto.meeting.EmployeeScheduleData;
+import com.handi.backend.dto.meeting.GuardianRequestData;
+import com.handi.backend.util.ScheduleCodec;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 단일 노드용 상담 일정 저장소 ( 키 → 직렬화된 값 + 만료 시각 )
+ * 값은 Redis 저장소와 같은 ScheduleCodec 바이트로 저장해서 예약 시 원본 비교 / 직렬화 비용이 같음
+ * reserve / release 는 Lua 스크립트와 같은 규칙을 synchronized 로 처리
+ */
+@Component
+@ConditionalOnProperty(name = "meeting.schedule.store", havingValue = "memory")
+public class InMemoryMeetingScheduleStore implements MeetingScheduleStore {
+
+    private final Map<String, Entry> entries = new HashMap<>();
+    private final ScheduleCodec<EmployeeScheduleData> employeeCodec;
+    private final ScheduleCodec<GuardianRequestData> guardianCodec;
+
+    public InMemoryMeetingScheduleStore(ObjectMapper objectMapper) {
+        this.employeeCodec = ScheduleCodec.employee(objectMapper);
+        this.guardianCodec = ScheduleCodec.guardian(objectMapper);
+    }
+
+    // 값 + 만료 시각 ( epoch ms, 0 이면 만료 없음 )
+    private record Entry(byte[] value, long expireAt) {
+
+        // 남은 만료 시간(ms), 만료 없으면 -1 ( Redis PTTL 과 같음 )
+        long ttl(long now) {
+            return expireAt > 0 ? expireAt - now : -1L;
+        }
+    }
+
+    @Override
+    public EmployeeScheduleData getEmployeeSchedule(Integer employeeId) {
+        return employeeCodec.deserialize(get(MeetingScheduleStore.employeeKey(employeeId)));
+    }
+
+    @Override
+    public Snapshot<EmployeeScheduleData> getEmployeeScheduleSnapshot(Integer employeeId) {
+        return snapshot(get(MeetingScheduleStore.employeeKey(employeeId)), employeeCodec);
+    }
+
+    @Override
+    public Map<Integer, Snapshot<EmployeeScheduleData>> getEmployeeScheduleSnapshots(Collection<Integer> employeeIds) {
+        return multiGet(employeeIds, EMPLOYEE_KEY_PREFIX, employeeCodec);
+    }
+
+    @Override
+    public GuardianRequestData getGuardianRequest(Integer seniorId) {
+        return guardianCodec.deserialize(get(MeetingScheduleStore.seniorRequestKey(seniorId)));
+    }
+
+    @Override
+    public Map<Integer, GuardianRequestData> getGuardianRequests(Collection<Integer> seniorIds) {
+        Map<Integer, GuardianRequestData> result = new LinkedHashMap<>();
+        getGuardianRequestSnapshots(seniorIds).forEach((seniorId, snapshot) -> result.put(seniorId, snapshot.data()));
+        return result;
+    }
+
+    @Override
+    public Map<Integer, Snapshot<GuardianRequestData>> getGuardianRequestSnapshots(Collection<Integer> seniorIds) {
+        return multiGet(seniorIds, SENIOR_REQUEST_KEY_PREFIX, guardianCodec);
+    }
+
+    @Override
+    public void saveEmployeeSchedule(Integer employeeId, EmployeeScheduleData data, Duration ttl) {
+        set(MeetingScheduleStore.employeeKey(employeeId), employeeCodec.serialize(data), ttl);
+    }
+
+    @Override
+    public void saveGuardianRequest(Integer seniorId, GuardianRequestData data, Duration ttl) {
+        set(MeetingScheduleStore.seniorRequestKey(seniorId), guardianCodec.serialize(data), ttl);
+    }
+
+    @Override
+    public synchronized Reservation reserve(Integer employeeId, byte[] expectedEmployee, EmployeeScheduleData updated,
+                                            Map<Integer, byte[]> consumedRequests) {
+        long now = System.currentTimeMillis();
+        String employeeKey = MeetingScheduleStore.employeeKey(employeeId);
+        Entry employee = live(employeeKey, now);
+        if (employee == null || !Arrays.equals(employee.value(), expectedEmployee)) {
+            return null;
+        }
+        for (Map.Entry<Integer, byte[]> request : consumedRequests.entrySet()) {
+            Entry current = live(MeetingScheduleStore.seniorRequestKey(request.getKey()), now);
+            if (current == null || !Arrays.equals(current.value(), request.getValue())) {
+                return null;
+            }
+        }
+
+        // 간호사 일정은 기존 만료 시각 유지, 보호자 요청은 삭제하면서 남은 만료 시간 기록
+        byte[] updatedEmployee = employeeCodec.serialize(updated);
+        entries.put(employeeKey, new Entry(updatedEmployee, employee.expireAt()));
+        Map<Integer, Long> requestTtls = new LinkedHashMap<>();
+        for (Integer seniorId : consumedRequests.keySet()) {
+            requestTtls.put(seniorId, entries.remove(MeetingScheduleStore.seniorRequestKey(seniorId)).ttl(now));
+        }
+        return new Reservation(employeeId, expectedEmployee, updatedEmployee,
+                new LinkedHashMap<>(consumedRequests), requestTtls);
+    }
+
+    @Override
+    public synchronized boolean release(Reservation reservation) {
+        long now = System.currentTimeMillis();
+        boolean restored = true;
+
+        String employeeKey = MeetingScheduleStore.employeeKey(reservation.employeeId());
+        Entry employee = live(employeeKey, now);
+        if (employee != null && Arrays.equals(employee.value(), reservation.updatedEmployee())) {
+            entries.put(employeeKey, new Entry(reservation.expectedEmployee(), employee.expireAt()));
+        } else {
+            restored = false;
+        }
+
+        // 그 사이 새 요청이 있으면 건드리지 않음
+        for (Map.Entry<Integer, byte[]> request : reservation.consumedRequests().entrySet()) {
+            String key = MeetingScheduleStore.seniorRequestKey(request.getKey());
+            if (live(key, now) != null) {
+                restored = false;
+                continue;
+            }
+            long ttl = reservation.requestTtls().getOrDefault(request.getKey(), -1L);
+            entries.put(key, new Entry(request.getValue(), ttl > 0 ? now + ttl : 0L));
+        }
+        return restored;
+    }
+
+    private synchronized byte[] get(String key) {
+        Entry entry = live(key, System.currentTimeMillis());
+        return entry != null ? entry.value() : null;
+    }
+
+    private synchronized void set(String key, byte[] value, Duration ttl) {
+        entries.put(key, new Entry(value, ttl != null ? System.currentTimeMillis() + ttl.toMillis() : 0L));
+    }
+
+    // 만료된 항목은 조회할 때 제거
+    private Entry live(String key, long now) {
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expireAt() > 0 && entry.expireAt() <= now) {
+            entries.remove(key);
+            return null;
+        }
+        return entry;
+    }
+
+    private synchronized <T> Map<Integer, Snapshot<T>> multiGet(Collection<Integer> ids, String prefix, ScheduleCodec<T> codec) {
+        Map<Integer, Snapshot<T>> result = new LinkedHashMap<>();
+        if (ids == null || ids.isEmpty()) {
+            return result;
+        }
+        long now = System.currentTimeMillis();
+        for (Integer id : ids) {
+            Entry entry = live(prefix + id, now);
+            Snapshot<T> snapshot = entry != null ? snapshot(entry.value(), codec) : null;
+            if (snapshot != null) {
+                result.put(id, snapshot);
+            }
+        }
+        return result;
+    }
+
+    private <T> Snapshot<T> snapshot(byte[] value, ScheduleCodec<T> codec) {
+        T data = codec.deserialize(value);
+        return data != null ? new Snapshot<>(data, value) : null;
+    }
+}
@@ -5,6 +5,7 @@ import com.handi.backend.dto.ai.drug.DrugSummaryRequest;
 import com.handi.backend.dto.common.PageResponseDto;
 import com.handi.backend.dto.medicationSchedules.CreateMedicationSchedulesRequestDto;
 import com.handi.backend.dto.medicationSchedules.UpdateMedicationSchedulesRequestDto;
+import com.handi.backend.dto.medicationSchedules.MedicationSchedulesProjection;
 import com.handi.backend.dto.medicationSchedules.MedicationSchedulesResponseDto;
 import com.handi.backend.entity.MedicationSchedules;
 import com.handi.backend.entity.Seniors;
@@ -188,20 +189,21 @@ public class MedicationSchedulesService {
         LocalDate start = dateTimeConverter.stringToLocalDate(startDate);
         LocalDate end = dateTimeConverter.stringToLocalDate(endDate);
 
-        Page<MedicationSchedules> page = medicationSchedulesRepository.findBySeniorIdAndMedicationEnddateGreaterThanEqualAndMedicationStartdateLessThanEqualAndIsDeletedFalse(seniorId, start, end, pageable);
+        // 환자 이름까지 projection 한 번으로 조회 ( 행마다 환자 엔티티 로딩 없음 )
+        Page<MedicationSchedulesProjection> page = medicationSchedulesRepository.findProjectionBySeniorIdAndDateRange(seniorId, start, end, pageable);
 
         List<MedicationSchedulesResponseDto> convertList = page.getContent().stream().map(schedule -> {
             MedicationSchedulesResponseDto dto = new MedicationSchedulesResponseDto();
-            dto.setId(schedule.getId());
-            dto.setSeniorId(schedule.getSenior().getId());
-            dto.setSeniorName(schedule.getSenior().getName());
-            dto.setMedicationName(schedule.getMedicationName());
-            dto.setStartDate(dateTimeConverter.localDateToString(schedule.getMedicationStartdate()));
-            dto.setEndDate(dateTimeConverter.localDateToString(schedule.getMedicationEnddate()));
-            dto.setDescription(schedule.getDescription());
-            dto.setMedicationTimes(schedule.getMedicationTime()); // 배열 그대로 반환
-            dto.setCreatedAt(dateTimeConverter.localDateTimeToString(schedule.getCreatedAt()));
-            dto.setUpdatedAt(dateTimeConverter.localDateTimeToString(schedule.getUpdatedAt()));
+            dto.setId(schedule.id());
+            dto.setSeniorId(schedule.seniorId());
+            dto.setSeniorName(schedule.seniorName());
+            dto.setMedicationName(schedule.medicationName());
+            dto.setStartDate(dateTimeConverter.localDateToString(schedule.startDate()));
+            dto.setEndDate(dateTimeConverter.localDateToString(schedule.endDate()));
+            dto.setDescription(schedule.description());
+            dto.setMedicationTimes(schedule.medicationTimes()); // 배열 그대로 반환
+            dto.setCreatedAt(dateTimeConverter.localDateTimeToString(schedule.createdAt()));
+            dto.setUpdatedAt(dateTimeConverter.localDateTimeToString(schedule.updatedAt()));
             return dto;
         }).toList();
 
@@ -2,30 +2,34 @@ package com.handi.backend.service;
 
 import com.handi.backend.converter.DateTimeConverter;
 import com.handi.backend.dto.common.PageResponseDto;
+import com.handi.backend.dto.common.SliceResponseDto;
 import com.handi.backend.dto.medication.*;
 import com.handi.backend.dto.medicationSchedules.CreateMedicationSchedulesRequestDto;
 import com.handi.backend.entity.*;
 import com.handi.backend.enums.MedicationTime;
 import com.handi.backend.exception.NotFoundException;
 import com.handi.backend.repository.*;
+import com.handi.backend.util.MedicationOccurrenceGenerator;
 import com.handi.backend.util.MinioUtil;
-import io.minio.GetPresignedObjectUrlArgs;
-import io.minio.MinioClient;
-import io.minio.http.Method;
+import com.handi.backend.util.PageCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
+import java.util.Map;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -33,16 +37,18 @@ import java.util.concurrent.TimeUnit;
 public class MedicationsService {
 
     private final UsersRepository usersRepository;
-    @Value("${minio.bucket}")
-    private String bucketName;
+    // materialized : 스케줄 생성 시 투약 내역 전체 저장 / virtual : 실제 투약한 것만 저장, 나머지는 스케줄로 계산
+    @Value("${medication.occurrence-mode:materialized}")
+    private String occurrenceMode;
 
     private final DateTimeConverter dateTimeConverter;
     private final MedicationsRepository medicationsRepository;
     private final MedicationSchedulesRepository medicationSchedulesRepository;
     private final MinioUtil minioUtil;
     private final SeniorsRepository seniorsRepository;
-    private final MinioClient minioClient;
+    private final PresignedUrlService presignedUrlService;
     private final OrganizationsRepository organizationsRepository;
+    private final AlertService alertService;
 
     // 투약 내역 전체 조회
     public MedicationsResponseDto findBySchedulesId(Integer schedulesId) {
@@ -53,7 +59,9 @@ public class MedicationsService {
                 () -> new NotFoundException("해당 환자가 없습니다.")
         );
 
-        List<Medications> list = medicationsRepository.findByMedicationSchedules(med);
+        // 저장된 투약 내역 + 아직 저장되지 않은 투약 예정
+        List<Medications> list = MedicationOccurrenceGenerator.merge(
+                med, medicationsRepository.findByMedicationSchedules(med), med.getMedicationStartdate(), med.getMedicationEnddate());
         if(list.isEmpty()) throw new NotFoundException("해당 스케줄의 투약 내역이 없습니다.");
 
         MedicationsResponseDto result = new MedicationsResponseDto();
@@ -62,6 +70,10 @@ public class MedicationsService {
         result.setSeniorName(senior.getName());
         result.setMedicationName(med.getMedicationName());
 
+        // 사진 URL 은 한 번에 서명 ( 캐시에 있는 것은 재사용 )
+        Map<String, String> presignedUrls = presignedUrlService.getUrls(
+                list.stream().map(Medications::getMedicationPhotoPath).toList());
+
         for(Medications medications : list) {
             MedicationsDto dto = new MedicationsDto();
             dto.setId(medications.getId());
@@ -73,19 +85,7 @@ public class MedicationsService {
             dto.setMedicationDate(dateTimeConverter.localDateToString(medications.getMedicationDate()));
 
             if(medications.getMedicationPhotoPath() != null) {
-                String presignedUrl;
-                try {
-                    presignedUrl = minioClient.getPresignedObjectUrl(
-                            GetPresignedObjectUrlArgs.builder()
-                                    .method(Method.GET)
-                                    .bucket(bucketName)
-                                    .object(medications.getMedicationPhotoPath())
-                                    .expiry(1, TimeUnit.DAYS)
-                                    .build()
-                    );
-                } catch (Exception e) {
-                    throw new RuntimeException(e);
-                }
+                String presignedUrl = presignedUrls.get(medications.getMedicationPhotoPath());
 
                 dto.setMedicationPhotoPath(presignedUrl);
             }
@@ -100,30 +100,37 @@ public class MedicationsService {
 
 
 
-    // 투약 스케줄 생성 시 그 아래 투약 내역 미리 모두 생성
+    // 투약 스케줄 생성 시 그 아래 투약 내역 미리 모두 생성 ( virtual 모드에서는 생성하지 않음 )
+    // 건별 save 대신 JDBC batch 로 저장 ( 1000건당 왕복 2번 )
+    @Transactional
     public void createBySchedulesId(Integer id, CreateMedicationSchedulesRequestDto requestDto) {
 
         MedicationSchedules medicationSchedules = medicationSchedulesRepository.findById(id).orElseThrow(
                 () -> new NotFoundException("해당 투약 스케줄이 없습니다.")
         );
 
-
         LocalDate startDate = dateTimeConverter.stringToLocalDate(requestDto.getStartDate());
-        LocalDate endDate = dateTimeConverter.stringToLocalDate(requestDto.getEndDate()).plusDays(1);
-
-        // 날짜 늘려가면서 생성
-        while (startDate.isBefore(endDate)) {
-            // 각 시간별로 체크
-            for (String timeStr : requestDto.getMedicationTime()) {
-                Medications medications = new Medications();
-                medications.setMedicationSchedules(medicationSchedules);
-                medications.setMedicationPhotoPath(null);
-                medications.setMedicatedAt(null);
-                medications.setMedicationDate(startDate);
-                medications.setMedicationSchedule(MedicationTime.valueOf(timeStr));
-                medicationsRepository.save(medications); // 저장
-            }
-            startDate = startDate.plusDays(1); // 다음 날짜로 이동
+        LocalDate endDate = dateTimeConverter.stringToLocalDate(requestDto.getEndDate());
+
+        if (!isVirtualMode()) {
+            long start = System.currentTimeMillis();
+            int inserted = medicationsRepository.bulkInsert(
+                    medicationSchedules.getId(),
+                    MedicationOccurrenceGenerator.generate(startDate, endDate, requestDto.getMedicationTime()));
+            log.info("투약 내역 생성 : scheduleId={}, {}일, {}건, {}ms",
+                    id, ChronoUnit.DAYS.between(startDate, endDate) + 1, inserted, System.currentTimeMillis() - start);
+        }
+
+        // 복약 알림 예약 ( 오늘 분만, 다음 날부터는 자정 알림 큐 재구성에서 예약 )
+        LocalDate today = LocalDate.now();
+        if (today.isBefore(startDate) || today.isAfter(endDate)) return;
+
+        Seniors senior = seniorsRepository.findById(medicationSchedules.getSenior().getId()).orElse(null);
+        if (senior != null && senior.getOrganization() != null) {
+            List<Medications> todayMedications = MedicationOccurrenceGenerator.merge(medicationSchedules,
+                    medicationsRepository.findByMedicationSchedulesAndMedicationDate(medicationSchedules, today), today, today);
+            organizationsRepository.findById(senior.getOrganization().getId())
+                    .ifPresent(org -> alertService.scheduleMedicationAlerts(todayMedications, org));
         }
 
     }
@@ -132,6 +139,36 @@ public class MedicationsService {
         Medications medications = medicationsRepository.findById(id).orElseThrow(
                 () -> new NotFoundException("해당 투약 스케줄이 없습니다."));
 
+        uploadFile(medications, requestDto);
+    }
+
+    // 아직 저장되지 않은 투약 예정에 사진 업로드 ( 이때 투약 내역 저장 )
+    // 동시에 올려도 한 건만 저장되도록 ON CONFLICT DO NOTHING 으로 넣고 다시 조회
+    @Transactional
+    public void uploadFileBySchedule(Integer schedulesId, String medicationDate, MedicationTime medicationTime,
+                                     MedicationUploadRequestDto requestDto) throws Exception {
+        MedicationSchedules schedule = medicationSchedulesRepository.findById(schedulesId).orElseThrow(
+                () -> new NotFoundException("해당 투약 스케줄이 없습니다."));
+
+        LocalDate date = dateTimeConverter.stringToLocalDate(medicationDate);
+        if (date == null || medicationTime == null || !MedicationOccurrenceGenerator.isScheduled(schedule, date, medicationTime)) {
+            throw new IllegalArgumentException("해당 스케줄에 없는 투약 날짜 / 시간대입니다.");
+        }
+
+        Medications medications = medicationsRepository
+                .findFirstByMedicationSchedulesAndMedicationDateAndMedicationSchedule(schedule, date, medicationTime)
+                .orElse(null);
+        if (medications == null) {
+            medicationsRepository.bulkInsert(schedule.getId(), Stream.of(new MedicationOccurrence(date, medicationTime)));
+            medications = medicationsRepository
+                    .findFirstByMedicationSchedulesAndMedicationDateAndMedicationSchedule(schedule, date, medicationTime)
+                    .orElseThrow(() -> new NotFoundException("해당 투약 내역이 없습니다."));
+        }
+
+        uploadFile(medications, requestDto);
+    }
+
+    private void uploadFile(Medications medications, MedicationUploadRequestDto requestDto) throws Exception {
         Seniors seniors = seniorsRepository.findByIdAndIsDeletedFalse(requestDto.getSeniorId()).orElseThrow(
                 () -> new NotFoundException("해당 환자를 찾을 수 없습니다."));
 
@@ -139,8 +176,14 @@ public class MedicationsService {
             throw new NotFoundException("파일이 존재하지 않거나 잘못된 형식의 파일입니다");
         }
 
-        String filepath = minioUtil.uploadMedicationFile(seniors.getId(), id, requestDto.getMultipartFile());
+        // 가상 투약 예정이면 파일 경로에 쓸 ID 를 위해 먼저 저장
+        if (medications.getId() == null) {
+            medications = medicationsRepository.save(medications);
+        }
+
+        String filepath = minioUtil.uploadMedicationFile(seniors.getId(), medications.getId(), requestDto.getMultipartFile());
 
+        presignedUrlService.evict(medications.getMedicationPhotoPath());
         medications.setMedicationPhotoPath(filepath);
         medications.setMedicatedAt(LocalDateTime.now());
         medicationsRepository.save(medications);
@@ -158,20 +201,7 @@ public class MedicationsService {
         MedicationOneResponseDto dto = new MedicationOneResponseDto();
 
         if(medications.getMedicationPhotoPath() != null) {
-            String presignedUrl;
-
-            try {
-                presignedUrl = minioClient.getPresignedObjectUrl(
-                        GetPresignedObjectUrlArgs.builder()
-                                .method(Method.GET)
-                                .bucket(bucketName)
-                                .object(medications.getMedicationPhotoPath())
-                                .expiry(1, TimeUnit.DAYS)
-                                .build()
-                );
-            } catch (Exception e) {
-                throw new RuntimeException(e);
-            }
+            String presignedUrl = presignedUrlService.getUrl(medications.getMedicationPhotoPath());
             dto.setMedicationPhotoPath(presignedUrl);
         }
 
@@ -196,85 +226,94 @@ public class MedicationsService {
         return dto;
     }
 
+    // 간호사 담당 환자의 오늘 복약 목록 ( 쿼리 1번 + count 1번, DB 페이징 )
     public PageResponseDto<MedicationTodayResponseDto> getTodayMedications(Users user, Pageable pageable) {
         LocalDate today = LocalDate.now();
 
-        // 간호사 담당 환자 조회
-        List<Seniors> seniors = seniorsRepository.findByRelatedUserId(user.getId());
+        // 정렬은 쿼리에서 시간대 순으로 고정
+        Pageable pageRequest = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        Page<TodayMedicationView> rows = medicationsRepository.findTodayByUserId(user.getId(), today, pageRequest);
 
-        // 오늘 복약 내역 ( result )
-        List<Medications> TodayMedications = new ArrayList<>();
+        List<MedicationTodayResponseDto> result = toTodayDtos(rows.getContent(), user, today);
 
-        // 각 환자마자 스케줄 찾기
-        for (Seniors senior : seniors) {
-            // 환자를 기반으로 스케줄 전체 조회
-            List<MedicationSchedules> schedules = medicationSchedulesRepository.findBySenior(senior);
+        return PageResponseDto.from("오늘 복약 내역 조회 성공", rows, result);
+    }
 
-            // 스케줄마다 복약내역 찾기
-            for(MedicationSchedules schedule : schedules) {
-                // 스케줄 기반으로 복약내역 전체 조회
-                List<Medications> medications = medicationsRepository.findByMedicationSchedules(schedule);
+    // 커서 조회 ( 무한 스크롤, 시간대 / 환자 / 스케줄 순, COUNT 없음 )
+    public SliceResponseDto<MedicationTodayResponseDto> getTodayMedicationsByCursor(Users user, String cursor, Integer size) {
+        LocalDate today = LocalDate.now();
 
-                // 그 복약 내역이 오늘이니
-                for(Medications m : medications) {
-                    if(m.getMedicationDate().isEqual(today)) {
-                        TodayMedications.add(m);
-                    }
-                }
-            }
+        // 커서 = ( 시간대 순서, 환자 ID, 스케줄 ID ), 없으면 처음부터
+        PageCursor position = PageCursor.decode(cursor, 3);
+        int slot = position != null ? position.getInt(0) : 0;
+        int seniorId = position != null ? position.getInt(1) : 0;
+        int schedulesId = position != null ? position.getInt(2) : 0;
+
+        Slice<TodayMedicationView> rows = medicationsRepository.findTodaySliceByUserId(
+                user.getId(), today, slot, seniorId, schedulesId, PageCursor.slice(size));
+
+        List<MedicationTodayResponseDto> result = toTodayDtos(rows.getContent(), user, today);
+
+        String nextCursor = null;
+        if (rows.hasContent()) {
+            TodayMedicationView last = rows.getContent().get(rows.getNumberOfElements() - 1);
+            // 쿼리의 array_position 과 같은 1부터 시작하는 순서
+            nextCursor = PageCursor.encode(last.getMedicationTime().ordinal() + 1, last.getSeniorId(), last.getSchedulesId());
         }
+        return SliceResponseDto.from("오늘 복약 내역 조회 성공", rows, result, nextCursor);
+    }
 
-        List<MedicationTodayResponseDto> result = new ArrayList<>();
+    private List<MedicationTodayResponseDto> toTodayDtos(List<TodayMedicationView> rows, Users user, LocalDate today) {
+        // 기관 식사 시간은 한 번만 조회
+        Organizations org = rows.isEmpty() ? null : organizationsRepository.findById(user.getOrganizationId())
+                .orElseThrow(() -> new NotFoundException("해당 간호사가 속한 기관이 없습니다."));
 
-        for(Medications med : TodayMedications) {
-            MedicationSchedules schedules = med.getMedicationSchedules();
-            Seniors senior = schedules.getSenior();
+        Map<String, String> presignedUrls = presignedUrlService.getUrls(
+                rows.stream().map(TodayMedicationView::getMedicationPhotoPath).toList());
 
+        List<MedicationTodayResponseDto> result = new ArrayList<>();
+        for (TodayMedicationView row : rows) {
             MedicationTodayResponseDto dto = new MedicationTodayResponseDto();
-            dto.setId(med.getId());
-            dto.setSchedulesId(schedules.getId());
-            dto.setSeniorId(senior.getId());
-            dto.setSeniorName(senior.getName());
-            if(med.getMedicationPhotoPath() != null) {
-                String presignedUrl;
-
-                try {
-                    presignedUrl = minioClient.getPresignedObjectUrl(
-                            GetPresignedObjectUrlArgs.builder()
-                                    .method(Method.GET)
-                                    .bucket(bucketName)
-                                    .object(med.getMedicationPhotoPath())
-                                    .expiry(1, TimeUnit.DAYS)
-                                    .build()
-                    );
-                } catch (Exception e) {
-                    throw new RuntimeException(e);
-                }
-                dto.setMedicationName(schedules.getMedicationName());
+            dto.setId(row.getId());
+            dto.setSchedulesId(row.getSchedulesId());
+            dto.setSeniorId(row.getSeniorId());
+            dto.setSeniorName(row.getSeniorName());
+            dto.setMedicationName(row.getMedicationName());
+            if(row.getMedicationPhotoPath() != null) {
+                String presignedUrl = presignedUrls.get(row.getMedicationPhotoPath());
                 dto.setMedicationPhotoPath(presignedUrl);
-                dto.setMedicatedAt(dateTimeConverter.localDateTimeToString(med.getMedicatedAt()));
+                dto.setMedicatedAt(dateTimeConverter.localDateTimeToString(row.getMedicatedAt()));
             }
             else {
                 dto.setMedicationPhotoPath(null);
                 dto.setMedicatedAt(null);
             }
 
-            dto.setMedicationDate(dateTimeConverter.localDateToString(med.getMedicationDate()));
-            dto.setMedicationTime(med.getMedicationSchedule());
-
-            Organizations org = organizationsRepository.findById(user.getOrganizationId()).orElseThrow(()->new NotFoundException("해당 간호사가 속한 기관이 없습니다."));
-            if(med.getMedicationSchedule().equals(MedicationTime.BEFORE_BREAKFAST)) dto.setMedicationExactTime(dateTimeConverter.localTimeToString(org.getBreakfastTime().minusMinutes(30)));
-            else if(med.getMedicationSchedule().equals(MedicationTime.AFTER_BREAKFAST)) dto.setMedicationExactTime(dateTimeConverter.localTimeToString(org.getBreakfastTime().plusMinutes(30)));
-            else if(med.getMedicationSchedule().equals(MedicationTime.BEFORE_LUNCH)) dto.setMedicationExactTime(dateTimeConverter.localTimeToString(org.getLunchTime().minusMinutes(30)));
-            else if(med.getMedicationSchedule().equals(MedicationTime.AFTER_LUNCH)) dto.setMedicationExactTime(dateTimeConverter.localTimeToString(org.getLunchTime().plusMinutes(30)));
-            else if(med.getMedicationSchedule().equals(MedicationTime.BEFORE_DINNER)) dto.setMedicationExactTime(dateTimeConverter.localTimeToString(org.getDinnerTime().minusMinutes(30)));
-            else if(med.getMedicationSchedule().equals(MedicationTime.AFTER_DINNER)) dto.setMedicationExactTime(dateTimeConverter.localTimeToString(org.getDinnerTime().plusMinutes(30)));
-            else if(med.getMedicationSchedule().equals(MedicationTime.BEDTIME)) dto.setMedicationExactTime(dateTimeConverter.localTimeToString(org.getSleepTime().minusMinutes(30)));
+            dto.setMedicationDate(dateTimeConverter.localDateToString(today));
+            dto.setMedicationTime(row.getMedicationTime());
+            dto.setCreatedAt(dateTimeConverter.localDateTimeToString(row.getCreatedAt()));
+            dto.setUpdatedAt(dateTimeConverter.localDateTimeToString(row.getUpdatedAt()));
+            dto.setMedicationExactTime(dateTimeConverter.localTimeToString(medicationExactTime(row.getMedicationTime(), org)));
             result.add(dto);
-
         }
 
-        Page<MedicationTodayResponseDto> page = new PageImpl<>(result, pageable, result.size());
-        return PageResponseDto.from("오늘 복약 내역 조회 성공", page, result);
+        return result;
+    }
+
+    // 기관 식사 시간에 맞춘 복용 시각 ( 식전/취침전 : 30분 전, 식후 : 30분 후 )
+    private LocalTime medicationExactTime(MedicationTime time, Organizations org) {
+        return switch (time) {
+            case BEFORE_BREAKFAST -> org.getBreakfastTime().minusMinutes(30);
+            case AFTER_BREAKFAST -> org.getBreakfastTime().plusMinutes(30);
+            case BEFORE_LUNCH -> org.getLunchTime().minusMinutes(30);
+            case AFTER_LUNCH -> org.getLunchTime().plusMinutes(30);
+            case BEFORE_DINNER -> org.getDinnerTime().minusMinutes(30);
+            case AFTER_DINNER -> org.getDinnerTime().plusMinutes(30);
+            case BEDTIME -> org.getSleepTime().minusMinutes(30);
+        };
+    }
+
+    private boolean isVirtualMode() {
+        return "virtual".equalsIgnoreCase(occurrenceMode);
     }
 }
@@ -2,6 +2,7 @@ package com.handi.backend.service;
 
 import com.handi.backend.converter.DateTimeConverter;
 import com.handi.backend.dto.common.PageResponseDto;
+import com.handi.backend.dto.common.SliceResponseDto;
 import com.handi.backend.dto.meeting.*;
 import com.handi.backend.dto.observation.record.Guardian;
 import com.handi.backend.dto.observation.record.Nurse;
@@ -15,10 +16,12 @@ import com.handi.backend.exception.NotFoundException;
 import com.handi.backend.repository.MeetingMatchesRepository;
 import com.handi.backend.repository.SeniorsRepository;
 import com.handi.backend.repository.UsersRepository;
+import com.handi.backend.util.PageCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
@@ -33,6 +36,7 @@ public class MeetingMatchesService {
     private final MeetingMatchesRepository meetingMatchesRepository;
     private final UsersRepository usersRepository;
     private final SeniorsRepository seniorsRepository;
+    private final AlertService alertService;
 
     public MeetingMatchesResponseDto findById(Integer id, Users user) {
         MeetingMatches meetingMatches = meetingMatchesRepository.findById(id).orElseThrow(
@@ -158,6 +162,9 @@ public class MeetingMatchesService {
         meetingMatches.setUpdatedAt(LocalDateTime.now());
         MeetingMatches mm = meetingMatchesRepository.save(meetingMatches);
 
+        // 취소된 상담은 알림 예약 취소
+        alertService.rescheduleMeetingAlert(mm);
+
         MeetingMatchesStatusDto dto = new MeetingMatchesStatusDto();
         dto.setId(mm.getId());
         dto.setStatus(mm.getStatus());
@@ -197,6 +204,8 @@ public class MeetingMatchesService {
 
         MeetingMatches meetingMatches = meetingMatchesRepository.save(NewmeetingMatches);
 
+        // 상담 알림 예약
+        alertService.scheduleMeetingAlert(meetingMatches);
 
         Senior senior = new Senior();
         senior.setId(nowSeniors.getId());
@@ -246,66 +255,93 @@ public class MeetingMatchesService {
     }
 
     public PageResponseDto<MeetingMatchesResponseDto> findByMeetingType(Users user, String meetingType, Pageable pageable, String startDate, String endDate) {
-        LocalDateTime start;
-        LocalDate startLocalDate = dateTimeConverter.stringToLocalDate(startDate);
-        if(startLocalDate != null) start = startLocalDate.atStartOfDay();
-        else start = LocalDateTime.now().minusYears(100);
-
-        LocalDateTime end;
-        LocalDate endLocalDate = dateTimeConverter.stringToLocalDate(endDate);
-        if(endLocalDate != null) end = endLocalDate.atTime(23,59,59);
-        else end = LocalDateTime.now().plusYears(100);
+        LocalDateTime start = rangeStart(startDate);
+        LocalDateTime end = rangeEnd(endDate);
 
-        Page<MeetingMatches> page;
-        if(user.getRole().equals(Role.EMPLOYEE)) page = meetingMatchesRepository.findByEmployeeAndMeetingTypeAndMeetingTimeBetweenOrderByMeetingTimeAsc(user, meetingType, start, end, pageable);
-        else if(user.getRole().equals(Role.GUARDIAN)) page = meetingMatchesRepository.findByGuardianAndMeetingTypeAndMeetingTimeBetweenOrderByMeetingTimeAsc(user,meetingType, start, end, pageable);
+        // 간호사 / 보호자 / 시니어를 조인한 projection 한 번으로 조회 ( 행마다 연관 엔티티 로딩 없음 )
+        Page<MeetingMatchesProjection> page;
+        if(user.getRole().equals(Role.EMPLOYEE)) page = meetingMatchesRepository.findProjectionByEmployee(user.getId(), meetingType, start, end, pageable);
+        else if(user.getRole().equals(Role.GUARDIAN)) page = meetingMatchesRepository.findProjectionByGuardian(user.getId(), meetingType, start, end, pageable);
         else throw new IllegalArgumentException("지원되지 않는 역할입니다.");
 
-        List<MeetingMatchesResponseDto> dtoList = page.getContent().stream().map(meetingMatches -> {
-            Users nowNurse = meetingMatches.getEmployee();
-            Users nowGuardian = meetingMatches.getGuardian();
-            Seniors nowSeniors = meetingMatches.getSenior();
-
-            Senior senior = new Senior();
-            senior.setId(nowSeniors.getId());
-            senior.setName(nowSeniors.getName());
-            senior.setGender(nowSeniors.getGender());
-            senior.setNote(nowSeniors.getNote());
-            senior.setAge(LocalDateTime.now().getYear() - nowSeniors.getBirthDate().getYear() + 1);
-
-            Nurse nurse = new Nurse();
-            nurse.setId(nowNurse.getId());
-            nurse.setName(nowNurse.getName());
-            nurse.setEmail(nowNurse.getEmail());
-            nurse.setPhoneNumber(nowNurse.getPhoneNumber());
-
-            Guardian guardian = new Guardian();
-            guardian.setId(nowGuardian.getId());
-            guardian.setName(nowGuardian.getName());
-            guardian.setEmail(nowGuardian.getEmail());
-            guardian.setPhoneNumber(nowGuardian.getPhoneNumber());
-
-            MeetingMatchesResponseDto dto = new MeetingMatchesResponseDto();
-            dto.setId(meetingMatches.getId());
-            dto.setNurse(nurse);
-            dto.setGuardian(guardian);
-            dto.setSenior(senior);
-            dto.setMeetingTime(dateTimeConverter.localDateTimeToString(meetingMatches.getMeetingTime()));
-            dto.setStatus(meetingMatches.getStatus().toString());
-            dto.setTitle(meetingMatches.getTitle());
-            dto.setMeetingType(meetingMatches.getMeetingType());
-            dto.setContent(meetingMatches.getContent());
-            dto.setClassification(meetingMatches.getClassification());
-            dto.setHospitalName(meetingMatches.getHospitalName());
-            dto.setDoctorName(meetingMatches.getDoctorName());
-            dto.setStartedAt(dateTimeConverter.localDateTimeToString(meetingMatches.getStartedAt()));
-            dto.setEndedAt(dateTimeConverter.localDateTimeToString(meetingMatches.getEndedAt()));
-
-            return dto;
-        }).toList();
+        List<MeetingMatchesResponseDto> dtoList = page.getContent().stream().map(this::toResponseDto).toList();
 
         return PageResponseDto.from("상담 목록을 성공적으로 조회했습니다.", page, dtoList);
     }
 
+    // 커서 조회 ( 무한 스크롤, 상담 시간순, COUNT 없음 )
+    public SliceResponseDto<MeetingMatchesResponseDto> findByMeetingTypeByCursor(Users user, String meetingType, String cursor, Integer size, String startDate, String endDate) {
+        PageCursor position = PageCursor.decode(cursor, 2);
+        // 커서가 없으면 시작 날짜부터 ( ID 는 1부터라서 0 이면 같은 시각도 포함 )
+        LocalDateTime afterTime = position != null ? position.getDateTime(0) : rangeStart(startDate);
+        Integer afterId = position != null ? position.getInt(1) : 0;
+        LocalDateTime end = rangeEnd(endDate);
+
+        Slice<MeetingMatchesProjection> slice;
+        if(user.getRole().equals(Role.EMPLOYEE)) slice = meetingMatchesRepository.findSliceByEmployee(user.getId(), meetingType, afterTime, afterId, end, PageCursor.slice(size));
+        else if(user.getRole().equals(Role.GUARDIAN)) slice = meetingMatchesRepository.findSliceByGuardian(user.getId(), meetingType, afterTime, afterId, end, PageCursor.slice(size));
+        else throw new IllegalArgumentException("지원되지 않는 역할입니다.");
+
+        List<MeetingMatchesResponseDto> dtoList = slice.getContent().stream().map(this::toResponseDto).toList();
+
+        String nextCursor = null;
+        if (slice.hasContent()) {
+            MeetingMatchesProjection last = slice.getContent().get(slice.getNumberOfElements() - 1);
+            nextCursor = PageCursor.encode(last.meetingTime(), last.id());
+        }
+        return SliceResponseDto.from("상담 목록을 성공적으로 조회했습니다.", slice, dtoList, nextCursor);
+    }
+
+    private MeetingMatchesResponseDto toResponseDto(MeetingMatchesProjection meetingMatches) {
+        Senior senior = new Senior();
+        senior.setId(meetingMatches.seniorId());
+        senior.setName(meetingMatches.seniorName());
+        senior.setGender(meetingMatches.seniorGender());
+        senior.setNote(meetingMatches.seniorNote());
+        senior.setAge(LocalDateTime.now().getYear() - meetingMatches.seniorBirthDate().getYear() + 1);
+
+        Nurse nurse = new Nurse();
+        nurse.setId(meetingMatches.employeeId());
+        nurse.setName(meetingMatches.employeeName());
+        nurse.setEmail(meetingMatches.employeeEmail());
+        nurse.setPhoneNumber(meetingMatches.employeePhoneNumber());
+
+        Guardian guardian = new Guardian();
+        guardian.setId(meetingMatches.guardianId());
+        guardian.setName(meetingMatches.guardianName());
+        guardian.setEmail(meetingMatches.guardianEmail());
+        guardian.setPhoneNumber(meetingMatches.guardianPhoneNumber());
+
+        MeetingMatchesResponseDto dto = new MeetingMatchesResponseDto();
+        dto.setId(meetingMatches.id());
+        dto.setNurse(nurse);
+        dto.setGuardian(guardian);
+        dto.setSenior(senior);
+        dto.setMeetingTime(dateTimeConverter.localDateTimeToString(meetingMatches.meetingTime()));
+        dto.setStatus(meetingMatches.status().toString());
+        dto.setTitle(meetingMatches.title());
+        dto.setMeetingType(meetingMatches.meetingType());
+        dto.setContent(meetingMatches.content());
+        dto.setClassification(meetingMatches.classification());
+        dto.setHospitalName(meetingMatches.hospitalName());
+        dto.setDoctorName(meetingMatches.doctorName());
+        dto.setStartedAt(dateTimeConverter.localDateTimeToString(meetingMatches.startedAt()));
+        dto.setEndedAt(dateTimeConverter.localDateTimeToString(meetingMatches.endedAt()));
+
+        return dto;
+    }
+
+    private LocalDateTime rangeStart(String startDate) {
+        LocalDate startLocalDate = dateTimeConverter.stringToLocalDate(startDate);
+        if(startLocalDate != null) return startLocalDate.atStartOfDay();
+        return LocalDateTime.now().minusYears(100);
+    }
+
+    private LocalDateTime rangeEnd(String endDate) {
+        LocalDate endLocalDate = dateTimeConverter.stringToLocalDate(endDate);
+        if(endLocalDate != null) return endLocalDate.atTime(23,59,59);
+        return LocalDateTime.now().plusYears(100);
+    }
+
 
 }
@@ -0,0 +1,110 @@
+package com.handi.backend.service;
+
+import com.handi.backend.converter.DateTimeConverter;
+import com.handi.backend.dto.meeting.MatchedMeeting;
+import com.handi.backend.entity.MeetingMatches;
+import com.handi.backend.enums.ConsultationStatus;
+import com.handi.backend.repository.MeetingMatchesRepository;
+import com.handi.backend.repository.SeniorsRepository;
+import com.handi.backend.repository.UsersRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 매칭 결과 일괄 저장
+ * - 간호사 / 보호자 / 시니어는 조회 없이 참조만 사용 ( ID 는 Redis 데이터에 이미 있음 )
+ * - 상담 제목용 시니어 이름은 묶음 단위로 IN 쿼리 1회
+ * - INSERT 는 JDBC 배치로 한 번에 전송 ( spring.jpa.properties.hibernate.jdbc.batch_size )
+ * 트랜잭션은 호출하는 쪽에서 관리
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MeetingMatchesWriter {
+
+    private final DateTimeConverter dateTimeConverter;
+    private final UsersRepository usersRepository;
+    private final SeniorsRepository seniorsRepository;
+    private final MeetingMatchesRepository meetingMatchesRepository;
+    private final EntityManager entityManager;
+
+    /**
+     * 시니어 ID → 이름 ( 없는 시니어는 빠짐 )
+     */
+    public Map<Integer, String> findSeniorNames(Collection<Integer> seniorIds) {
+        Map<Integer, String> names = new HashMap<>();
+        if (seniorIds.isEmpty()) {
+            return names;
+        }
+        for (Object[] row : seniorsRepository.findIdAndNameByIdIn(seniorIds)) {
+            names.put((Integer) row[0], (String) row[1]);
+        }
+        return names;
+    }
+
+    /**
+     * 저장할 수 있는 매칭만 남기기 ( 시니어를 찾지 못한 매칭 하나 때문에 간호사 전체가 실패하지 않도록 )
+     */
+    public List<MatchedMeeting> storable(List<MatchedMeeting> matches, Map<Integer, String> seniorNames) {
+        List<MatchedMeeting> result = new ArrayList<>(matches.size());
+        for (MatchedMeeting match : matches) {
+            if (seniorNames.containsKey(match.getSeniorId())) {
+                result.add(match);
+            } else {
+                log.warn("시니어를 찾을 수 없어 매칭 저장을 건너뜁니다: employeeId={}, seniorId={}, meetingTime={}",
+                        match.getEmployeeId(), match.getSeniorId(), match.getMeetingTime());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 매칭 결과 저장 후 바로 flush ( 저장 실패가 Redis 예약 전에 드러나도록 )
+     *
+     * @return 저장된 엔티티 ( ID, 상담 시간만 사용, 영속성 컨텍스트에서는 분리됨 )
+     */
+    public List<MeetingMatches> write(List<MatchedMeeting> matches, Map<Integer, String> seniorNames, String algorithmInfo) {
+        List<MeetingMatches> entities = new ArrayList<>(matches.size());
+        for (MatchedMeeting match : matches) {
+            entities.add(toEntity(match, seniorNames.get(match.getSeniorId()), algorithmInfo));
+        }
+        if (entities.isEmpty()) {
+            return entities;
+        }
+
+        try {
+            List<MeetingMatches> saved = meetingMatchesRepository.saveAll(entities);
+            entityManager.flush();
+            log.info("매칭 결과 DB 저장 완료: employeeId={}, {}건", matches.get(0).getEmployeeId(), saved.size());
+            return saved;
+        } finally {
+            // 간호사마다 비워서 밤새 쌓이지 않도록 ( 실패한 INSERT 가 다음 flush 에 다시 나가지 않도록 )
+            entityManager.clear();
+        }
+    }
+
+    private MeetingMatches toEntity(MatchedMeeting match, String seniorName, String algorithmInfo) {
+        MeetingMatches meetingMatch = new MeetingMatches();
+        meetingMatch.setEmployee(usersRepository.getReferenceById(match.getEmployeeId()));
+        meetingMatch.setGuardian(usersRepository.getReferenceById(match.getGuardianId()));
+        meetingMatch.setSenior(seniorsRepository.getReferenceById(match.getSeniorId()));
+        meetingMatch.setMeetingTime(dateTimeConverter.stringToLocalDateTime(match.getMeetingTime()));
+        meetingMatch.setCreatedAt(dateTimeConverter.stringToLocalDateTime(match.getMatchedAt()));
+        meetingMatch.setStatus(ConsultationStatus.CONDUCTED);
+        meetingMatch.setAlgorithmInfo(algorithmInfo);
+        meetingMatch.setTitle(seniorName + " 님의 상담입니다.");
+
+        // 시작 + 끝 시간 추가
+        meetingMatch.setStartedAt(meetingMatch.getMeetingTime().minusMinutes(20));
+        meetingMatch.setEndedAt(meetingMatch.getMeetingTime().plusMinutes(40));
+        return meetingMatch;
+    }
+}
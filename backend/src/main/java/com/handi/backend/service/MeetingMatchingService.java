@@ -1,29 +1,42 @@
 package com.handi.backend.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.handi.backend.converter.DateTimeConverter;
 import com.handi.backend.dto.meeting.EmployeeScheduleData;
 import com.handi.backend.dto.meeting.GuardianRequestData;
 import com.handi.backend.dto.meeting.MatchedMeeting;
 import com.handi.backend.entity.MeetingMatches;
-import com.handi.backend.entity.Seniors;
 import com.handi.backend.entity.Users;
-import com.handi.backend.enums.ConsultationStatus;
-import com.handi.backend.exception.NotFoundException;
-import com.handi.backend.repository.MeetingMatchesRepository;
-import com.handi.backend.repository.SeniorsRepository;
 import com.handi.backend.repository.UsersRepository;
 import com.handi.backend.enums.Role;
+import com.handi.backend.service.job.JobResult;
+import com.handi.backend.service.job.JobRunner;
+import com.handi.backend.service.job.JobSpec;
+import com.handi.backend.service.matching.MatchingEngine;
+import com.handi.backend.service.matching.MatchingPartitioner;
+import com.handi.backend.util.SlotCalendar;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 @Service
@@ -31,49 +44,94 @@ import java.util.stream.Collectors;
 @Slf4j
 public class MeetingMatchingService {
 
+    private static final int MAX_RESERVE_ATTEMPTS = 3;  // 예약 충돌 시 재시도 횟수
+    private static final String LAST_DATE = "99991231";  // 끝 날짜 제한 없음
+
+    // 자정 일괄 매칭 ( 노드 하나만, 끝난 뒤 30분 동안은 다른 노드에서도 다시 실행하지 않음 )
+    private static final JobSpec MATCHING_JOB = new JobSpec("meeting-matching", Duration.ofMinutes(5), Duration.ofMinutes(30), true);
+
     private final DateTimeConverter dateTimeConverter;
-    private final RedisTemplate<String, Object> redisTemplate;
-    private final ObjectMapper objectMapper;
+    private final MeetingScheduleStore meetingScheduleStore;
+    private final TransactionTemplate transactionTemplate;
     private final UsersRepository usersRepository;
-    private final SeniorsRepository seniorsRepository;
-    private final MeetingMatchesRepository meetingMatchesRepository;
+    private final MeetingMatchesWriter meetingMatchesWriter;
+    private final AlertService alertService;
+    private final List<MatchingEngine> matchingEngines;
+    private final MeterRegistry meterRegistry;
+    private final JobRunner jobRunner;
 
-    /**
-     * 특정 날짜에 대해 간호사와 보호자 간의 최적 매칭을 수행
-     */
-    // 매일 자정에 자동으로 실행
-    @Scheduled(cron = "0 0 0 * * *")
-    public List<MatchedMeeting> autoPerformMatching() {
+    // 배정 알고리즘 ( min-cost / hopcroft-karp / backtracking )
+    @Value("${matching.engine:min-cost}")
+    private String engineName;
 
-        //  매일 3일 후 날짜로 최적 매핑 수행
-        String targetDate = dateTimeConverter.localDateToString(LocalDate.now().plusDays(3));
-        try {
-            List<MatchedMeeting> matchedMeetings = new ArrayList<>();
+    // 시니어 수가 이 값 이하이면 백트래킹 결과와 배정 수 비교 ( 0 이면 비교 안 함 )
+    @Value("${matching.cross-check-max-seniors:0}")
+    private int crossCheckMaxSeniors;
 
-            // 1. 모든 간호사(EMPLOYEE) 사용자 조회
-            List<Users> employees = usersRepository.findByRole(Role.EMPLOYEE);
+    // 자정 일괄 매칭 구간 ( 오늘 기준 며칠 뒤부터 며칠 뒤까지 )
+    @Value("${matching.horizon.from-days:1}")
+    private int horizonFromDays;
 
-            if (employees.isEmpty()) {
-                log.info("매칭할 간호사가 없습니다.");
-                return matchedMeetings;
-            }
+    @Value("${matching.horizon.to-days:14}")
+    private int horizonToDays;
 
-            // 간호사별 매칭 시도
-            for (Users employee : employees) {
-                List<MatchedMeeting> employeeMatches = matchEmployeeWithGuardians(employee.getId(), targetDate);
-                matchedMeetings.addAll(employeeMatches);
-            }
+    // 묶음 병렬 매칭 스레드 수 ( 0 이면 CPU 코어 수 )
+    @Value("${matching.parallelism:0}")
+    private int parallelism;
 
-            return matchedMeetings;
+    private ExecutorService matchingExecutor;
+    private Timer partitionTimer;
+    private TransactionTemplate employeeTransaction;   // 간호사 1명 저장용 ( 항상 새 트랜잭션 )
 
-        } catch (Exception e) {
-            log.error("매칭 처리 중 오류 발생: {}", e.getMessage(), e);
-            throw new RuntimeException("매칭 처리에 실패했습니다.", e);
-        }
+    @PostConstruct
+    public void init() {
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        this.matchingExecutor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "matching-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.employeeTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.employeeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.partitionTimer = Timer.builder("matching.partition.duration")
+                .description("매칭 묶음 하나를 처리하는 데 걸린 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        matchingExecutor.shutdownNow();
+    }
+
+    // 매일 자정에 자동으로 실행 ( 매칭 전용 스레드 )
+    @Scheduled(cron = "0 0 0 * * *")
+    public void scheduleAutoMatching() {
+        jobRunner.submit(MATCHING_JOB, () -> JobResult.of(autoPerformMatching().size()));
+    }
+
+    /**
+     * 매칭 구간 ( D+from-days ~ D+to-days ) 전체에 대해 간호사와 보호자 간의 최적 매칭을 수행
+     */
+    public List<MatchedMeeting> autoPerformMatching() {
+
+        // 구간 전체를 한 번에 매칭 ( 시니어 요청 하나당 구간 전체에서 최대 1건 )
+        LocalDate today = LocalDate.now();
+        return performMatching(
+                dateTimeConverter.localDateToString(today.plusDays(horizonFromDays)),
+                dateTimeConverter.localDateToString(today.plusDays(horizonToDays)));
     }
     
     // 직접 날짜 설정해서 매칭
     public List<MatchedMeeting> performMatching(String targetDate) {
+        return performMatching(targetDate, targetDate);
+    }
+
+    /**
+     * fromDate ~ toDate ( yyyyMMdd, 양 끝 포함 ) 구간 매칭
+     */
+    public List<MatchedMeeting> performMatching(String fromDate, String toDate) {
         try {
             List<MatchedMeeting> matchedMeetings = new ArrayList<>();
             
@@ -85,12 +143,33 @@ public class MeetingMatchingService {
                 return matchedMeetings;
             }
 
-            // 간호사별 매칭 시도
+            // 2. 간호사 일정 한 번에 조회 ( MGET )
+            Map<Integer, MeetingScheduleStore.Snapshot<EmployeeScheduleData>> schedules =
+                    meetingScheduleStore.getEmployeeScheduleSnapshots(employees.stream().map(Users::getId).toList());
+
+            Map<Integer, List<Integer>> seniorsByEmployee = new HashMap<>();
             for (Users employee : employees) {
-                List<MatchedMeeting> employeeMatches = matchEmployeeWithGuardians(employee.getId(), targetDate);
-                matchedMeetings.addAll(employeeMatches);
+                MeetingScheduleStore.Snapshot<EmployeeScheduleData> schedule = schedules.get(employee.getId());
+                if (schedule == null) {
+                    log.info("간호사 {}의 일정 데이터가 없습니다.", employee.getId());
+                    continue;
+                }
+                seniorsByEmployee.put(employee.getId(), schedule.data().getSeniors());
             }
-            
+
+            // 3. 담당 시니어가 겹치는 간호사끼리 묶어서 묶음별로 병렬 매칭
+            List<List<Integer>> partitions = MatchingPartitioner.partition(seniorsByEmployee);
+            long start = System.nanoTime();
+            List<CompletableFuture<List<MatchedMeeting>>> futures = partitions.stream()
+                    .map(partition -> CompletableFuture.supplyAsync(
+                            () -> matchPartition(partition, schedules, fromDate, toDate), matchingExecutor))
+                    .toList();
+            for (CompletableFuture<List<MatchedMeeting>> future : futures) {
+                matchedMeetings.addAll(future.join());
+            }
+
+            log.info("매칭 완료: {} ~ {}, 간호사 {}명, 묶음 {}개, 매칭 {}건, {}ms", fromDate, toDate, seniorsByEmployee.size(),
+                    partitions.size(), matchedMeetings.size(), (System.nanoTime() - start) / 1_000_000);
             return matchedMeetings;
             
         } catch (Exception e) {
@@ -99,243 +178,233 @@ public class MeetingMatchingService {
         }
     }
 
-    private List<MatchedMeeting> matchEmployeeWithGuardians(Integer employeeId, String targetDate) {
-        try {
-            // 2. 간호사 데이터 조회
-            String employeeKey = "employee:schedule:" + employeeId;
-            String employeeDataJson = (String) redisTemplate.opsForValue().get(employeeKey);
-
-            // Redis에 저장된 해당 간호사 일정 조회
-            if (employeeDataJson == null) {
-                log.info("간호사 {}의 일정 데이터가 없습니다.", employeeId);
-                return Collections.emptyList();
-            }
+    /**
+     * 간호사 1명만 바로 매칭 ( 온라인 매칭 )
+     * - fromDate 이후 간호사 가능 시간 전체를 한 번에 매칭
+     * - 이미 확정된 상담은 그대로 두고, 남은 시간과 아직 매칭되지 않은 요청끼리만 배정
+     */
+    public List<MatchedMeeting> matchEmployee(Integer employeeId, LocalDate fromDate) {
+        Map<Integer, MeetingScheduleStore.Snapshot<EmployeeScheduleData>> schedules = new HashMap<>();
+        schedules.put(employeeId, meetingScheduleStore.getEmployeeScheduleSnapshot(employeeId));
+        return matchEmployees(List.of(employeeId), schedules, dateTimeConverter.localDateToString(fromDate), LAST_DATE);
+    }
 
-            // 간호사 일정 가져오기
-            EmployeeScheduleData employeeData = objectMapper.readValue(employeeDataJson, EmployeeScheduleData.class);
-            
-            // 3. 해당 날짜의 간호사 가능 시간 추출
-            List<String> employeeAvailableTimes = employeeData.getAvailableTime().stream()
-                    .filter(time -> time.startsWith(targetDate))
-                    .collect(Collectors.toList());
-            
-            if (employeeAvailableTimes.isEmpty()) {
-                log.info("간호사 {}의 {}일 가능 시간이 없습니다.", employeeId, targetDate);
-                return Collections.emptyList();
+    // 묶음 안의 간호사는 순서대로 매칭 ( 같은 보호자 요청을 두고 경쟁하지 않도록 )
+    private List<MatchedMeeting> matchPartition(List<Integer> employeeIds,
+                                                Map<Integer, MeetingScheduleStore.Snapshot<EmployeeScheduleData>> schedules,
+                                                String fromDate, String toDate) {
+        long start = System.nanoTime();
+        List<MatchedMeeting> matches = matchEmployees(employeeIds, schedules, fromDate, toDate);
+        long elapsed = System.nanoTime() - start;
+        partitionTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        log.debug("매칭 묶음 완료: 간호사 {}명 {}, 매칭 {}건, {}ms",
+                employeeIds.size(), employeeIds, matches.size(), elapsed / 1_000_000);
+        return matches;
+    }
+
+    /**
+     * 간호사 여러 명을 순서대로 매칭
+     * - 간호사마다 트랜잭션을 따로 커밋 ( 한 간호사의 저장 실패가 다른 간호사 결과를 롤백하지 않음 )
+     * - 커밋이 실패하면 그 간호사의 Redis 예약을 되돌림 ( 보호자 요청과 간호사 시간 복구 )
+     * - 상담 알림은 간호사별 커밋 이후 예약
+     */
+    private List<MatchedMeeting> matchEmployees(List<Integer> employeeIds,
+                                                Map<Integer, MeetingScheduleStore.Snapshot<EmployeeScheduleData>> schedules,
+                                                String fromDate, String toDate) {
+        Set<Integer> seniorIds = new HashSet<>();
+        for (Integer employeeId : employeeIds) {
+            MeetingScheduleStore.Snapshot<EmployeeScheduleData> schedule = schedules.get(employeeId);
+            if (schedule != null && schedule.data().getSeniors() != null) {
+                seniorIds.addAll(schedule.data().getSeniors());
             }
-            
-            // 4. 담당 시니어들의 보호자 요청 데이터 수집
-            Map<Integer, GuardianRequestData> seniorRequestMap = new HashMap<>();
-            Map<Integer, List<String>> seniorAvailableTimesMap = new HashMap<>();
-            
-            for (Integer seniorId : employeeData.getSeniors()) {
-                String seniorKey = "senior:request:" + seniorId;
-                String requestDataJson = (String) redisTemplate.opsForValue().get(seniorKey);
-                
-                if (requestDataJson != null) {
-                    GuardianRequestData guardianData = objectMapper.readValue(requestDataJson, GuardianRequestData.class);
-                    
-                    // 해당 날짜의 보호자 요청 시간 추출
-                    List<String> guardianAvailableTimes = guardianData.getAvailableTime().stream()
-                            .filter(time -> time.startsWith(targetDate))
-                            .collect(Collectors.toList());
-                    
-                    if (!guardianAvailableTimes.isEmpty()) {
-                        seniorRequestMap.put(seniorId, guardianData);
-                        seniorAvailableTimesMap.put(seniorId, guardianAvailableTimes);
-                    }
+        }
+
+        // 상담 제목용 시니어 이름 ( IN 쿼리 1회 )
+        Map<Integer, String> seniorNames = meetingMatchesWriter.findSeniorNames(seniorIds);
+
+        List<MatchedMeeting> matches = new ArrayList<>();
+        for (Integer employeeId : employeeIds) {
+            matches.addAll(matchEmployeeWithGuardians(employeeId, schedules.get(employeeId), fromDate, toDate, seniorNames));
+        }
+        return matches;
+    }
+
+    /**
+     * 간호사 1명 매칭 ( 조회 이후 다른 요청이 일정을 바꿨으면 다시 조회해서 재시도 )
+     */
+    private List<MatchedMeeting> matchEmployeeWithGuardians(
+            Integer employeeId, MeetingScheduleStore.Snapshot<EmployeeScheduleData> employeeSnapshot,
+            String fromDate, String toDate, Map<Integer, String> seniorNames) {
+        try {
+            for (int attempt = 1; attempt <= MAX_RESERVE_ATTEMPTS; attempt++) {
+                if (employeeSnapshot == null) {
+                    log.info("간호사 {}의 일정 데이터가 없습니다.", employeeId);
+                    return Collections.emptyList();
                 }
-            }
-            
-            if (seniorRequestMap.isEmpty()) {
-                log.info("간호사 {}의 담당 시니어들에 대한 {}일 보호자 요청이 없습니다.", employeeId, targetDate);
-                return new ArrayList<>();
-            }
-            
-            // 5. 백트래킹 알고리즘으로 최적 매칭 찾기
-            List<MatchedMeeting> bestMatches = findOptimalMatching(
-                    employeeId, 
-                    employeeAvailableTimes, 
-                    seniorRequestMap, 
-                    seniorAvailableTimesMap
-            );
-            
-            // 6. 매칭 결과를 데이터베이스에 저장
-            saveMeetingMatchesToDatabase(bestMatches);
-            
-            // 7. 매칭된 데이터 Redis에서 삭제
-            for (MatchedMeeting match : bestMatches) {
-                String seniorKey = "senior:request:" + match.getSeniorId();
-                redisTemplate.delete(seniorKey);
-                log.info("매칭 완료로 인한 Redis 데이터 삭제: {}", seniorKey);
-            }
 
-            // 8. 간호사 스케줄에서 매칭된 시간 제거 후 redis 에 다시 저장
-            Set<String> matchedTimes = bestMatches.stream()
-                    .map(MatchedMeeting::getMeetingTime)
-                    .collect(Collectors.toSet());
-            employeeData.setAvailableTime(
-                    employeeData.getAvailableTime().stream()
-                            .filter(time -> !matchedTimes.contains(time))
-                            .collect(Collectors.toList())
-            );
+                List<MatchedMeeting> matches = tryMatchEmployee(employeeId, employeeSnapshot, fromDate, toDate, seniorNames);
+                if (matches != null) {
+                    return matches;
+                }
 
-            String updatedJson = objectMapper.writeValueAsString(employeeData);
-            redisTemplate.opsForValue().set(employeeKey, updatedJson);
+                log.info("간호사 {} 매칭 중 일정이 변경되어 재시도합니다. ({}/{})", employeeId, attempt, MAX_RESERVE_ATTEMPTS);
+                employeeSnapshot = meetingScheduleStore.getEmployeeScheduleSnapshot(employeeId);
+            }
+
+            log.warn("간호사 {} 매칭 예약이 계속 충돌해서 다음 매칭으로 넘깁니다.", employeeId);
+            return new ArrayList<>();
 
-            return bestMatches;
-            
         } catch (Exception e) {
             log.error("간호사 {} 매칭 처리 중 오류: {}", employeeId, e.getMessage(), e);
             return new ArrayList<>();
         }
     }
 
-    private List<MatchedMeeting> findOptimalMatching(
-            Integer employeeId,
-            List<String> employeeAvailableTimes,
-            Map<Integer, GuardianRequestData> seniorRequestMap,
-            Map<Integer, List<String>> seniorAvailableTimesMap) {
+    // 예약 충돌 시 null ( 이 간호사의 DB 저장은 롤백됨 )
+    private List<MatchedMeeting> tryMatchEmployee(
+            Integer employeeId, MeetingScheduleStore.Snapshot<EmployeeScheduleData> employeeSnapshot,
+            String fromDate, String toDate, Map<Integer, String> seniorNames) {
+        EmployeeScheduleData employeeData = employeeSnapshot.data();
 
-        // 시니어 ID 정렬(결정성 보장)
-        List<Integer> seniorIds = new ArrayList<>(seniorRequestMap.keySet());
-        Collections.sort(seniorIds);
-
-        List<MatchedMeeting> bestResult = new ArrayList<>();
-        List<MatchedMeeting> currentResult = new ArrayList<>();
-        Set<Integer> visited = new HashSet<>();
-        Set<String> usedTimes = new HashSet<>();
-        
-        backtrack(employeeId, employeeAvailableTimes, seniorRequestMap, seniorAvailableTimesMap,
-                seniorIds, 0, visited, usedTimes, currentResult, bestResult);
-        
-        return bestResult;
-    }
+        // 3. 구간 안의 간호사 가능 시간 추출 ( 날짜별 슬롯 비트 )
+        SlotCalendar employeeSlots = employeeData.slots();
+        SlotCalendar employeeWindow = employeeSlots.between(fromDate, toDate);
 
-    private void backtrack(
-            Integer employeeId,
-            List<String> employeeAvailableTimes,
-            Map<Integer, GuardianRequestData> seniorRequestMap,
-            Map<Integer, List<String>> seniorAvailableTimesMap,
-            List<Integer> seniorIds,
-            int index,
-            Set<Integer> visited,
-            Set<String> usedTimes,
-            List<MatchedMeeting> currentResult,
-            List<MatchedMeeting> bestResult) {
-
-        if (currentResult.size() + (seniorIds.size() - index) <= bestResult.size()) {
-            return;
+        if (employeeWindow.isEmpty()) {
+            log.info("간호사 {}의 {} ~ {} 가능 시간이 없습니다.", employeeId, fromDate, toDate);
+            return Collections.emptyList();
         }
+        List<String> employeeAvailableTimes = employeeWindow.toTimes();
 
-        // 현재 결과가 최적 결과보다 좋으면 업데이트
-        if (currentResult.size() > bestResult.size()) {
-            bestResult.clear();
-            bestResult.addAll(currentResult);
+        // 4. 담당 시니어들의 보호자 요청 데이터 수집 ( MGET 1회, 간호사와 겹치는 시간만 )
+        Map<Integer, MeetingScheduleStore.Snapshot<GuardianRequestData>> requests =
+                meetingScheduleStore.getGuardianRequestSnapshots(employeeData.getSeniors());
+        Map<Integer, GuardianRequestData> seniorRequestMap = new HashMap<>();
+        Map<Integer, List<String>> seniorAvailableTimesMap = new HashMap<>();
+
+        requests.forEach((seniorId, request) -> {
+            SlotCalendar commonSlots = employeeWindow.intersect(request.data().slots());
+            if (!commonSlots.isEmpty()) {
+                seniorRequestMap.put(seniorId, request.data());
+                seniorAvailableTimesMap.put(seniorId, commonSlots.toTimes());
+            }
+        });
+
+        if (seniorRequestMap.isEmpty()) {
+            log.info("간호사 {}의 담당 시니어들에 대한 {} ~ {} 보호자 요청이 없습니다.", employeeId, fromDate, toDate);
+            return new ArrayList<>();
         }
-        
-        // 모든 시니어를 확인했으면 종료
-        if (index >= seniorIds.size()) {
-            return;
+
+        // 5. 매칭 엔진으로 최대 배정 찾기 ( 저장할 수 없는 매칭은 제외 )
+        List<MatchedMeeting> bestMatches = meetingMatchesWriter.storable(findOptimalMatching(
+                employeeId,
+                employeeAvailableTimes,
+                seniorRequestMap,
+                seniorAvailableTimesMap
+        ), seniorNames);
+        if (bestMatches.isEmpty()) {
+            return bestMatches;
         }
-        
-        Integer seniorId = seniorIds.get(index);
-        
-        // 이미 방문한 시니어는 건너뛰기
-        if (visited.contains(seniorId)) {
-            backtrack(employeeId, employeeAvailableTimes, seniorRequestMap, seniorAvailableTimesMap,
-                    seniorIds, index + 1, visited, usedTimes, currentResult, bestResult);
-            return;
+
+        // 6. 간호사 스케줄에서 매칭된 시간 제거
+        Map<Integer, byte[]> consumedRequests = new LinkedHashMap<>();
+        for (MatchedMeeting match : bestMatches) {
+            employeeSlots.consume(match.getMeetingTime());
+            consumedRequests.put(match.getSeniorId(), requests.get(match.getSeniorId()).raw());
         }
-        
-        List<String> seniorTimes = seniorAvailableTimesMap.get(seniorId);
-        GuardianRequestData guardianData = seniorRequestMap.get(seniorId);
+        employeeData.setAvailableSlots(employeeSlots);
 
-        if (seniorTimes == null || seniorTimes.isEmpty() || guardianData == null) {
-            backtrack(employeeId, employeeAvailableTimes, seniorRequestMap, seniorAvailableTimesMap,
-                    seniorIds, index + 1, visited, usedTimes, currentResult, bestResult);
-            return;
+        // 7. 간호사 트랜잭션에서 DB 저장 ( 배치 INSERT ) 후 Redis 예약, 충돌하면 롤백
+        List<MeetingMatches> saved = new ArrayList<>();
+        AtomicReference<MeetingScheduleStore.Reservation> reservation = new AtomicReference<>();
+        boolean reserved;
+        try {
+            reserved = Boolean.TRUE.equals(employeeTransaction.execute(status -> {
+                List<MeetingMatches> entities =
+                        meetingMatchesWriter.write(bestMatches, seniorNames, "최적 매칭 ( " + engineName + " )");
+                reservation.set(meetingScheduleStore.reserve(employeeId, employeeSnapshot.raw(), employeeData, consumedRequests));
+                if (reservation.get() == null) {
+                    status.setRollbackOnly();
+                    return false;
+                }
+                saved.addAll(entities);
+                return true;
+            }));
+        } catch (RuntimeException e) {
+            // 예약 이후 커밋이 실패했으면 Redis 도 되돌림 ( 다음 매칭에서 다시 배정 )
+            if (reservation.get() != null) {
+                releaseReservation(reservation.get());
+            }
+            throw e;
         }
-        
-        // 해당 시니어와 매칭 가능한 시간 찾기
-        List<String> commonTimes = employeeAvailableTimes.stream()
-                .filter(seniorTimes::contains)
-                .filter(time -> !usedTimes.contains(time))
-                .sorted()
-                .toList();
-        
-        // 매칭 가능한 시간이 있는 경우
-        for (String commonTime : commonTimes) {
-            // 매칭 추가
-            visited.add(seniorId);
-            usedTimes.add(commonTime);
-            
-            MatchedMeeting match = new MatchedMeeting();
-            match.setEmployeeId(employeeId);
-            match.setGuardianId(guardianData.getUserId());
-            match.setSeniorId(seniorId);
-            match.setMeetingTime(commonTime);
-            match.setMatchedAt(dateTimeConverter.localDateTimeToString(LocalDateTime.now()));
-            
-            currentResult.add(match);
-            
-            // 다음 시니어로 재귀 호출
-            backtrack(employeeId, employeeAvailableTimes, seniorRequestMap, seniorAvailableTimesMap,
-                    seniorIds, index + 1, visited, usedTimes, currentResult, bestResult);
-            
-            // 백트래킹: 상태 되돌리기
-            currentResult.remove(currentResult.size() - 1);
-            visited.remove(seniorId);
-            usedTimes.remove(commonTime);
+        if (!reserved) {
+            return null;
         }
-        
-        // 해당 시니어와 매칭하지 않고 다음으로 넘어가는 경우
-        backtrack(employeeId, employeeAvailableTimes, seniorRequestMap, seniorAvailableTimesMap,
-                seniorIds, index + 1, visited, usedTimes, currentResult, bestResult);
+
+        saved.forEach(alertService::scheduleMeetingAlert);
+        log.info("매칭 완료로 인한 Redis 데이터 삭제: employeeId={}, seniorIds={}", employeeId, consumedRequests.keySet());
+        return bestMatches;
     }
 
-    /**
-     * 매칭 결과를 데이터베이스에 저장
-     */
-    private void saveMeetingMatchesToDatabase(List<MatchedMeeting> matchedMeetings) {
+    // DB 저장이 롤백된 예약 복구 ( 실패해도 다른 간호사 복구는 계속 )
+    private void releaseReservation(MeetingScheduleStore.Reservation reservation) {
         try {
-            for (MatchedMeeting match : matchedMeetings) {
-                // 엔티티 조회
-                Users employee = usersRepository.findById(match.getEmployeeId())
-                        .orElseThrow(() -> new NotFoundException("간호사를 찾을 수 없습니다"));
-                
-                Users guardian = usersRepository.findById(match.getGuardianId())
-                        .orElseThrow(() -> new NotFoundException("보호자를 찾을 수 없습니다"));
-                
-                Seniors senior = seniorsRepository.findById(match.getSeniorId())
-                        .orElseThrow(() -> new NotFoundException("시니어를 찾을 수 없습니다"));
-
-                // MeetingMatches 엔티티 생성
-                MeetingMatches meetingMatch = new MeetingMatches();
-                meetingMatch.setEmployee(employee);
-                meetingMatch.setGuardian(guardian);
-                meetingMatch.setSenior(senior);
-                meetingMatch.setMeetingTime(dateTimeConverter.stringToLocalDateTime(match.getMeetingTime()));
-                meetingMatch.setCreatedAt(dateTimeConverter.stringToLocalDateTime(match.getMatchedAt()));
-                meetingMatch.setStatus(ConsultationStatus.CONDUCTED);
-                meetingMatch.setAlgorithmInfo("백트래킹 알고리즘을 통한 최적 매칭");
-                String title = senior.getName() + " 님의 상담입니다.";
-                meetingMatch.setTitle(title);
-
-                // 시작 + 끝 시간 추가
-                meetingMatch.setStartedAt(meetingMatch.getMeetingTime().minusMinutes(20));
-                meetingMatch.setEndedAt(meetingMatch.getMeetingTime().plusMinutes(40));
-
-                // 데이터베이스에 저장
-                meetingMatchesRepository.save(meetingMatch);
-                
-                log.info("매칭 결과 DB 저장 완료: employeeId={}, guardianId={}, seniorId={}, meetingTime={}",
-                    match.getEmployeeId(), match.getGuardianId(), match.getSeniorId(), match.getMeetingTime());
+            if (!meetingScheduleStore.release(reservation)) {
+                log.warn("간호사 {} 예약 일부는 이후 변경되어 복구하지 않았습니다. seniorIds={}",
+                        reservation.employeeId(), reservation.consumedRequests().keySet());
             }
-            
         } catch (Exception e) {
-            log.error("매칭 결과 DB 저장 실패: {}", e.getMessage(), e);
-            throw new RuntimeException("매칭 결과 저장에 실패했습니다.", e);
+            log.error("간호사 {} 예약 복구 실패: seniorIds={}, {}",
+                    reservation.employeeId(), reservation.consumedRequests().keySet(), e.getMessage(), e);
+        }
+    }
+
+    private List<MatchedMeeting> findOptimalMatching(
+            Integer employeeId,
+            List<String> employeeAvailableTimes,
+            Map<Integer, GuardianRequestData> seniorRequestMap,
+            Map<Integer, List<String>> seniorAvailableTimesMap) {
+
+        MatchingEngine engine = engine(engineName);
+        long start = System.nanoTime();
+        Map<Integer, String> assignment = engine.match(employeeAvailableTimes, seniorAvailableTimesMap);
+        log.debug("간호사 {} 매칭: engine={}, 시니어 {}명, 가능 시간 {}개, 배정 {}건, {}ms",
+                employeeId, engine.name(), seniorAvailableTimesMap.size(), employeeAvailableTimes.size(),
+                assignment.size(), (System.nanoTime() - start) / 1_000_000);
+
+        crossCheck(employeeId, engine, assignment.size(), employeeAvailableTimes, seniorAvailableTimesMap);
+
+        String matchedAt = dateTimeConverter.localDateTimeToString(LocalDateTime.now());
+        List<MatchedMeeting> result = new ArrayList<>(assignment.size());
+        assignment.forEach((seniorId, meetingTime) -> {
+            MatchedMeeting match = new MatchedMeeting();
+            match.setEmployeeId(employeeId);
+            match.setGuardianId(seniorRequestMap.get(seniorId).getUserId());
+            match.setSeniorId(seniorId);
+            match.setMeetingTime(meetingTime);
+            match.setMatchedAt(matchedAt);
+            result.add(match);
+        });
+        return result;
+    }
+
+    private MatchingEngine engine(String name) {
+        return matchingEngines.stream()
+                .filter(engine -> engine.name().equalsIgnoreCase(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 매칭 엔진입니다: " + name));
+    }
+
+    // 참고용 백트래킹 결과와 배정 수가 다르면 경고 ( 작은 입력에서만 )
+    private void crossCheck(Integer employeeId, MatchingEngine engine, int matchedCount,
+                            List<String> employeeAvailableTimes, Map<Integer, List<String>> seniorAvailableTimesMap) {
+        if (seniorAvailableTimesMap.size() > crossCheckMaxSeniors || "backtracking".equals(engine.name())) {
+            return;
+        }
+        int expected = engine("backtracking").match(employeeAvailableTimes, seniorAvailableTimesMap).size();
+        if (expected != matchedCount) {
+            log.warn("매칭 결과 불일치: employeeId={}, engine={} {}건, backtracking {}건",
+                    employeeId, engine.name(), matchedCount, expected);
         }
     }
 }
\ No newline at end of file
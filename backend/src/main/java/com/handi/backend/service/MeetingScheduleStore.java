@@ -0,0 +1,104 @@
+package com.handi.backend.service;
+
+import com.handi.backend.dto.meeting.EmployeeScheduleData;
+import com.handi.backend.dto.meeting.GuardianRequestData;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 상담 일정 저장소
+ * - employee:schedule:{간호사 ID} : 간호사 가능 시간 + 담당 시니어
+ * - senior:request:{시니어 ID}    : 보호자 요청 시간
+ * - meeting.schedule.store=redis ( 기본 ) : RedisMeetingScheduleStore, 여러 노드 / 재시작 후에도 유지
+ * - meeting.schedule.store=memory         : InMemoryMeetingScheduleStore, 단일 노드 / 로컬 개발 / 매칭 시뮬레이션용
+ * 매칭 결과 반영( reserve )은 조회 이후 값이 바뀌었으면 아무것도 변경하지 않음
+ * DB 커밋이 실패하면 release 로 예약 전 값 복구
+ */
+public interface MeetingScheduleStore {
+
+    String EMPLOYEE_KEY_PREFIX = "employee:schedule:";
+    String SENIOR_REQUEST_KEY_PREFIX = "senior:request:";
+
+    /**
+     * 조회한 값 + 조회 당시 원본 값 ( 예약 시 변경 여부 비교용 )
+     */
+    record Snapshot<T>(T data, byte[] raw) {
+    }
+
+    /**
+     * 예약으로 바뀐 값 ( 되돌리기용 )
+     *
+     * @param expectedEmployee 예약 전 간호사 일정 값
+     * @param updatedEmployee  예약 때 저장한 간호사 일정 값
+     * @param consumedRequests 시니어 ID → 예약 때 삭제한 보호자 요청 값
+     * @param requestTtls      시니어 ID → 삭제 당시 남은 만료 시간(ms)
+     */
+    record Reservation(Integer employeeId, byte[] expectedEmployee, byte[] updatedEmployee,
+                       Map<Integer, byte[]> consumedRequests, Map<Integer, Long> requestTtls) {
+    }
+
+    static String employeeKey(Integer employeeId) {
+        return EMPLOYEE_KEY_PREFIX + employeeId;
+    }
+
+    static String seniorRequestKey(Integer seniorId) {
+        return SENIOR_REQUEST_KEY_PREFIX + seniorId;
+    }
+
+    /**
+     * 간호사 일정 조회 ( 없으면 null )
+     */
+    EmployeeScheduleData getEmployeeSchedule(Integer employeeId);
+
+    /**
+     * 간호사 일정 원본과 함께 조회 ( 없으면 null )
+     */
+    Snapshot<EmployeeScheduleData> getEmployeeScheduleSnapshot(Integer employeeId);
+
+    /**
+     * 여러 간호사 일정 원본과 함께 조회 ( 한 번에 조회, 없는 간호사는 제외 )
+     */
+    Map<Integer, Snapshot<EmployeeScheduleData>> getEmployeeScheduleSnapshots(Collection<Integer> employeeIds);
+
+    /**
+     * 보호자 요청 조회 ( 없으면 null )
+     */
+    GuardianRequestData getGuardianRequest(Integer seniorId);
+
+    /**
+     * 여러 시니어의 보호자 요청 조회 ( 한 번에 조회, 요청 없는 시니어는 제외, 입력 순서 유지 )
+     */
+    Map<Integer, GuardianRequestData> getGuardianRequests(Collection<Integer> seniorIds);
+
+    /**
+     * 여러 시니어의 보호자 요청 원본과 함께 조회 ( 한 번에 조회 )
+     */
+    Map<Integer, Snapshot<GuardianRequestData>> getGuardianRequestSnapshots(Collection<Integer> seniorIds);
+
+    void saveEmployeeSchedule(Integer employeeId, EmployeeScheduleData data, Duration ttl);
+
+    void saveGuardianRequest(Integer seniorId, GuardianRequestData data, Duration ttl);
+
+    /**
+     * 매칭된 시간 예약 ( 원자적으로 처리 )
+     * - 간호사 일정과 매칭된 보호자 요청이 조회 당시 그대로일 때만 반영
+     * - 간호사 일정은 매칭된 시간을 뺀 값으로 교체 ( 기존 TTL 유지 )
+     * - 매칭된 보호자 요청은 삭제
+     *
+     * @param consumedRequests 시니어 ID → 조회 당시 보호자 요청 원본 값
+     * @return 예약으로 바뀐 값, 조회 이후 다른 요청이 값을 바꿨으면 null ( 아무것도 변경하지 않음 )
+     */
+    Reservation reserve(Integer employeeId, byte[] expectedEmployee, EmployeeScheduleData updated,
+                        Map<Integer, byte[]> consumedRequests);
+
+    /**
+     * 예약 되돌리기 ( 예약 후 DB 커밋이 실패했을 때 )
+     * - 간호사 일정은 예약 때 저장한 값 그대로일 때만 예약 전 값으로 복구
+     * - 삭제한 보호자 요청은 그 사이 새 요청이 없을 때만 남은 만료 시간과 함께 복구
+     *
+     * @return 전부 복구했으면 true, 예약 이후 다른 요청이 바꾼 키가 있으면 false ( 그 키만 건너뜀 )
+     */
+    boolean release(Reservation reservation);
+}
@@ -2,26 +2,36 @@ package com.handi.backend.service;
 
 import com.handi.backend.converter.DateTimeConverter;
 import com.handi.backend.dto.common.PageResponseDto;
+import com.handi.backend.dto.common.SliceResponseDto;
 import com.handi.backend.dto.observation.record.*;
+import com.handi.backend.dto.senior.SeniorRelatedUserProjection;
 import com.handi.backend.entity.*;
 import com.handi.backend.enums.Role;
 import com.handi.backend.exception.NotFoundException;
 import com.handi.backend.repository.*;
+import com.handi.backend.util.PageCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ObservationRecordService {
+    // 커서가 없을 때 시작 위치 ( 모든 일지보다 뒤 )
+    private static final LocalDateTime CURSOR_START = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
     private final DateTimeConverter dateTimeConverter;
     private final ObservationRecordsRepository observationRecordsRepository;
     private final SeniorsRepository seniorsRepository;
@@ -68,21 +78,10 @@ public class ObservationRecordService {
         dto.setIsDeleted(observationLog.getIsDeleted());
 
 
-        Users nurse = findRelatedUser(observationLog.getSenior(), Role.EMPLOYEE);
-        Nurse nowNurse = new Nurse();
-        nowNurse.setId(nurse.getId());
-        nowNurse.setName(nurse.getName());
-        nowNurse.setEmail(nurse.getEmail());
-        nowNurse.setPhoneNumber(nurse.getPhoneNumber());
-        dto.setNurse(nowNurse);
-
-        Users guardian = findRelatedUser(observationLog.getSenior(), Role.GUARDIAN);
-        Guardian nowGuardian = new Guardian();
-        nowGuardian.setId(guardian.getId());
-        nowGuardian.setName(guardian.getName());
-        nowGuardian.setEmail(guardian.getEmail());
-        nowGuardian.setPhoneNumber(guardian.getPhoneNumber());
-        dto.setGuardian(nowGuardian);
+        // 담당 간호사 / 보호자 ( 관계 + 사용자 한 번에 조회 )
+        List<SeniorRelatedUserProjection> relatedUsers = seniorUserRelationsRepository.findRelatedUsersBySeniorId(seniorId);
+        dto.setNurse(toNurse(findRelatedUser(relatedUsers, Role.EMPLOYEE)));
+        dto.setGuardian(toGuardian(findRelatedUser(relatedUsers, Role.GUARDIAN)));
 
         return dto;
     }
@@ -146,79 +145,103 @@ public class ObservationRecordService {
         dto.setUpdatedAt(dateTimeConverter.localDateTimeToString(observation.getUpdatedAt()));
         dto.setIsDeleted(observation.getIsDeleted());
 
-
-        Users nurse = findRelatedUser(observation.getSenior(), Role.EMPLOYEE);
-        Nurse nowNurse = new Nurse();
-        nowNurse.setId(nurse.getId());
-        nowNurse.setName(nurse.getName());
-        nowNurse.setEmail(nurse.getEmail());
-        nowNurse.setPhoneNumber(nurse.getPhoneNumber());
-        dto.setNurse(nowNurse);
-
-        Users guardian = findRelatedUser(observation.getSenior(), Role.GUARDIAN);
-        Guardian nowGuardian = new Guardian();
-        nowGuardian.setId(guardian.getId());
-        nowGuardian.setName(guardian.getName());
-        nowGuardian.setEmail(guardian.getEmail());
-        nowGuardian.setPhoneNumber(guardian.getPhoneNumber());
-        dto.setGuardian(nowGuardian);
+        // 담당 간호사 / 보호자 ( 관계 + 사용자 한 번에 조회 )
+        List<SeniorRelatedUserProjection> relatedUsers = seniorUserRelationsRepository.findRelatedUsersBySeniorId(seniors.getId());
+        dto.setNurse(toNurse(findRelatedUser(relatedUsers, Role.EMPLOYEE)));
+        dto.setGuardian(toGuardian(findRelatedUser(relatedUsers, Role.GUARDIAN)));
 
         return dto;
     }
 
 
     public PageResponseDto<ObservationRecordResponseFullDto> getList(Integer seniorId, Pageable pageable) {
-        Page<ObservationRecords> page = observationRecordsRepository.findBySeniorIdAndIsDeletedFalse(seniorId, pageable);
+        Page<ObservationRecordProjection> page = observationRecordsRepository.findProjectionBySeniorId(seniorId, pageable);
 
         Seniors seniors = seniorsRepository.findByIdAndIsDeletedFalse(seniorId).orElseThrow(
                 () -> new NotFoundException("해당 환자가 존재하지 않습니다."));
 
-        Senior nowSenior = new Senior();
-        nowSenior.setId(seniorId);
-        nowSenior.setName(seniors.getName());
-        nowSenior.setGender(seniors.getGender());
-        nowSenior.setNote(seniors.getNote());
-        nowSenior.setAge(LocalDate.now().getYear() - seniors.getBirthDate().getYear() + 1);
+        List<ObservationRecordResponseFullDto> convertList = toFullDtoList(seniorId, toSenior(seniors), page.getContent());
+
+        return PageResponseDto.from("관찰일지 목록 조회 완료", page, convertList);
+
+    }
+
+    // 커서 조회 ( 무한 스크롤, 최신순, COUNT 없음 )
+    public SliceResponseDto<ObservationRecordResponseFullDto> getListByCursor(Integer seniorId, String cursor, Integer size) {
+        PageCursor position = PageCursor.decode(cursor, 2);
+        LocalDateTime createdAt = position != null ? position.getDateTime(0) : CURSOR_START;
+        Integer id = position != null ? position.getInt(1) : Integer.MAX_VALUE;
+
+        Slice<ObservationRecordProjection> slice = observationRecordsRepository.findSliceBySeniorId(seniorId, createdAt, id, PageCursor.slice(size));
 
+        Seniors seniors = seniorsRepository.findByIdAndIsDeletedFalse(seniorId).orElseThrow(
+                () -> new NotFoundException("해당 환자가 존재하지 않습니다."));
+
+        List<ObservationRecordResponseFullDto> result = toFullDtoList(seniorId, toSenior(seniors), slice.getContent());
+
+        String nextCursor = null;
+        if (slice.hasContent()) {
+            ObservationRecordProjection last = slice.getContent().get(slice.getNumberOfElements() - 1);
+            nextCursor = PageCursor.encode(last.createdAt(), last.id());
+        }
+        return SliceResponseDto.from("관찰일지 목록 조회 완료", slice, result, nextCursor);
+    }
 
-        List<ObservationRecordResponseFullDto> convertList = page.getContent().stream().map(observationLog -> {
+    // 목록 변환 ( 담당 간호사 / 보호자는 시니어 단위라서 목록당 한 번만 조회 )
+    private List<ObservationRecordResponseFullDto> toFullDtoList(Integer seniorId, Senior nowSenior, List<ObservationRecordProjection> records) {
+        if (records.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<SeniorRelatedUserProjection> relatedUsers = seniorUserRelationsRepository.findRelatedUsersBySeniorId(seniorId);
+        Nurse nowNurse = toNurse(findRelatedUser(relatedUsers, Role.EMPLOYEE));
+        Guardian nowGuardian = toGuardian(findRelatedUser(relatedUsers, Role.GUARDIAN));
+
+        return records.stream().map(observationLog -> {
             ObservationRecordResponseFullDto dto = new ObservationRecordResponseFullDto();
-            dto.setId(observationLog.getId());
+            dto.setId(observationLog.id());
             dto.setSenior(nowSenior);
-            dto.setContent(observationLog.getContent());
-            dto.setLevel(observationLog.getLevel());
-            dto.setCreatedAt(dateTimeConverter.localDateTimeToString(observationLog.getCreatedAt()));
-            dto.setUpdatedAt(dateTimeConverter.localDateTimeToString(observationLog.getUpdatedAt()));
-            dto.setIsDeleted(observationLog.getIsDeleted());
-
-
-            Users nurse = findRelatedUser(observationLog.getSenior(), Role.EMPLOYEE);
-            Nurse nowNurse = new Nurse();
-            nowNurse.setId(nurse.getId());
-            nowNurse.setName(nurse.getName());
-            nowNurse.setEmail(nurse.getEmail());
-            nowNurse.setPhoneNumber(nurse.getPhoneNumber());
+            dto.setContent(observationLog.content());
+            dto.setLevel(observationLog.level());
+            dto.setCreatedAt(dateTimeConverter.localDateTimeToString(observationLog.createdAt()));
+            dto.setUpdatedAt(dateTimeConverter.localDateTimeToString(observationLog.updatedAt()));
+            dto.setIsDeleted(observationLog.isDeleted());
             dto.setNurse(nowNurse);
-
-            Users guardian = findRelatedUser(observationLog.getSenior(), Role.GUARDIAN);
-            Guardian nowGuardian = new Guardian();
-            nowGuardian.setId(guardian.getId());
-            nowGuardian.setName(guardian.getName());
-            nowGuardian.setEmail(guardian.getEmail());
-            nowGuardian.setPhoneNumber(guardian.getPhoneNumber());
             dto.setGuardian(nowGuardian);
-
             return dto;
         }).toList();
+    }
 
-        return PageResponseDto.from("관찰일지 목록 조회 완료", page, convertList);
+    private Senior toSenior(Seniors senior) {
+        Senior nowSenior = new Senior();
+        nowSenior.setId(senior.getId());
+        nowSenior.setName(senior.getName());
+        nowSenior.setGender(senior.getGender());
+        nowSenior.setNote(senior.getNote());
+        nowSenior.setAge(LocalDate.now().getYear() - senior.getBirthDate().getYear() + 1);
+        return nowSenior;
+    }
 
+    private Nurse toNurse(SeniorRelatedUserProjection nurse) {
+        Nurse nowNurse = new Nurse();
+        nowNurse.setId(nurse.userId());
+        nowNurse.setName(nurse.name());
+        nowNurse.setEmail(nurse.email());
+        nowNurse.setPhoneNumber(nurse.phoneNumber());
+        return nowNurse;
+    }
+
+    private Guardian toGuardian(SeniorRelatedUserProjection guardian) {
+        Guardian nowGuardian = new Guardian();
+        nowGuardian.setId(guardian.userId());
+        nowGuardian.setName(guardian.name());
+        nowGuardian.setEmail(guardian.email());
+        nowGuardian.setPhoneNumber(guardian.phoneNumber());
+        return nowGuardian;
     }
 
-    private Users findRelatedUser(Seniors senior, Role role) {
-        return senior.getSeniorUserRelations().stream()
-                .filter(rel -> rel.getRole() == role && !rel.getIsDeleted())
-                .map(SeniorUserRelations::getUser)
+    private SeniorRelatedUserProjection findRelatedUser(List<SeniorRelatedUserProjection> relatedUsers, Role role) {
+        return relatedUsers.stream()
+                .filter(rel -> rel.role() == role)
                 .findFirst()
                 .orElseThrow(() -> new NotFoundException(
                         role == Role.EMPLOYEE ? "담당 간호사를 찾을 수 없습니다."
@@ -227,15 +250,16 @@ public class ObservationRecordService {
 
 
     // 7일 조회
+    // 담당 환자 수와 상관없이 쿼리 4번 ( 환자 / 환자별 가장 위험한 일지 / 환자별 마지막 병원 방문 / 담당자 )
     public List<RecentObservationRecordResponseDto> getRecentList(Users user) {
-        List<Integer> seniorIds = seniorUserRelationsRepository.findSeniorIdsByUserId(user.getId());
+        List<Seniors> seniors = seniorsRepository.findActiveRelatedByUserId(user.getId());
 
-        if (seniorIds.isEmpty()) {
+        if (seniors.isEmpty()) {
             log.info("사용자와 연결된 환자가 없습니다. : userId={}", user.getId());
             return new ArrayList<>();
         }
 
-        log.info("연결된 환자 수 : {}", seniorIds.size());
+        log.info("연결된 환자 수 : {}", seniors.size());
 
         // 7일전 ~ 현재
         LocalDateTime endDate = LocalDateTime.now();
@@ -243,45 +267,36 @@ public class ObservationRecordService {
 
         log.info("조회 기간 : {} ~ {}", startDate, endDate);
 
-        List<RecentObservationRecordResponseDto> result = new ArrayList<>();
-        for(Integer seniorId : seniorIds) {
-            Seniors senior = seniorsRepository.findByIdAndIsDeletedFalse(seniorId).orElse(null);
-            if(senior == null) {
-                log.info("해당 시니어 ID에 해당하는 환자가 존재하지 않습니다.");
-            }
+        List<Integer> seniorIds = seniors.stream().map(Seniors::getId).toList();
+
+        // 환자별 가장 위험한 일지 ( 같은 중요도면 최신 )
+        Map<Integer, ObservationRecords> recordBySenior = new HashMap<>();
+        for (ObservationRecords record : observationRecordsRepository.findMostSevereBySeniorIdIn(seniorIds, startDate, endDate)) {
+            recordBySenior.put(record.getSenior().getId(), record);
+        }
+
+        // 환자별 최근 의사 진료 시간
+        Map<Integer, LocalDateTime> lastVisitBySenior = new HashMap<>();
+        for (Object[] row : meetingMatchesRepository.findLastMeetingTimeBySeniorIdIn(seniorIds, "withDoctor")) {
+            lastVisitBySenior.put((Integer) row[0], (LocalDateTime) row[1]);
+        }
+
+        // 환자별 담당 간호사 / 보호자
+        Map<Integer, List<SeniorRelatedUserProjection>> relatedUsersBySenior = seniorUserRelationsRepository.findRelatedUsersBySeniorIdIn(seniorIds)
+                .stream()
+                .collect(Collectors.groupingBy(SeniorRelatedUserProjection::seniorId));
 
-            // 조건에 맞는 일지 조회
-            ObservationRecords observationRecords = observationRecordsRepository.findFirstBySeniorAndCreatedAtBetweenAndIsDeletedFalseOrderByLevelAscCreatedAtDesc(senior, startDate, endDate);
-
-            // 환자 dto 넣기
-            Senior nowSenior = new Senior();
-            nowSenior.setId(senior.getId());
-            nowSenior.setName(senior.getName());
-            nowSenior.setGender(senior.getGender());
-            nowSenior.setNote(senior.getNote());
-            nowSenior.setAge(LocalDate.now().getYear() - senior.getBirthDate().getYear() + 1);
-
-            // 간호사 조회
-            Users nurse =  findRelatedUser(senior, Role.EMPLOYEE);
-            Nurse nowNurse = new Nurse();
-            nowNurse.setId(nurse.getId());
-            nowNurse.setName(nurse.getName());
-            nowNurse.setEmail(nurse.getEmail());
-            nowNurse.setPhoneNumber(nurse.getPhoneNumber());
-
-            // 보호자 조회
-            Users guardian = findRelatedUser(senior, Role.GUARDIAN);
-            Guardian nowGuardian = new Guardian();
-            nowGuardian.setId(guardian.getId());
-            nowGuardian.setName(guardian.getName());
-            nowGuardian.setEmail(guardian.getEmail());
-            nowGuardian.setPhoneNumber(guardian.getPhoneNumber());
+        List<RecentObservationRecordResponseDto> result = new ArrayList<>(seniors.size());
+        for (Seniors senior : seniors) {
+            List<SeniorRelatedUserProjection> relatedUsers = relatedUsersBySenior.getOrDefault(senior.getId(), List.of());
 
             // dto 만들기
-            RecentObservationRecordResponseDto dto = new  RecentObservationRecordResponseDto();
-            dto.setNurse(nowNurse);
-            dto.setGuardian(nowGuardian);
-            dto.setSenior(nowSenior);
+            RecentObservationRecordResponseDto dto = new RecentObservationRecordResponseDto();
+            dto.setNurse(toNurse(findRelatedUser(relatedUsers, Role.EMPLOYEE)));
+            dto.setGuardian(toGuardian(findRelatedUser(relatedUsers, Role.GUARDIAN)));
+            dto.setSenior(toSenior(senior));
+
+            ObservationRecords observationRecords = recordBySenior.get(senior.getId());
             if(observationRecords != null){
                 dto.setId(observationRecords.getId());
                 dto.setContent(observationRecords.getContent());
@@ -290,10 +305,7 @@ public class ObservationRecordService {
                 dto.setUpdatedAt(dateTimeConverter.localDateTimeToString(observationRecords.getUpdatedAt()));
                 dto.setIsDeleted(observationRecords.getIsDeleted());
             }
-            // 최근 의사 진료 시간
-            MeetingMatches recentMatch = meetingMatchesRepository.findTopBySeniorAndMeetingTypeOrderByMeetingTimeDesc(senior, "withDoctor");
-            if (recentMatch != null) dto.setLastHospitalVisit(dateTimeConverter.localDateTimeToString(recentMatch.getMeetingTime()));
-            else dto.setLastHospitalVisit(null);
+            dto.setLastHospitalVisit(dateTimeConverter.localDateTimeToString(lastVisitBySenior.get(senior.getId())));
             result.add(dto);
         }
 
@@ -313,46 +325,12 @@ public class ObservationRecordService {
         LocalDateTime startDateTime = start.atStartOfDay();
         LocalDateTime endDateTime = end.atTime(23, 59, 59);
 
-        Page<ObservationRecords> page = observationRecordsRepository.findBySeniorIdAndCreatedAtBetweenAndIsDeletedFalse(seniorId, startDateTime, endDateTime, pageable);
+        Page<ObservationRecordProjection> page = observationRecordsRepository.findProjectionBySeniorIdAndCreatedAtBetween(seniorId, startDateTime, endDateTime, pageable);
 
         Seniors seniors = seniorsRepository.findByIdAndIsDeletedFalse(seniorId).orElseThrow(
                 () -> new NotFoundException("해당 환자가 존재하지 않습니다."));
 
-        Senior nowSenior = new Senior();
-        nowSenior.setId(seniorId);
-        nowSenior.setName(seniors.getName());
-        nowSenior.setGender(seniors.getGender());
-        nowSenior.setNote(seniors.getNote());
-        nowSenior.setAge(LocalDate.now().getYear() - seniors.getBirthDate().getYear() + 1);
-
-        List<ObservationRecordResponseFullDto> result = page.getContent().stream().map(observation -> {
-            ObservationRecordResponseFullDto dto = new ObservationRecordResponseFullDto();
-            dto.setId(observation.getId());
-            dto.setSenior(nowSenior);
-            dto.setContent(observation.getContent());
-            dto.setLevel(observation.getLevel());
-            dto.setCreatedAt(dateTimeConverter.localDateTimeToString(observation.getCreatedAt()));
-            dto.setUpdatedAt(dateTimeConverter.localDateTimeToString(observation.getUpdatedAt()));
-            dto.setIsDeleted(observation.getIsDeleted());
-
-            Users nurse = findRelatedUser(observation.getSenior(), Role.EMPLOYEE);
-            Nurse nowNurse = new Nurse();
-            nowNurse.setId(nurse.getId());
-            nowNurse.setName(nurse.getName());
-            nowNurse.setEmail(nurse.getEmail());
-            nowNurse.setPhoneNumber(nurse.getPhoneNumber());
-            dto.setNurse(nowNurse);
-
-            Users guardian = findRelatedUser(observation.getSenior(), Role.GUARDIAN);
-            Guardian nowGuardian = new Guardian();
-            nowGuardian.setId(guardian.getId());
-            nowGuardian.setName(guardian.getName());
-            nowGuardian.setEmail(guardian.getEmail());
-            nowGuardian.setPhoneNumber(guardian.getPhoneNumber());
-            dto.setGuardian(nowGuardian);
-
-            return dto;
-        }).toList();
+        List<ObservationRecordResponseFullDto> result = toFullDtoList(seniorId, toSenior(seniors), page.getContent());
 
         return PageResponseDto.from("관찰일지 목록 조회 완료", page, result);
     }
@@ -0,0 +1,139 @@
+package com.handi.backend.service;
+
+import com.handi.backend.dto.meeting.MatchedMeeting;
+import com.handi.backend.dto.meeting.MeetingScheduleChangedEvent;
+import com.handi.backend.enums.Role;
+import com.handi.backend.repository.SeniorUserRelationsRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 온라인 매칭 ( matching.online.enabled=true 일 때만 활성화 )
+ * - 간호사 일정 / 보호자 요청이 저장되면 관련 간호사만 다시 매칭
+ * - 같은 간호사에 대한 변경이 몰리면 debounce-ms 동안 조용해질 때까지 모아서 한 번만 처리 ( 최대 max-delay-ms 대기 )
+ * - 이미 확정된 상담은 그대로 두고 남은 시간과 새 요청만 배정하므로, 빈 시간이 있으면 바로 확정됨
+ * 자정 일괄 매칭은 그대로 동작 ( 놓친 변경이 있어도 일괄 매칭에서 처리 )
+ */
+@Service
+@ConditionalOnProperty(prefix = "matching.online", name = "enabled", havingValue = "true")
+@Slf4j
+public class OnlineMatchingService {
+
+    private final MeetingMatchingService meetingMatchingService;
+    private final SeniorUserRelationsRepository seniorUserRelationsRepository;
+
+    // 간호사 ID → 대기 상태
+    private final Map<Integer, Pending> pendingByEmployee = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService worker;
+
+    private final long debounceMs;
+    private final long maxDelayMs;
+    private final int leadDays;
+
+    private final Counter eventCounter;
+    private final Counter runCounter;
+    private final Counter matchedCounter;
+
+    public OnlineMatchingService(
+            MeetingMatchingService meetingMatchingService,
+            SeniorUserRelationsRepository seniorUserRelationsRepository,
+            MeterRegistry meterRegistry,
+            @Value("${matching.online.debounce-ms:2000}") long debounceMs,
+            @Value("${matching.online.max-delay-ms:10000}") long maxDelayMs,
+            @Value("${matching.online.lead-days:1}") int leadDays) {
+        this.meetingMatchingService = meetingMatchingService;
+        this.seniorUserRelationsRepository = seniorUserRelationsRepository;
+        this.debounceMs = debounceMs;
+        this.maxDelayMs = Math.max(maxDelayMs, debounceMs);
+        this.leadDays = leadDays;
+        this.worker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "matching-online");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.eventCounter = meterRegistry.counter("matching.online.events");
+        this.runCounter = meterRegistry.counter("matching.online.runs");
+        this.matchedCounter = meterRegistry.counter("matching.online.matched");
+    }
+
+    @PostConstruct
+    public void start() {
+        long tick = Math.max(debounceMs / 4, 100);
+        worker.scheduleWithFixedDelay(this::drain, tick, tick, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        worker.shutdownNow();
+    }
+
+    /**
+     * 일정 변경 이벤트 수신 ( 요청 스레드에서 호출되므로 대기열에 넣기만 함 )
+     */
+    @EventListener
+    public void onScheduleChanged(MeetingScheduleChangedEvent event) {
+        try {
+            List<Integer> employeeIds = event.employeeId() != null
+                    ? List.of(event.employeeId())
+                    : seniorUserRelationsRepository.findUserIdsBySeniorIdAndRole(event.seniorId(), Role.EMPLOYEE);
+
+            long now = System.currentTimeMillis();
+            for (Integer employeeId : employeeIds) {
+                pendingByEmployee.merge(employeeId, new Pending(now, now),
+                        (current, next) -> new Pending(current.firstAt(), now));
+            }
+            eventCounter.increment();
+        } catch (Exception e) {
+            // 여기서 실패해도 자정 일괄 매칭에서 처리됨
+            log.error("온라인 매칭 이벤트 처리 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    // 조용해졌거나 너무 오래 기다린 간호사만 매칭
+    private void drain() {
+        long now = System.currentTimeMillis();
+        List<Integer> due = new ArrayList<>();
+        pendingByEmployee.forEach((employeeId, pending) -> {
+            if (now - pending.lastAt() >= debounceMs || now - pending.firstAt() >= maxDelayMs) {
+                // 그 사이 새 이벤트가 들어왔으면 제거되지 않고 다음 차례로 넘어감
+                if (pendingByEmployee.remove(employeeId, pending)) {
+                    due.add(employeeId);
+                }
+            }
+        });
+
+        for (Integer employeeId : due) {
+            try {
+                List<MatchedMeeting> matches =
+                        meetingMatchingService.matchEmployee(employeeId, LocalDate.now().plusDays(leadDays));
+                runCounter.increment();
+                matchedCounter.increment(matches.size());
+                if (!matches.isEmpty()) {
+                    log.info("온라인 매칭 완료: employeeId={}, 매칭 {}건", employeeId, matches.size());
+                }
+            } catch (Exception e) {
+                log.error("온라인 매칭 실패: employeeId={}, {}", employeeId, e.getMessage(), e);
+            }
+        }
+    }
+
+    private record Pending(long firstAt, long lastAt) {
+    }
+}
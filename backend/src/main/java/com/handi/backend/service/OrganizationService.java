@@ -26,6 +26,8 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.Period;
+import java.util.Arrays;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -39,6 +41,7 @@ public class OrganizationService {
     private final SeniorsRepository seniorsRepository;
     private final OrganizationMapper organizationMapper;
     private final UserMapper userMapper;
+    private final AlertService alertService;
 
     /**
      * 기관 생성 (Admin 전용)
@@ -136,11 +139,17 @@ public class OrganizationService {
         }
 
         // 4. 엔티티 업데이트
+        List<LocalTime> previousTimes = alertTimes(org);
         organizationMapper.updateEntity(org, requestDto);
 
         // 4. 데이터베이스에 수정
         Organizations savedOrganization = organizationsRepository.save(org);
 
+        // 5. 식사 / 취침 시간이 바뀌면 오늘 복약 알림 다시 예약
+        if (!previousTimes.equals(alertTimes(savedOrganization))) {
+            alertService.rescheduleMedicationAlerts(savedOrganization.getId());
+        }
+
         log.info("기관 수정 완료: ID={}, 기관명={}", savedOrganization.getId(), savedOrganization.getName());
 
         return organizationMapper.toResponseDto(savedOrganization);
@@ -270,6 +279,11 @@ public class OrganizationService {
         }
     }
 
+    // 복약 알림 발송 시각을 정하는 기관 시간 ( 식사 / 취침 )
+    private List<LocalTime> alertTimes(Organizations org) {
+        return Arrays.asList(org.getBreakfastTime(), org.getLunchTime(), org.getDinnerTime(), org.getSleepTime());
+    }
+
     private Integer calculateAge(LocalDate birthDate) {
         if (birthDate == null) return null;
         return Period.between(birthDate, LocalDate.now()).getYears();
@@ -0,0 +1,123 @@
+package com.handi.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.minio.GetPresignedObjectUrlArgs;
+import io.minio.MinioClient;
+import io.minio.http.Method;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * MinIO presigned GET URL 캐시
+ * - object key 별로 서명한 URL 을 재사용 ( 조회마다 HMAC 서명하지 않음 )
+ * - 유효기간이 refresh-threshold 비율 미만으로 남으면 캐시에서 빠지고 다음 조회 때 새로 서명
+ * - 목록 조회는 getUrls 로 한 번에 처리 ( 캐시에 없는 key 만 서명 )
+ */
+@Service
+@Slf4j
+public class PresignedUrlService {
+
+    private final MinioClient minioClient;
+    private final String bucketName;
+    private final int expirySeconds;
+    private final Cache<String, String> cache;
+    private final Counter signCounter;
+
+    public PresignedUrlService(
+            MinioClient minioClient,
+            MeterRegistry meterRegistry,
+            @Value("${minio.bucket}") String bucketName,
+            @Value("${minio.presigned.expiry-seconds:86400}") int expirySeconds,
+            @Value("${minio.presigned.refresh-threshold:0.2}") double refreshThreshold,
+            @Value("${minio.presigned.maximum-size:50000}") long maximumSize) {
+        this.minioClient = minioClient;
+        this.bucketName = bucketName;
+        this.expirySeconds = expirySeconds;
+
+        // 남은 유효기간이 refreshThreshold 미만이 되는 시점에 만료 ( 응답한 URL 은 항상 그 이상 유효 )
+        long cacheSeconds = (long) (expirySeconds * (1 - refreshThreshold));
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(Math.max(cacheSeconds, 0)))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "minio.presignedUrl");
+        this.signCounter = meterRegistry.counter("minio.presignedUrl.signed");
+    }
+
+    /**
+     * object key 의 presigned URL ( key 가 null 이면 null )
+     */
+    public String getUrl(String objectKey) {
+        if (objectKey == null) {
+            return null;
+        }
+        return cache.get(objectKey, this::sign);
+    }
+
+    /**
+     * 여러 object key 의 presigned URL 을 한 번에 조회 ( null key 는 제외 )
+     *
+     * @return object key → presigned URL
+     */
+    public Map<String, String> getUrls(Collection<String> objectKeys) {
+        Set<String> keys = new LinkedHashSet<>();
+        for (String key : objectKeys) {
+            if (key != null) keys.add(key);
+        }
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+        return cache.getAll(keys, this::signAll);
+    }
+
+    /**
+     * 파일 교체 / 삭제 시 캐시 제거
+     */
+    public void evict(String objectKey) {
+        if (objectKey != null) {
+            cache.invalidate(objectKey);
+        }
+    }
+
+    // 캐시에 없는 key 만 모아서 서명
+    private Map<String, String> signAll(Set<? extends String> objectKeys) {
+        Map<String, String> signed = new HashMap<>();
+        for (String key : objectKeys) {
+            signed.put(key, sign(key));
+        }
+        log.debug("presigned URL {}건 서명", signed.size());
+        return signed;
+    }
+
+    private String sign(String objectKey) {
+        try {
+            String url = minioClient.getPresignedObjectUrl(
+                    GetPresignedObjectUrlArgs.builder()
+                            .method(Method.GET)
+                            .bucket(bucketName)
+                            .object(objectKey)
+                            .expiry(expirySeconds)
+                            .build()
+            );
+            signCounter.increment();
+            return Objects.requireNonNull(url);
+        } catch (Exception e) {
+            throw new RuntimeException("presigned URL 생성 실패: " + objectKey, e);
+        }
+    }
+}
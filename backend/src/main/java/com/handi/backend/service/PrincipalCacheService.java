@@ -0,0 +1,181 @@
+package com.handi.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.handi.backend.entity.OauthUsers;
+import com.handi.backend.entity.Users;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * JWT 필터에서 사용하는 인증 사용자(Users / 임시 사용자 OauthUsers) 로컬 캐시
+ * - oauthUserId, email 두 가지 키로 조회
+ * - 크기 제한 + TTL 로 만료
+ * - 사용자 정보 변경 시 evict 호출 ( 커밋 이후 한 번 더 제거 + 필요 시 Redis pub/sub 으로 다른 노드에 전파 )
+ */
+@Service
+@Slf4j
+public class PrincipalCacheService {
+
+    public static final String INVALIDATION_CHANNEL = "principal:invalidate";
+
+    private final Cache<Integer, Object> byOauthUserId;
+    private final Cache<String, Object> byEmail;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final boolean redisInvalidation;
+
+    public PrincipalCacheService(
+            @Value("${auth.principal-cache.maximum-size:10000}") long maximumSize,
+            @Value("${auth.principal-cache.ttl-seconds:300}") long ttlSeconds,
+            @Value("${auth.principal-cache.redis-invalidation:false}") boolean redisInvalidation,
+            StringRedisTemplate stringRedisTemplate,
+            MeterRegistry meterRegistry) {
+        this.byOauthUserId = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.byEmail = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisInvalidation = redisInvalidation;
+
+        // hit / miss / eviction 메트릭 등록 ( cache.gets, cache.evictions ... )
+        CaffeineCacheMetrics.monitor(meterRegistry, byOauthUserId, "principal.oauthUserId");
+        CaffeineCacheMetrics.monitor(meterRegistry, byEmail, "principal.email");
+    }
+
+    /**
+     * oauthUserId 로 인증 사용자 조회 ( 캐시 미스일 때만 loader 실행 )
+     */
+    public Object getByOauthUserId(Integer oauthUserId, Function<Integer, Object> loader) {
+        return copyOf(byOauthUserId.get(oauthUserId, loader));
+    }
+
+    /**
+     * email 로 인증 사용자 조회 ( 캐시 미스일 때만 loader 실행 )
+     */
+    public Object getByEmail(String email, Function<String, Object> loader) {
+        return copyOf(byEmail.get(email, loader));
+    }
+
+    /**
+     * 사용자 정보 변경 시 캐시 제거
+     */
+    public void evict(Users user) {
+        if (user == null) {
+            return;
+        }
+        Integer oauthUserId = user.getOauthUser() != null ? user.getOauthUser().getId() : null;
+        evict(oauthUserId, user.getEmail());
+    }
+
+    /**
+     * 캐시 제거 ( 트랜잭션 안이면 커밋 후 한 번 더 제거해서 커밋 전 재적재된 값도 정리 )
+     */
+    public void evict(Integer oauthUserId, String email) {
+        evictLocal(oauthUserId, email);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictLocal(oauthUserId, email);
+                    publishInvalidation(oauthUserId, email);
+                }
+            });
+        } else {
+            publishInvalidation(oauthUserId, email);
+        }
+    }
+
+    /**
+     * 현재 노드의 캐시만 제거 ( Redis 무효화 메시지 수신 시 사용 )
+     */
+    public void evictLocal(Integer oauthUserId, String email) {
+        if (oauthUserId != null) {
+            byOauthUserId.invalidate(oauthUserId);
+        }
+        if (email != null) {
+            byEmail.invalidate(email);
+        }
+        log.debug("인증 사용자 캐시 제거: oauthUserId={}, email={}", oauthUserId, email);
+    }
+
+    /**
+     * Redis 무효화 메시지 처리 ( "oauthUserId:email" 형식 )
+     */
+    public void handleInvalidationMessage(String payload) {
+        int idx = payload.indexOf(':');
+        if (idx < 0) {
+            return;
+        }
+        String id = payload.substring(0, idx);
+        String email = payload.substring(idx + 1);
+        evictLocal(id.isEmpty() ? null : Integer.valueOf(id), email.isEmpty() ? null : email);
+    }
+
+    /**
+     * 캐시 통계 조회
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("oauthUserId", toMap(byOauthUserId.stats(), byOauthUserId.estimatedSize()));
+        stats.put("email", toMap(byEmail.stats(), byEmail.estimatedSize()));
+        return stats;
+    }
+
+    private Map<String, Object> toMap(CacheStats stats, long size) {
+        Map<String, Object> map = new HashMap<>();
+        map.put("size", size);
+        map.put("hitCount", stats.hitCount());
+        map.put("missCount", stats.missCount());
+        map.put("hitRate", stats.hitRate());
+        map.put("evictionCount", stats.evictionCount());
+        return map;
+    }
+
+    private void publishInvalidation(Integer oauthUserId, String email) {
+        if (!redisInvalidation) {
+            return;
+        }
+        try {
+            String payload = (oauthUserId != null ? oauthUserId : "") + ":" + (email != null ? email : "");
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, payload);
+        } catch (Exception e) {
+            // 전파 실패해도 TTL 이후 자연 만료
+            log.error("인증 사용자 캐시 무효화 전파 실패: {}", e.getMessage());
+        }
+    }
+
+    // 요청마다 별도 인스턴스를 넘겨서 컨트롤러에서 principal 을 수정해도 캐시 값은 그대로 유지
+    private Object copyOf(Object principal) {
+        if (principal instanceof Users user) {
+            Users copy = new Users();
+            BeanUtils.copyProperties(user, copy);
+            return copy;
+        }
+        if (principal instanceof OauthUsers oauthUser) {
+            OauthUsers copy = new OauthUsers();
+            BeanUtils.copyProperties(oauthUser, copy);
+            return copy;
+        }
+        return principal;
+    }
+}
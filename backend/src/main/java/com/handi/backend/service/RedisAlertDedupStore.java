@@ -0,0 +1,44 @@
+package com.handi.backend.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Redis SET NX + TTL 기반 중복 방지 ( 여러 노드가 같은 알림을 잡아도 한 노드만 성공 )
+ */
+@Component
+@ConditionalOnProperty(name = "alert.dedup.store", havingValue = "redis", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class RedisAlertDedupStore implements AlertDedupStore {
+
+    private static final String KEY_PREFIX = "alert:sent:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Override
+    public boolean tryAcquire(long key, LocalDateTime expireAt) {
+        Duration ttl = Duration.between(LocalDateTime.now(), expireAt);
+        if (ttl.isNegative() || ttl.isZero()) {
+            // 이미 만료된 이벤트는 발송 대상 아님
+            return false;
+        }
+        Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(redisKey(key), "1", ttl);
+        return Boolean.TRUE.equals(acquired);
+    }
+
+    @Override
+    public void release(long key) {
+        stringRedisTemplate.delete(redisKey(key));
+    }
+
+    private String redisKey(long key) {
+        return KEY_PREFIX + Long.toHexString(key);
+    }
+}
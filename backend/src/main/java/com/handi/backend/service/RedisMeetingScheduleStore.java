@@ -0,0 +1,190 @@
+package com.handi.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.handi.backend.dto.meeting.EmployeeScheduleData;
+import com.handi.backend.dto.meeting.GuardianRequestData;
+import com.handi.backend.util.ScheduleCodec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상담 일정 Redis 저장소 ( meeting.schedule.store=redis, 기본 )
+ * 값은 키 prefix 별 ScheduleCodec 으로 직렬화 ( 바이너리, 이전 JSON 형식도 읽기 가능 )
+ * 여러 키 조회는 MGET 1회
+ * 매칭 결과 반영은 Lua 스크립트로 처리 ( 조회 이후 값이 바뀌었으면 아무것도 변경하지 않음 )
+ */
+@Service
+@ConditionalOnProperty(name = "meeting.schedule.store", havingValue = "redis", matchIfMissing = true)
+@Slf4j
+public class RedisMeetingScheduleStore implements MeetingScheduleStore {
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> RESERVE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/reserve-meeting-slots.lua"), List.class);
+    private static final RedisScript<Long> RELEASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/release-meeting-slots.lua"), Long.class);
+
+    private final RedisTemplate<String, byte[]> redisTemplate;
+    private final ScheduleCodec<EmployeeScheduleData> employeeCodec;
+    private final ScheduleCodec<GuardianRequestData> guardianCodec;
+
+    public RedisMeetingScheduleStore(@Qualifier("binaryRedisTemplate") RedisTemplate<String, byte[]> redisTemplate,
+                                     ObjectMapper objectMapper) {
+        this.redisTemplate = redisTemplate;
+        this.employeeCodec = ScheduleCodec.employee(objectMapper);
+        this.guardianCodec = ScheduleCodec.guardian(objectMapper);
+    }
+
+    @Override
+    public EmployeeScheduleData getEmployeeSchedule(Integer employeeId) {
+        return employeeCodec.deserialize(redisTemplate.opsForValue().get(MeetingScheduleStore.employeeKey(employeeId)));
+    }
+
+    @Override
+    public Snapshot<EmployeeScheduleData> getEmployeeScheduleSnapshot(Integer employeeId) {
+        return snapshot(redisTemplate.opsForValue().get(MeetingScheduleStore.employeeKey(employeeId)), employeeCodec);
+    }
+
+    @Override
+    public Map<Integer, Snapshot<EmployeeScheduleData>> getEmployeeScheduleSnapshots(Collection<Integer> employeeIds) {
+        return multiGet(employeeIds, EMPLOYEE_KEY_PREFIX, employeeCodec);
+    }
+
+    @Override
+    public GuardianRequestData getGuardianRequest(Integer seniorId) {
+        return guardianCodec.deserialize(redisTemplate.opsForValue().get(MeetingScheduleStore.seniorRequestKey(seniorId)));
+    }
+
+    @Override
+    public Map<Integer, GuardianRequestData> getGuardianRequests(Collection<Integer> seniorIds) {
+        Map<Integer, GuardianRequestData> result = new LinkedHashMap<>();
+        getGuardianRequestSnapshots(seniorIds).forEach((seniorId, snapshot) -> result.put(seniorId, snapshot.data()));
+        return result;
+    }
+
+    @Override
+    public Map<Integer, Snapshot<GuardianRequestData>> getGuardianRequestSnapshots(Collection<Integer> seniorIds) {
+        return multiGet(seniorIds, SENIOR_REQUEST_KEY_PREFIX, guardianCodec);
+    }
+
+    @Override
+    public void saveEmployeeSchedule(Integer employeeId, EmployeeScheduleData data, Duration ttl) {
+        set(MeetingScheduleStore.employeeKey(employeeId), employeeCodec.serialize(data), ttl);
+    }
+
+    @Override
+    public void saveGuardianRequest(Integer seniorId, GuardianRequestData data, Duration ttl) {
+        set(MeetingScheduleStore.seniorRequestKey(seniorId), guardianCodec.serialize(data), ttl);
+    }
+
+    @Override
+    public Reservation reserve(Integer employeeId, byte[] expectedEmployee, EmployeeScheduleData updated,
+                               Map<Integer, byte[]> consumedRequests) {
+        byte[] updatedEmployee = employeeCodec.serialize(updated);
+        List<String> keys = new ArrayList<>(consumedRequests.size() + 1);
+        List<Object> args = new ArrayList<>(consumedRequests.size() + 2);
+        keys.add(MeetingScheduleStore.employeeKey(employeeId));
+        args.add(expectedEmployee);
+        args.add(updatedEmployee);
+        consumedRequests.forEach((seniorId, raw) -> {
+            keys.add(MeetingScheduleStore.seniorRequestKey(seniorId));
+            args.add(raw);
+        });
+
+        List<?> result = redisTemplate.execute(RESERVE_SCRIPT, keys, args.toArray());
+        boolean reserved = result != null && !result.isEmpty() && toLong(result.get(0)) == 1L;
+        log.debug("상담 시간 예약: employeeId={}, 시니어 {}명, reserved={}", employeeId, consumedRequests.size(), reserved);
+        if (!reserved) {
+            return null;
+        }
+
+        // 스크립트가 돌려준 보호자 요청 만료 시간 ( KEYS 순서 )
+        Map<Integer, Long> requestTtls = new LinkedHashMap<>();
+        int index = 1;
+        for (Integer seniorId : consumedRequests.keySet()) {
+            requestTtls.put(seniorId, index < result.size() ? toLong(result.get(index)) : -1L);
+            index++;
+        }
+        return new Reservation(employeeId, expectedEmployee, updatedEmployee,
+                new LinkedHashMap<>(consumedRequests), requestTtls);
+    }
+
+    @Override
+    public boolean release(Reservation reservation) {
+        List<String> keys = new ArrayList<>(reservation.consumedRequests().size() + 1);
+        List<Object> args = new ArrayList<>(reservation.consumedRequests().size() * 2 + 2);
+        keys.add(MeetingScheduleStore.employeeKey(reservation.employeeId()));
+        args.add(reservation.updatedEmployee());
+        args.add(reservation.expectedEmployee());
+        reservation.consumedRequests().forEach((seniorId, raw) -> {
+            keys.add(MeetingScheduleStore.seniorRequestKey(seniorId));
+            args.add(raw);
+            // 값 직렬화가 byte[] 라서 숫자도 문자열 바이트로 전달
+            args.add(String.valueOf(reservation.requestTtls().getOrDefault(seniorId, -1L))
+                    .getBytes(StandardCharsets.UTF_8));
+        });
+
+        Long result = redisTemplate.execute(RELEASE_SCRIPT, keys, args.toArray());
+        boolean released = result != null && result == 1L;
+        log.debug("상담 시간 예약 복구: employeeId={}, 시니어 {}명, released={}",
+                reservation.employeeId(), reservation.consumedRequests().size(), released);
+        return released;
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : Long.parseLong(String.valueOf(value));
+    }
+
+    private <T> Map<Integer, Snapshot<T>> multiGet(Collection<Integer> ids, String prefix, ScheduleCodec<T> codec) {
+        Map<Integer, Snapshot<T>> result = new LinkedHashMap<>();
+        if (ids == null || ids.isEmpty()) {
+            return result;
+        }
+        List<Integer> idList = new ArrayList<>(ids);
+        List<byte[]> values = redisTemplate.opsForValue().multiGet(keys(idList, prefix));
+        if (values == null) {
+            return result;
+        }
+        for (int i = 0; i < idList.size(); i++) {
+            Snapshot<T> snapshot = snapshot(values.get(i), codec);
+            if (snapshot != null) {
+                result.put(idList.get(i), snapshot);
+            }
+        }
+        return result;
+    }
+
+    private List<String> keys(Collection<Integer> ids, String prefix) {
+        List<String> keys = new ArrayList<>(ids.size());
+        for (Integer id : ids) {
+            keys.add(prefix + id);
+        }
+        return keys;
+    }
+
+    private void set(String key, byte[] value, Duration ttl) {
+        if (ttl != null) {
+            redisTemplate.opsForValue().set(key, value, ttl);
+        } else {
+            redisTemplate.opsForValue().set(key, value);
+        }
+    }
+
+    private <T> Snapshot<T> snapshot(byte[] value, ScheduleCodec<T> codec) {
+        T data = codec.deserialize(value);
+        return data != null ? new Snapshot<>(data, value) : null;
+    }
+}
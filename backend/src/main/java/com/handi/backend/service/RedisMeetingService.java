@@ -1,10 +1,10 @@
 package com.handi.backend.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.handi.backend.converter.DateTimeConverter;
 import com.handi.backend.dto.meeting.EmployeeScheduleData;
 import com.handi.backend.dto.meeting.GuardianRequestData;
+import com.handi.backend.dto.meeting.MeetingScheduleChangedEvent;
 import com.handi.backend.dto.meeting.MeetingScheduleEmployeeDto;
 import com.handi.backend.dto.meeting.MeetingScheduleGuardiantDto;
 import com.handi.backend.dto.observation.record.Guardian;
@@ -14,15 +14,18 @@ import com.handi.backend.enums.ConsultationStatus;
 import com.handi.backend.enums.Role;
 import com.handi.backend.exception.NotFoundException;
 import com.handi.backend.repository.SeniorsRepository;
+import com.handi.backend.util.SlotCalendar;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -31,11 +34,13 @@ import java.util.stream.Collectors;
 public class RedisMeetingService {
 
     private final RedisTemplate<String, Object> redisTemplate;
-    private final ObjectMapper objectMapper;
 
-    private static final long DEFAULT_TTL_DAYS = 7; // 7일 TTL
+    private static final long DEFAULT_TTL_DAYS = 7; // 최소 7일 TTL
     private final DateTimeConverter dateTimeConverter;
     private final SeniorsRepository seniorsRepository;
+    private final MeetingScheduleStore meetingScheduleStore;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
 
     /**
      * 미팅 스케줄 데이터를 Redis에 저장
@@ -63,22 +68,25 @@ public class RedisMeetingService {
      * 간호사 스케줄 데이터 저장
      */
     private void insertEmployeeSchedule(Users user, MeetingScheduleEmployeeDto requestDto) {
+        // 30분 단위가 아니거나 형식이 잘못된 시간은 저장 전에 거절 ( 400 )
+        SlotCalendar availableSlots = SlotCalendar.fromTimes(requestDto.getCheckedTime());
         try {
-            String key = "employee:schedule:" + user.getId();
+            String key = MeetingScheduleStore.employeeKey(user.getId());
 
             List<Seniors> seniorsList = seniorsRepository.findByRelatedUserId(user.getId());
             List<Integer> serniorIds = seniorsList.stream().map(Seniors::getId).collect(Collectors.toList());
 
             EmployeeScheduleData scheduleData = new EmployeeScheduleData();
             scheduleData.setSeniors(serniorIds);
-            scheduleData.setAvailableTime(requestDto.getCheckedTime());
+            scheduleData.setAvailableSlots(availableSlots);
             scheduleData.setCreatedAt(dateTimeConverter.localDateTimeToString(LocalDateTime.now()));
-            scheduleData.setExpiresAt(dateTimeConverter.localDateTimeToString(LocalDateTime.now().plusDays(DEFAULT_TTL_DAYS)));
+            Duration ttl = ttlFor(availableSlots);
+            scheduleData.setExpiresAt(dateTimeConverter.localDateTimeToString(LocalDateTime.now().plus(ttl)));
 
-            String jsonData = objectMapper.writeValueAsString(scheduleData);
-            redisTemplate.opsForValue().set(key, jsonData, DEFAULT_TTL_DAYS, TimeUnit.DAYS);
+            meetingScheduleStore.saveEmployeeSchedule(user.getId(), scheduleData, ttl);
 
             log.info("간호사 스케줄 저장 완료: userId={}, key={}", user.getId(), key);
+            eventPublisher.publishEvent(MeetingScheduleChangedEvent.ofEmployee(user.getId()));
 
         } catch (Exception e) {
             log.error("간호사 스케줄 저장 실패: userId={}", user.getId(), e);
@@ -90,22 +98,24 @@ public class RedisMeetingService {
      * 보호자 요청 데이터 저장 (시니어별)
      */
     private void insertGuardianRequest(Users user, MeetingScheduleGuardiantDto requestDto) {
+        // 30분 단위가 아니거나 형식이 잘못된 시간은 저장 전에 거절 ( 400 )
+        SlotCalendar availableSlots = SlotCalendar.fromTimes(requestDto.getCheckedTime());
         try {
             List<Seniors> seniorsList = seniorsRepository.findByRelatedUserId(user.getId());
-            // 각 시니어별로 별도 키로 저장
-            for (Seniors list : seniorsList) {
-                String key = "senior:request:" + requestDto.getSeniorId();
+            // 요청한 시니어 키 하나에만 저장 ( 담당 시니어가 있는 보호자만 )
+            if (!seniorsList.isEmpty()) {
+                String key = MeetingScheduleStore.seniorRequestKey(requestDto.getSeniorId());
 
                 GuardianRequestData requestData = new GuardianRequestData();
                 requestData.setUserId(user.getId());
-                requestData.setAvailableTime(requestDto.getCheckedTime());
+                requestData.setAvailableSlots(availableSlots);
                 requestData.setRequestedAt(dateTimeConverter.localDateTimeToString(LocalDateTime.now()));
                 requestData.setStatus(ConsultationStatus.PENDING);
 
-                String jsonData = objectMapper.writeValueAsString(requestData);
-                redisTemplate.opsForValue().set(key, jsonData, DEFAULT_TTL_DAYS, TimeUnit.DAYS);
+                meetingScheduleStore.saveGuardianRequest(requestDto.getSeniorId(), requestData, ttlFor(availableSlots));
 
                 log.info("보호자 요청 저장 완료: userId={}, seniorId={}, key={}",user.getId(), requestDto.getSeniorId(), key);
+                eventPublisher.publishEvent(MeetingScheduleChangedEvent.ofSenior(requestDto.getSeniorId()));
             }
 
         } catch (Exception e) {
@@ -114,19 +124,18 @@ public class RedisMeetingService {
         }
     }
 
-    /**
-     * 특정 키의 스케줄 데이터 조회
-     */
-    public String getScheduleData(String key) {
-        try {
-            String data = (String) redisTemplate.opsForValue().get(key);
-            log.info("스케줄 데이터 조회: key={}, found={}", key, data != null);
-            return data;
-
-        } catch (Exception e) {
-            log.error("스케줄 데이터 조회 실패: key={}", key, e);
-            throw new RuntimeException("스케줄 데이터 조회에 실패했습니다.", e);
+    // 매칭 구간이 TTL 보다 길 수 있으므로 마지막 가능 날짜가 끝날 때까지는 유지 ( 최소 7일 )
+    private Duration ttlFor(SlotCalendar availableSlots) {
+        Duration ttl = Duration.ofDays(DEFAULT_TTL_DAYS);
+        String lastDate = availableSlots.lastDate();
+        if (lastDate != null) {
+            Duration untilLastDate = Duration.between(LocalDateTime.now(),
+                    dateTimeConverter.stringToLocalDate(lastDate).plusDays(1).atStartOfDay());
+            if (untilLastDate.compareTo(ttl) > 0) {
+                ttl = untilLastDate;
+            }
         }
+        return ttl;
     }
 
     /**
@@ -134,8 +143,9 @@ public class RedisMeetingService {
      */
     public String getGuardianRequestBySenior(Integer seniorId) {
         try {
-            String key = "senior:request:" + seniorId;
-            return getScheduleData(key);
+            // 일정 키는 바이너리로 저장되므로 저장소에서 읽어서 JSON 으로 변환
+            GuardianRequestData request = meetingScheduleStore.getGuardianRequest(seniorId);
+            return request != null ? objectMapper.writeValueAsString(request) : null;
 
         } catch (Exception e) {
             log.error("보호자 요청 조회 실패: seniorId={}", seniorId, e);
@@ -164,40 +174,25 @@ public class RedisMeetingService {
     public MeetingScheduleEmployeeDto getEmployeeScheduleData(Users user) {
         if(!user.getRole().equals(Role.EMPLOYEE)) throw new RuntimeException("해당 기능은 간호사만 사용이 가능합니다");
 
-        String key = "employee:schedule:" + user.getId();
-        String data = (String) redisTemplate.opsForValue().get(key);
-
-        if(data == null) return null;
-
-        try {
-            EmployeeScheduleData schedule = objectMapper.readValue(data, EmployeeScheduleData.class);
-            MeetingScheduleEmployeeDto result = new  MeetingScheduleEmployeeDto();
-            result.setCheckedTime(schedule.getAvailableTime());
-            return result;
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("스케줄을 불러오는데 실패했습니다.");
-        }
+        EmployeeScheduleData schedule = meetingScheduleStore.getEmployeeSchedule(user.getId());
+        if(schedule == null) return null;
 
+        MeetingScheduleEmployeeDto result = new  MeetingScheduleEmployeeDto();
+        result.setCheckedTime(schedule.slots().toTimes());
+        return result;
     }
 
 
     public MeetingScheduleGuardiantDto getGuardianScheduleData(Users user, Integer seniorId) {
         if(!user.getRole().equals(Role.GUARDIAN)) throw new RuntimeException("해당 기능은 보호자만 사용이 가능합니다");
 
-        String key = "senior:request:" + seniorId;
-        String data = (String) redisTemplate.opsForValue().get(key);
-
-        if(data == null) return null;
+        GuardianRequestData schedule = meetingScheduleStore.getGuardianRequest(seniorId);
+        if(schedule == null) return null;
 
-        try{
-            GuardianRequestData schedule = objectMapper.readValue(data, GuardianRequestData.class);
-            MeetingScheduleGuardiantDto result = new  MeetingScheduleGuardiantDto();
-            result.setSeniorId(seniorId);
-            result.setCheckedTime(schedule.getAvailableTime());
-            return result;
-        }catch (JsonProcessingException e){
-            throw new RuntimeException("스케줄을 불러오는데 실패했습니다.");
-        }
+        MeetingScheduleGuardiantDto result = new  MeetingScheduleGuardiantDto();
+        result.setSeniorId(seniorId);
+        result.setCheckedTime(schedule.slots().toTimes());
+        return result;
     }
 
     public List<MeetingScheduleGuardiantDto> getAllGuardianScheduleData(Users user) {
@@ -205,19 +200,17 @@ public class RedisMeetingService {
 
         if(!user.getRole().equals(Role.GUARDIAN)) throw new RuntimeException("해당 기능은 보호자만 사용이 가능합니다");
         List<Seniors> seniorsList = seniorsRepository.findByRelatedUserId(user.getId());
+
+        // 담당 시니어 요청 한 번에 조회 ( MGET )
+        Map<Integer, GuardianRequestData> requests = meetingScheduleStore.getGuardianRequests(
+                seniorsList.stream().map(Seniors::getId).toList());
         for (Seniors senior : seniorsList) {
-            String key = "senior:request:" + senior.getId();
-            String data = (String) redisTemplate.opsForValue().get(key);
-            if(data == null) return null;
-            try{
-                GuardianRequestData schedule = objectMapper.readValue(data, GuardianRequestData.class);
-                MeetingScheduleGuardiantDto dto = new  MeetingScheduleGuardiantDto();
-                dto.setSeniorId(senior.getId());
-                dto.setCheckedTime(schedule.getAvailableTime());
-                result.add(dto);
-            }catch (JsonProcessingException e){
-                throw new RuntimeException("스케줄을 불러오는데 실패했습니다.");
-            }
+            GuardianRequestData schedule = requests.get(senior.getId());
+            if(schedule == null) return null;
+            MeetingScheduleGuardiantDto dto = new  MeetingScheduleGuardiantDto();
+            dto.setSeniorId(senior.getId());
+            dto.setCheckedTime(schedule.slots().toTimes());
+            result.add(dto);
         }
         return result;
     }
@@ -6,10 +6,15 @@ import com.handi.backend.util.PhoneNumberUtil;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
@@ -21,6 +26,7 @@ import java.util.concurrent.TimeUnit;
 public class RedisService {
 
     private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
     private final JwtTokenProvider jwtTokenProvider;
     private final PhoneNumberUtil phoneNumberUtil;
 
@@ -68,18 +74,30 @@ public class RedisService {
 
     /**
      * 기관 발행 코드를 Redis에 저장
+     * 타입 정보 없는 Hash 로 저장 ( phoneNumber / organizationId / role 필드 )
      */
     public void storeOrgCode(String code, String phoneNumber, Integer organizationId, Role role) {
         String key = buildOrgCodeKey(code);
 
-        Map<String, Object> data = new HashMap<>();
+        Map<String, String> data = new HashMap<>();
         data.put("phoneNumber", phoneNumber);
-        data.put("organizationId", organizationId);
-        data.put("role", role);
+        data.put("organizationId", String.valueOf(organizationId));
+        data.put("role", role.name());
 
         try {
-            // 덮어쓰기 방식으로 바로 저장 (존재 여부 확인/삭제 불필요)
-            redisTemplate.opsForValue().set(key, data, ORG_CODE_EXPIRE_TIME, TimeUnit.MINUTES);
+            // 덮어쓰기 ( 이전 값은 지우고 새로 저장 ), DEL + HSET + EXPIRE 를 MULTI 로 한 번에
+            stringRedisTemplate.execute(new SessionCallback<List<Object>>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> List<Object> execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    ops.multi();
+                    ops.delete(key);
+                    ops.opsForHash().putAll(key, data);
+                    ops.expire(key, ORG_CODE_EXPIRE_TIME, TimeUnit.MINUTES);
+                    return ops.exec();
+                }
+            });
             log.debug("Redis에 기관 발행 코드 저장: code={}, phone={}, role={}", code, phoneNumberUtil.maskPhoneNumber(phoneNumber), role);
         } catch (Exception e) {
             log.error("Redis 저장 실패: code={}, phone={}, role={}, error={}", code, phoneNumberUtil.maskPhoneNumber(phoneNumber), role, e.getMessage());
@@ -96,7 +114,7 @@ public class RedisService {
         String key = buildOrgCodeKey(userInputCode);
 
         try {
-            Object orgCode = get(key);
+            Object orgCode = readOrgCode(key);
             
             if (orgCode == null) {
                 log.debug("존재하지 않거나 만료된 인증 코드: userInputCode={}", userInputCode);
@@ -114,6 +132,30 @@ public class RedisService {
     }
 
 
+    // Hash 필드를 기존과 같은 타입의 Map 으로 변환 ( 값이 없으면 null )
+    private Map<String, Object> readOrgCode(String key) {
+        Map<Object, Object> fields;
+        try {
+            fields = stringRedisTemplate.opsForHash().entries(key);
+        } catch (RedisSystemException e) {
+            // 이전 형식( 타입 정보가 들어간 JSON 값 )으로 저장된 코드 ( 최대 30분 )
+            @SuppressWarnings("unchecked")
+            Map<String, Object> legacy = (Map<String, Object>) get(key);
+            return legacy;
+        }
+        if (fields.isEmpty()) {
+            return null;
+        }
+
+        Map<String, Object> orgCode = new HashMap<>();
+        orgCode.put("phoneNumber", fields.get("phoneNumber"));
+        Object organizationId = fields.get("organizationId");
+        orgCode.put("organizationId", organizationId != null ? Integer.valueOf((String) organizationId) : null);
+        Object role = fields.get("role");
+        orgCode.put("role", role != null ? Role.valueOf((String) role) : null);
+        return orgCode;
+    }
+
     /**
      * SMS 인증 코드 삭제 (SMS 전송 실패시 등)
      */
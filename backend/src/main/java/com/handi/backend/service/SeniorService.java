@@ -124,8 +124,8 @@ public class SeniorService {
      * 시니어 목록 조회 (기관별)
      */
     public PageResponseDto<SeniorResponseDto> getSeniorsByOrganization(Integer organizationId, Pageable pageable) {
-        Page<Seniors> seniorPage = seniorsRepository.findByOrganizationIdAndIsActiveTrueAndIsDeletedFalse(organizationId, pageable);
-        
+        Page<SeniorListProjection> seniorPage = seniorsRepository.findActiveProjectionByOrganizationId(organizationId, pageable);
+
         List<SeniorResponseDto> seniors = seniorPage.getContent().stream()
                 .map(this::convertToResponseDto)
                 .collect(Collectors.toList());
@@ -261,6 +261,24 @@ public class SeniorService {
                 .build();
     }
 
+    private SeniorResponseDto convertToResponseDto(SeniorListProjection senior) {
+        return SeniorResponseDto.builder()
+                .id(senior.id())
+                .organizationId(senior.organizationId())
+                .organizationName(senior.organizationName())
+                .name(senior.name())
+                .birthDate(dateTimeConverter.localDateToString(senior.birthDate()))
+                .gender(senior.gender())
+                .admissionDate(dateTimeConverter.localDateToString(senior.admissionDate()))
+                .dischargeDate(dateTimeConverter.localDateToString(senior.dischargeDate()))
+                .note(senior.note())
+                .isActive(senior.isActive())
+                .createdAt(dateTimeConverter.localDateTimeToString(senior.createdAt()))
+                .updatedAt(dateTimeConverter.localDateTimeToString(senior.updatedAt()))
+                .age(calculateAge(senior.birthDate()))
+                .build();
+    }
+
     private SeniorDetailResponseDto convertToDetailResponseDto(Seniors senior, List<SeniorUserRelations> relations) {
         List<SeniorDetailResponseDto.RelatedUserDto> relatedUsers = relations.stream()
                 .map(relation -> SeniorDetailResponseDto.RelatedUserDto.builder()
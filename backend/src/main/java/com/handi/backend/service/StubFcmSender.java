@@ -0,0 +1,61 @@
+package com.handi.backend.service;
+
+import com.handi.backend.dto.notification.FcmSendResult;
+import com.handi.backend.dto.notification.PushNotification;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 실제 발송 없이 FCM 응답을 흉내내는 구현체 ( fcm.stub=true )
+ * - 호출마다 latency-ms 만큼 대기
+ * - "unregistered" 로 시작하는 토큰은 UNREGISTERED
+ * - failure-rate 확률로 UNAVAILABLE ( 재시도 경로 확인용 )
+ */
+@Component
+@ConditionalOnProperty(name = "fcm.stub", havingValue = "true")
+@Slf4j
+public class StubFcmSender implements FcmSender {
+
+    private final long latencyMs;
+    private final double failureRate;
+
+    public StubFcmSender(@Value("${fcm.stub-latency-ms:50}") long latencyMs,
+                         @Value("${fcm.stub-failure-rate:0.0}") double failureRate) {
+        this.latencyMs = latencyMs;
+        this.failureRate = failureRate;
+        log.warn("FCM stub 모드 : 실제 푸시 알림이 발송되지 않습니다.");
+    }
+
+    @Override
+    public List<FcmSendResult> sendEach(List<PushNotification> notifications) throws InterruptedException {
+        return simulate(notifications.stream().map(PushNotification::getToken).toList());
+    }
+
+    @Override
+    public List<FcmSendResult> sendMulticast(PushNotification payload, List<String> tokens) throws InterruptedException {
+        return simulate(tokens);
+    }
+
+    private List<FcmSendResult> simulate(List<String> tokens) throws InterruptedException {
+        if (latencyMs > 0) {
+            Thread.sleep(latencyMs);
+        }
+        List<FcmSendResult> results = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+            if (token.startsWith("unregistered")) {
+                results.add(FcmSendResult.failure(token, "UNREGISTERED"));
+            } else if (failureRate > 0 && ThreadLocalRandom.current().nextDouble() < failureRate) {
+                results.add(FcmSendResult.failure(token, "UNAVAILABLE"));
+            } else {
+                results.add(FcmSendResult.success(token));
+            }
+        }
+        return results;
+    }
+}
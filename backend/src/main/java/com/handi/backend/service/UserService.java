@@ -36,6 +36,7 @@ public class UserService {
     private final OrganizationsRepository organizationsRepository;
     private final OrganizationMapper organizationMapper;
     private final DateTimeConverter dateTimeConverter;
+    private final PrincipalCacheService principalCacheService;
 
     /**
      * 사용자 조회 (Oauth User ID로)
@@ -144,6 +145,9 @@ public class UserService {
         // 데이터베이스에 저장
         Users savedUser = usersRepository.save(user);
 
+        // 임시 사용자로 캐시된 값 제거
+        principalCacheService.evict(oauthUserId, savedUser.getEmail());
+
         log.info("사용자 생성 완료: ID={}, email={}", savedUser.getId(), savedUser.getEmail());
         return userMapper.toResponseDto(savedUser);
     }
@@ -172,6 +176,7 @@ public class UserService {
 
         // 데이터베이스에 수정
         Users savedUser = usersRepository.save(user);
+        principalCacheService.evict(savedUser);
 
         log.info("사용자 수정 완료: ID={}, 이메일={}", savedUser.getId(), savedUser.getEmail());
 
@@ -226,6 +231,7 @@ public class UserService {
         // 논리 삭제 (실제로는 isDeleted 플래그를 true로 설정)
         user.setIsDeleted(true);
         usersRepository.save(user);
+        principalCacheService.evict(user);
 
         log.info("사용자 삭제 완료: ID={}, 이메일={}", user.getId(), user.getEmail());
     }
@@ -265,6 +271,7 @@ public class UserService {
         user.setFcmToken(requestDto.getToken());
         user.setUpdatedAt(LocalDateTime.now());
         Users savedUser = usersRepository.save(user);
+        principalCacheService.evict(savedUser);
 
         return userMapper.toResponseDto(savedUser);
     }
@@ -272,6 +279,7 @@ public class UserService {
     public void deleteFcmToken(Users user) {
         user.setFcmToken(null);
         usersRepository.save(user);
+        principalCacheService.evict(user);
     }
 
     public void deleteUserMe(String email) {
@@ -282,5 +290,6 @@ public class UserService {
 
         existingUser.setIsDeleted(true);
         usersRepository.save(existingUser);
+        principalCacheService.evict(existingUser);
     }
 }
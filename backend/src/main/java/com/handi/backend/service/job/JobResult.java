@@ -0,0 +1,18 @@
+package com.handi.backend.service.job;
+
+/**
+ * 작업 1회 실행 결과
+ *
+ * @param processed 처리 건수
+ * @param failures  실패 건수 ( 작업은 계속 진행된 경우 )
+ */
+public record JobResult(int processed, int failures) {
+
+    public static JobResult of(int processed) {
+        return new JobResult(processed, 0);
+    }
+
+    public boolean isEmpty() {
+        return processed == 0 && failures == 0;
+    }
+}
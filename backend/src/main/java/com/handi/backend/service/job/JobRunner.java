@@ -0,0 +1,198 @@
+package com.handi.backend.service.job;
+
+import com.handi.backend.entity.JobRuns;
+import com.handi.backend.enums.JobRunStatus;
+import com.handi.backend.repository.JobRunsRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 예약 작업 실행기
+ * - @Scheduled 메서드는 submit 만 하고 바로 반환 ( 스케줄러 스레드가 오래 걸리는 작업에 묶이지 않음 )
+ * - 작업마다 전용 스레드 1개, 이전 실행이 끝나지 않았으면 이번 실행은 건너뜀
+ * - Redis 임대( job:lease:{작업 이름} )를 가진 노드 1개만 실행, 실행 중에는 임대 연장
+ * - 실행 기록은 job_runs 테이블, 실행 시간은 job.duration 타이머 ( job / outcome 태그 )
+ */
+@Service
+@Slf4j
+public class JobRunner {
+
+    private static final String LEASE_KEY_PREFIX = "job:lease:";
+    private static final int ERROR_MESSAGE_MAX_LENGTH = 1000;
+
+    private static final RedisScript<Long> RENEW_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/renew-job-lease.lua"), Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final JobRunsRepository jobRunsRepository;
+    private final MeterRegistry meterRegistry;
+
+    // 이 노드 식별자 ( pid@host + 재시작 구분용 임의 값 )
+    private final String nodeId = ManagementFactory.getRuntimeMXBean().getName() + ":" + UUID.randomUUID().toString().substring(0, 8);
+
+    private final Map<String, ExecutorService> executors = new ConcurrentHashMap<>();
+    private final Map<String, AtomicBoolean> running = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService leaseRenewer;
+
+    public JobRunner(StringRedisTemplate stringRedisTemplate, JobRunsRepository jobRunsRepository, MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.jobRunsRepository = jobRunsRepository;
+        this.meterRegistry = meterRegistry;
+        this.leaseRenewer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "job-lease");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executors.values().forEach(ExecutorService::shutdownNow);
+        leaseRenewer.shutdownNow();
+    }
+
+    /**
+     * 작업 실행 요청 ( 작업 전용 스레드에서 실행 )
+     */
+    public void submit(JobSpec spec, JobTask task) {
+        AtomicBoolean flag = running.computeIfAbsent(spec.name(), name -> new AtomicBoolean());
+        if (!flag.compareAndSet(false, true)) {
+            log.warn("작업 {} 이전 실행이 아직 끝나지 않아 건너뜁니다.", spec.name());
+            skipped(spec, "overlap");
+            return;
+        }
+        try {
+            executor(spec.name()).execute(() -> {
+                try {
+                    runAsLeader(spec, task);
+                } finally {
+                    flag.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            flag.set(false);
+            throw e;
+        }
+    }
+
+    private void runAsLeader(JobSpec spec, JobTask task) {
+        String leaseKey = LEASE_KEY_PREFIX + spec.name();
+        Boolean acquired;
+        try {
+            acquired = stringRedisTemplate.opsForValue().setIfAbsent(leaseKey, nodeId, spec.leaseTtl());
+        } catch (Exception e) {
+            log.error("작업 {} 임대 획득 실패로 건너뜁니다: {}", spec.name(), e.getMessage());
+            skipped(spec, "lease-error");
+            return;
+        }
+        if (!Boolean.TRUE.equals(acquired)) {
+            log.debug("작업 {} 다른 노드가 실행 중이라 건너뜁니다.", spec.name());
+            skipped(spec, "not-leader");
+            return;
+        }
+
+        long period = Math.max(spec.leaseTtl().toMillis() / 3, 1000);
+        ScheduledFuture<?> renewal = leaseRenewer.scheduleAtFixedRate(
+                () -> renew(leaseKey, spec.leaseTtl().toMillis()), period, period, TimeUnit.MILLISECONDS);
+        long start = System.nanoTime();
+        try {
+            execute(spec, task);
+        } finally {
+            renewal.cancel(false);
+            // minInterval 이 남아있으면 그만큼 임대 유지, 아니면 바로 반납
+            Duration remaining = spec.minInterval().minusNanos(System.nanoTime() - start);
+            renew(leaseKey, remaining.isNegative() ? 0 : Math.max(remaining.toMillis(), 1));
+        }
+    }
+
+    private void execute(JobSpec spec, JobTask task) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        JobResult result = null;
+        Exception error = null;
+        try {
+            result = task.run();
+        } catch (Exception e) {
+            error = e;
+            log.error("작업 {} 실행 실패: {}", spec.name(), e.getMessage(), e);
+        }
+
+        String outcome = error != null ? "failure" : "success";
+        sample.stop(meterRegistry.timer("job.duration", "job", spec.name(), "outcome", outcome));
+        if (result != null) {
+            meterRegistry.counter("job.items", "job", spec.name()).increment(result.processed());
+            meterRegistry.counter("job.failures", "job", spec.name()).increment(result.failures());
+        }
+
+        if (error == null && !spec.recordEmptyRuns() && (result == null || result.isEmpty())) {
+            return;
+        }
+        record(spec, startedAt, result, error);
+    }
+
+    private void record(JobSpec spec, LocalDateTime startedAt, JobResult result, Exception error) {
+        try {
+            JobRuns run = new JobRuns();
+            run.setJobName(spec.name());
+            run.setNodeId(nodeId);
+            run.setStartedAt(startedAt);
+            run.setEndedAt(LocalDateTime.now());
+            run.setStatus(error != null ? JobRunStatus.FAILED : JobRunStatus.SUCCEEDED);
+            run.setItemsProcessed(result != null ? result.processed() : 0);
+            run.setFailures(result != null ? result.failures() : 0);
+            if (error != null) {
+                String message = String.valueOf(error.getMessage());
+                run.setErrorMessage(message.length() > ERROR_MESSAGE_MAX_LENGTH
+                        ? message.substring(0, ERROR_MESSAGE_MAX_LENGTH) : message);
+            }
+            jobRunsRepository.save(run);
+        } catch (Exception e) {
+            // 기록 실패로 작업 결과가 바뀌지는 않음
+            log.error("작업 {} 실행 기록 저장 실패: {}", spec.name(), e.getMessage(), e);
+        }
+    }
+
+    private void renew(String leaseKey, long ttlMillis) {
+        try {
+            Long renewed = stringRedisTemplate.execute(RENEW_SCRIPT, List.of(leaseKey), nodeId, String.valueOf(ttlMillis));
+            if (ttlMillis > 0 && (renewed == null || renewed == 0L)) {
+                log.warn("작업 임대를 잃었습니다: key={}", leaseKey);
+            }
+        } catch (Exception e) {
+            log.error("작업 임대 연장 실패: key={}, {}", leaseKey, e.getMessage());
+        }
+    }
+
+    private void skipped(JobSpec spec, String reason) {
+        meterRegistry.counter("job.skipped", "job", spec.name(), "reason", reason).increment();
+    }
+
+    private ExecutorService executor(String jobName) {
+        return executors.computeIfAbsent(jobName, name -> Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "job-" + name);
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+}
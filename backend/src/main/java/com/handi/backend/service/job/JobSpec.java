@@ -0,0 +1,14 @@
+package com.handi.backend.service.job;
+
+import java.time.Duration;
+
+/**
+ * 예약 작업 설정
+ *
+ * @param name            작업 이름 ( 실행기 / 임대 키 / 메트릭 태그 )
+ * @param leaseTtl        리더 임대 만료 시간 ( 실행 중에는 1/3 마다 연장, 노드가 죽으면 이 시간 뒤 다른 노드가 실행 가능 )
+ * @param minInterval     끝난 뒤에도 이 시간 동안은 임대 유지 ( 노드마다 시계가 조금 달라도 자정 작업이 두 번 돌지 않도록 )
+ * @param recordEmptyRuns 처리 건수 0 인 실행도 기록할지 ( 자주 도는 작업은 false )
+ */
+public record JobSpec(String name, Duration leaseTtl, Duration minInterval, boolean recordEmptyRuns) {
+}
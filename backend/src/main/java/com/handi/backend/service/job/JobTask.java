@@ -0,0 +1,7 @@
+package com.handi.backend.service.job;
+
+@FunctionalInterface
+public interface JobTask {
+
+    JobResult run() throws Exception;
+}
@@ -0,0 +1,79 @@
+package com.handi.backend.service.matching;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 기존 백트래킹 매칭 ( 참고용 구현, 시니어 수에 대해 지수 시간 )
+ * 다른 엔진 결과의 배정 수 검증용 ( matching.cross-check-max-seniors )
+ */
+@Component
+public class BacktrackingMatchingEngine implements MatchingEngine {
+
+    @Override
+    public String name() {
+        return "backtracking";
+    }
+
+    @Override
+    public Map<Integer, String> match(List<String> employeeSlots, Map<Integer, List<String>> seniorSlots) {
+        MatchingGraph graph = MatchingGraph.of(employeeSlots, seniorSlots);
+        int n = graph.seniorCount();
+
+        // 시니어별 공통 시간을 미리 빠른 순으로 정렬 ( 기존 구현의 commonTimes.sorted() 와 같은 순서 )
+        int[][] commonSlots = new int[n][];
+        for (int i = 0; i < n; i++) {
+            commonSlots[i] = graph.adjacency[i].clone();
+            Arrays.sort(commonSlots[i]);
+        }
+
+        Search search = new Search(commonSlots, graph.slotCount());
+        search.backtrack(0, 0);
+        return graph.toAssignment(search.best);
+    }
+
+    private static final class Search {
+        private final int[][] commonSlots;
+        private final boolean[] usedSlots;
+        private final int[] current;
+        private int[] best;
+        private int bestCount;
+
+        Search(int[][] commonSlots, int slotCount) {
+            this.commonSlots = commonSlots;
+            this.usedSlots = new boolean[slotCount];
+            this.current = new int[commonSlots.length];
+            Arrays.fill(current, -1);
+            this.best = current.clone();
+        }
+
+        void backtrack(int index, int count) {
+            // 남은 시니어를 모두 배정해도 최적보다 못하면 중단
+            if (count + (commonSlots.length - index) <= bestCount) {
+                return;
+            }
+            if (count > bestCount) {
+                bestCount = count;
+                best = current.clone();
+            }
+            if (index >= commonSlots.length) {
+                return;
+            }
+
+            for (int slot : commonSlots[index]) {
+                if (usedSlots[slot]) continue;
+                usedSlots[slot] = true;
+                current[index] = slot;
+                backtrack(index + 1, count + 1);
+                current[index] = -1;
+                usedSlots[slot] = false;
+            }
+
+            // 해당 시니어를 배정하지 않고 넘어가는 경우
+            backtrack(index + 1, count);
+        }
+    }
+}
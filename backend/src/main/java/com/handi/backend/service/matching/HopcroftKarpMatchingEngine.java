@@ -0,0 +1,87 @@
+package com.handi.backend.service.matching;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 최대 매칭 ( Hopcroft–Karp, O(E √V) )
+ * 배정 수만 최대화하고 어떤 시간이 배정될지는 고려하지 않음
+ */
+@Component
+public class HopcroftKarpMatchingEngine implements MatchingEngine {
+
+    private static final int INF = Integer.MAX_VALUE;
+
+    @Override
+    public String name() {
+        return "hopcroft-karp";
+    }
+
+    @Override
+    public Map<Integer, String> match(List<String> employeeSlots, Map<Integer, List<String>> seniorSlots) {
+        MatchingGraph graph = MatchingGraph.of(employeeSlots, seniorSlots);
+        int n = graph.seniorCount();
+        int[][] adjacency = graph.adjacency;
+
+        int[] slotOfSenior = new int[n];
+        int[] seniorOfSlot = new int[graph.slotCount()];
+        Arrays.fill(slotOfSenior, -1);
+        Arrays.fill(seniorOfSlot, -1);
+        int[] dist = new int[n];
+
+        while (bfs(adjacency, slotOfSenior, seniorOfSlot, dist)) {
+            for (int u = 0; u < n; u++) {
+                if (slotOfSenior[u] == -1) {
+                    dfs(u, adjacency, slotOfSenior, seniorOfSlot, dist);
+                }
+            }
+        }
+        return graph.toAssignment(slotOfSenior);
+    }
+
+    // 배정 안 된 시니어에서 시작하는 층 그래프 구성, 증가 경로가 있으면 true
+    private boolean bfs(int[][] adjacency, int[] slotOfSenior, int[] seniorOfSlot, int[] dist) {
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int u = 0; u < adjacency.length; u++) {
+            if (slotOfSenior[u] == -1) {
+                dist[u] = 0;
+                queue.add(u);
+            } else {
+                dist[u] = INF;
+            }
+        }
+
+        boolean found = false;
+        while (!queue.isEmpty()) {
+            int u = queue.poll();
+            for (int slot : adjacency[u]) {
+                int next = seniorOfSlot[slot];
+                if (next == -1) {
+                    found = true;
+                } else if (dist[next] == INF) {
+                    dist[next] = dist[u] + 1;
+                    queue.add(next);
+                }
+            }
+        }
+        return found;
+    }
+
+    private boolean dfs(int u, int[][] adjacency, int[] slotOfSenior, int[] seniorOfSlot, int[] dist) {
+        for (int slot : adjacency[u]) {
+            int next = seniorOfSlot[slot];
+            if (next == -1 || (dist[next] == dist[u] + 1 && dfs(next, adjacency, slotOfSenior, seniorOfSlot, dist))) {
+                slotOfSenior[u] = slot;
+                seniorOfSlot[slot] = u;
+                return true;
+            }
+        }
+        // 이번 단계에서 더 이상 증가 경로 없음
+        dist[u] = INF;
+        return false;
+    }
+}
@@ -0,0 +1,26 @@
+package com.handi.backend.service.matching;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 간호사 1명의 상담 시간 배정 알고리즘
+ * - 한 시니어당 최대 1개 시간, 한 시간당 최대 1명
+ * - 배정 가능한 시니어 수가 최대가 되도록 배정
+ *
+ * matching.engine 으로 선택 ( min-cost / hopcroft-karp / backtracking )
+ */
+public interface MatchingEngine {
+
+    /**
+     * 설정값으로 쓰는 엔진 이름
+     */
+    String name();
+
+    /**
+     * @param employeeSlots 간호사 가능 시간 ( yyyyMMddHHmmss )
+     * @param seniorSlots   시니어 ID → 보호자 희망 시간 ( 보호자가 입력한 순서 = 선호 순서 )
+     * @return 시니어 ID → 배정 시간
+     */
+    Map<Integer, String> match(List<String> employeeSlots, Map<Integer, List<String>> seniorSlots);
+}
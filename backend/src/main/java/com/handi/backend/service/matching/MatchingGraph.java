@@ -0,0 +1,81 @@
+package com.handi.backend.service.matching;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 시니어 ↔ 시간 이분 그래프 ( 엔진 공통 전처리 )
+ * - 시니어는 ID 순, 시간은 빠른 순으로 번호를 매겨서 결과가 항상 같도록 함
+ * - adjacency[i] : i번째 시니어가 가능한 시간 번호 ( 보호자 선호 순서 )
+ * - preference[i][k] : adjacency[i][k] 의 보호자 선호 순위 ( 0 부터 )
+ */
+final class MatchingGraph {
+
+    final List<Integer> seniorIds;
+    final List<String> slots;
+    final int[][] adjacency;
+    final int[][] preference;
+
+    private MatchingGraph(List<Integer> seniorIds, List<String> slots, int[][] adjacency, int[][] preference) {
+        this.seniorIds = seniorIds;
+        this.slots = slots;
+        this.adjacency = adjacency;
+        this.preference = preference;
+    }
+
+    static MatchingGraph of(List<String> employeeSlots, Map<Integer, List<String>> seniorSlots) {
+        List<String> slots = new ArrayList<>(new TreeSet<>(employeeSlots));
+        Map<String, Integer> slotIndex = new HashMap<>();
+        for (int i = 0; i < slots.size(); i++) {
+            slotIndex.put(slots.get(i), i);
+        }
+
+        List<Integer> seniorIds = new ArrayList<>(seniorSlots.keySet());
+        Collections.sort(seniorIds);
+
+        int[][] adjacency = new int[seniorIds.size()][];
+        int[][] preference = new int[seniorIds.size()][];
+        for (int i = 0; i < seniorIds.size(); i++) {
+            List<String> wanted = seniorSlots.get(seniorIds.get(i));
+            // 중복 시간은 처음 나온 순위만 사용
+            Map<Integer, Integer> rankBySlot = new LinkedHashMap<>();
+            if (wanted != null) {
+                int rank = 0;
+                for (String time : wanted) {
+                    Integer idx = slotIndex.get(time);
+                    if (idx != null) {
+                        rankBySlot.putIfAbsent(idx, rank);
+                    }
+                    rank++;
+                }
+            }
+            adjacency[i] = rankBySlot.keySet().stream().mapToInt(Integer::intValue).toArray();
+            preference[i] = rankBySlot.values().stream().mapToInt(Integer::intValue).toArray();
+        }
+        return new MatchingGraph(seniorIds, slots, adjacency, preference);
+    }
+
+    int seniorCount() {
+        return seniorIds.size();
+    }
+
+    int slotCount() {
+        return slots.size();
+    }
+
+    // slotOfSenior[i] = 배정된 시간 번호 ( 없으면 -1 ) → 시니어 ID → 시간
+    Map<Integer, String> toAssignment(int[] slotOfSenior) {
+        Map<Integer, String> result = new LinkedHashMap<>();
+        for (int i = 0; i < slotOfSenior.length; i++) {
+            if (slotOfSenior[i] >= 0) {
+                result.put(seniorIds.get(i), slots.get(slotOfSenior[i]));
+            }
+        }
+        return result;
+    }
+}
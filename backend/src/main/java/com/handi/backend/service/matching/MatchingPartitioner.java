@@ -0,0 +1,75 @@
+package com.handi.backend.service.matching;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 서로 영향을 주지 않는 간호사 묶음 나누기
+ * - 간호사끼리는 시간을 공유하지 않지만, 같은 시니어를 담당하면 보호자 요청 하나를 두고 경쟁함
+ * - 담당 시니어가 하나라도 겹치는 간호사는 같은 묶음 ( 시니어-간호사 그래프의 연결 요소 )
+ * 묶음끼리는 병렬로, 묶음 안은 순서대로 매칭
+ */
+public final class MatchingPartitioner {
+
+    private MatchingPartitioner() {
+    }
+
+    /**
+     * @param seniorsByEmployee 간호사 ID → 담당 시니어 ID
+     * @return 간호사 ID 묶음 ( 큰 묶음 먼저, 묶음 안은 간호사 ID 순 )
+     */
+    public static List<List<Integer>> partition(Map<Integer, ? extends Collection<Integer>> seniorsByEmployee) {
+        List<Integer> employeeIds = new ArrayList<>(seniorsByEmployee.keySet());
+        employeeIds.sort(null);
+
+        int[] parent = new int[employeeIds.size()];
+        for (int i = 0; i < parent.length; i++) {
+            parent[i] = i;
+        }
+
+        // 시니어별로 처음 만난 간호사와 합침
+        Map<Integer, Integer> ownerBySenior = new HashMap<>();
+        for (int i = 0; i < employeeIds.size(); i++) {
+            Collection<Integer> seniors = seniorsByEmployee.get(employeeIds.get(i));
+            if (seniors == null) continue;
+            for (Integer seniorId : seniors) {
+                Integer owner = ownerBySenior.putIfAbsent(seniorId, i);
+                if (owner != null) {
+                    union(parent, owner, i);
+                }
+            }
+        }
+
+        Map<Integer, List<Integer>> partitions = new LinkedHashMap<>();
+        for (int i = 0; i < employeeIds.size(); i++) {
+            partitions.computeIfAbsent(find(parent, i), root -> new ArrayList<>()).add(employeeIds.get(i));
+        }
+
+        List<List<Integer>> result = new ArrayList<>(partitions.values());
+        // 오래 걸리는 묶음부터 시작해야 전체 시간이 짧아짐
+        result.sort(Comparator.comparingInt((List<Integer> partition) -> partition.size()).reversed());
+        return result;
+    }
+
+    private static int find(int[] parent, int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+
+    private static void union(int[] parent, int a, int b) {
+        int rootA = find(parent, a);
+        int rootB = find(parent, b);
+        if (rootA != rootB) {
+            // 작은 번호를 루트로 두어서 묶음 순서를 일정하게 유지
+            parent[Math.max(rootA, rootB)] = Math.min(rootA, rootB);
+        }
+    }
+}
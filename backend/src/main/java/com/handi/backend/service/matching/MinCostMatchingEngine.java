@@ -0,0 +1,162 @@
+package com.handi.backend.service.matching;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 최대 매칭 중 비용이 가장 작은 배정 ( min-cost max-flow, successive shortest path )
+ * matching.cost
+ * - earliest            : 빠른 시간 우선 ( 기본 )
+ * - guardian-preference : 보호자가 먼저 입력한 시간 우선, 같으면 빠른 시간
+ */
+@Component
+public class MinCostMatchingEngine implements MatchingEngine {
+
+    private static final long INF = Long.MAX_VALUE / 4;
+
+    private final boolean preferGuardianChoice;
+
+    public MinCostMatchingEngine(@Value("${matching.cost:earliest}") String cost) {
+        this.preferGuardianChoice = "guardian-preference".equalsIgnoreCase(cost);
+    }
+
+    @Override
+    public String name() {
+        return "min-cost";
+    }
+
+    @Override
+    public Map<Integer, String> match(List<String> employeeSlots, Map<Integer, List<String>> seniorSlots) {
+        MatchingGraph graph = MatchingGraph.of(employeeSlots, seniorSlots);
+        int n = graph.seniorCount();
+        int m = graph.slotCount();
+
+        // 노드 : source(0), 시니어(1..n), 시간(n+1..n+m), sink(n+m+1)
+        FlowNetwork network = new FlowNetwork(n + m + 2);
+        int source = 0;
+        int sink = n + m + 1;
+        int[][] seniorSlotEdge = new int[n][];
+        for (int i = 0; i < n; i++) {
+            network.addEdge(source, 1 + i, 0);
+            seniorSlotEdge[i] = new int[graph.adjacency[i].length];
+            for (int k = 0; k < graph.adjacency[i].length; k++) {
+                int slot = graph.adjacency[i][k];
+                seniorSlotEdge[i][k] = network.addEdge(1 + i, 1 + n + slot, cost(slot, graph.preference[i][k], m));
+            }
+        }
+        for (int slot = 0; slot < m; slot++) {
+            network.addEdge(1 + n + slot, sink, 0);
+        }
+
+        network.minCostMaxFlow(source, sink);
+
+        int[] slotOfSenior = new int[n];
+        Arrays.fill(slotOfSenior, -1);
+        for (int i = 0; i < n; i++) {
+            for (int k = 0; k < seniorSlotEdge[i].length; k++) {
+                if (network.isSaturated(seniorSlotEdge[i][k])) {
+                    slotOfSenior[i] = graph.adjacency[i][k];
+                }
+            }
+        }
+        return graph.toAssignment(slotOfSenior);
+    }
+
+    // 시간 번호 자체가 빠른 순서이므로 그대로 비용으로 사용
+    private long cost(int slot, int preferenceRank, int slotCount) {
+        return preferGuardianChoice ? (long) preferenceRank * slotCount + slot : slot;
+    }
+
+    /**
+     * 용량 1 간선만 있는 유량 그래프
+     */
+    private static final class FlowNetwork {
+        private final int nodeCount;
+        private int[] head;
+        private int[] next = new int[16];
+        private int[] to = new int[16];
+        private int[] capacity = new int[16];
+        private long[] cost = new long[16];
+        private int edgeCount;
+
+        FlowNetwork(int nodeCount) {
+            this.nodeCount = nodeCount;
+            this.head = new int[nodeCount];
+            Arrays.fill(head, -1);
+        }
+
+        // 정방향 간선 번호 반환 ( 역방향은 번호 ^ 1 )
+        int addEdge(int from, int target, long edgeCost) {
+            int id = edgeCount;
+            link(from, target, 1, edgeCost);
+            link(target, from, 0, -edgeCost);
+            return id;
+        }
+
+        boolean isSaturated(int edge) {
+            return capacity[edge] == 0;
+        }
+
+        private void link(int from, int target, int cap, long edgeCost) {
+            if (edgeCount == to.length) {
+                int size = edgeCount * 2;
+                next = Arrays.copyOf(next, size);
+                to = Arrays.copyOf(to, size);
+                capacity = Arrays.copyOf(capacity, size);
+                cost = Arrays.copyOf(cost, size);
+            }
+            to[edgeCount] = target;
+            capacity[edgeCount] = cap;
+            cost[edgeCount] = edgeCost;
+            next[edgeCount] = head[from];
+            head[from] = edgeCount++;
+        }
+
+        // 역방향 간선의 음수 비용이 있으므로 최단 경로는 SPFA ( 그래프가 작아서 충분 )
+        void minCostMaxFlow(int source, int sink) {
+            long[] dist = new long[nodeCount];
+            int[] prevEdge = new int[nodeCount];
+            boolean[] inQueue = new boolean[nodeCount];
+
+            while (true) {
+                Arrays.fill(dist, INF);
+                Arrays.fill(prevEdge, -1);
+                dist[source] = 0;
+                ArrayDeque<Integer> queue = new ArrayDeque<>();
+                queue.add(source);
+                inQueue[source] = true;
+
+                while (!queue.isEmpty()) {
+                    int u = queue.poll();
+                    inQueue[u] = false;
+                    for (int e = head[u]; e != -1; e = next[e]) {
+                        if (capacity[e] == 0) continue;
+                        int v = to[e];
+                        if (dist[u] + cost[e] < dist[v]) {
+                            dist[v] = dist[u] + cost[e];
+                            prevEdge[v] = e;
+                            if (!inQueue[v]) {
+                                inQueue[v] = true;
+                                queue.add(v);
+                            }
+                        }
+                    }
+                }
+
+                if (dist[sink] == INF) {
+                    return;
+                }
+                // 용량이 모두 1 이라 경로마다 1 만큼 흘림
+                for (int v = sink; v != source; v = to[prevEdge[v] ^ 1]) {
+                    capacity[prevEdge[v]]--;
+                    capacity[prevEdge[v] ^ 1]++;
+                }
+            }
+        }
+    }
+}
@@ -2,8 +2,10 @@ package com.handi.backend.util;
 
 import com.handi.backend.entity.Users;
 import com.handi.backend.service.AuthService;
+import com.handi.backend.service.PrincipalCacheService;
 import com.handi.backend.service.RedisService;
 import com.handi.backend.service.UserService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -31,6 +33,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final AuthService authService;
     private final UserService userService;
     private final RedisService redisService;
+    private final PrincipalCacheService principalCacheService;
 
     // Public 주소 : 인증 / 인가가 필요하지 않은 주소
     // SecurityContext에 인증 정보 없음
@@ -44,7 +47,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             "/error",
             "/mock-oauth",
             "/api/v1/video",
-            "/api/v1/mock"
+            "/api/v1/mock",
+            "/actuator/health"
     );
 
     private boolean isExcludedPath(String requestURI) {
@@ -84,9 +88,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             String accessToken = cookieUtil.getCookieValue(request, "accessToken").orElse(null);
             String refreshToken = cookieUtil.getCookieValue(request, "refreshToken").orElse(null);
 
-            // 1. Access Token 확인
-            if (accessToken != null && jwtTokenProvider.validateToken(accessToken)) {
-                if (setAuthenticationContext(request, response, accessToken, refreshToken)) {
+            // 1. Access Token 확인 ( 서명 검증은 여기서 한 번만 )
+            Claims accessClaims = accessToken != null ? jwtTokenProvider.parseClaims(accessToken) : null;
+            if (accessClaims != null) {
+                if (setAuthenticationContext(request, response, accessClaims, refreshToken)) {
                     filterChain.doFilter(request, response);
                     return;
                 }
@@ -94,10 +99,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             }
 
             // 2. Access Token이 없거나 만료된 경우 - Refresh Token 확인
-            if (refreshToken != null && jwtTokenProvider.validateRefreshToken(refreshToken)) {
+            Claims refreshClaims = refreshToken != null ? jwtTokenProvider.parseClaims(refreshToken) : null;
+            if (refreshClaims != null && jwtTokenProvider.isRefreshToken(refreshClaims)) {
                 // 새로운 Access Token 발급
-                String newAccessToken = authService.refreshAccessToken(request, response);
-                if (newAccessToken != null && setAuthenticationContext(request, response, newAccessToken, refreshToken)) {
+                String newAccessToken = authService.refreshAccessToken(refreshToken, refreshClaims, response);
+                Claims newAccessClaims = newAccessToken != null ? jwtTokenProvider.parseClaims(newAccessToken) : null;
+                if (newAccessClaims != null && setAuthenticationContext(request, response, newAccessClaims, refreshToken)) {
                     if (!response.isCommitted()) {
                         filterChain.doFilter(request, response);
                     }
@@ -118,10 +125,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     // 사용자 조회 및 인증 컨텍스트 설정 (성공시 true, 실패시 false 반환하며 응답 처리함)
     private boolean setAuthenticationContext(HttpServletRequest request, HttpServletResponse response,
-                                             String accessToken, String refreshToken) throws IOException {
-        Integer oauthUserId = jwtTokenProvider.getOauthUserIdFromToken(accessToken);
-        String name = jwtTokenProvider.getNameFromToken(accessToken);
-        String email = jwtTokenProvider.getEmailFromToken(accessToken);
+                                             Claims accessClaims, String refreshToken) throws IOException {
+        Integer oauthUserId = jwtTokenProvider.getOauthUserId(accessClaims);
+        String name = jwtTokenProvider.getName(accessClaims);
+        String email = jwtTokenProvider.getEmail(accessClaims);
+
+        // 검증된 Claims 공유 ( 이후 단계에서 재파싱 하지 않도록 )
+        request.setAttribute(JwtTokenProvider.CLAIMS_ATTRIBUTE, accessClaims);
 
         // 임시 사용자를 위한
         request.setAttribute("oauthUserId", oauthUserId); // 지우지 말 것
@@ -131,10 +141,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         Object user;
 
+        // 로컬 캐시 우선 조회 ( 미스일 때만 DB 조회 )
         if (oauthUserId == null) {
-            user = userService.getByEmail(email);
+            user = principalCacheService.getByEmail(email, userService::getByEmail);
         } else {
-            user = userService.getByOauthUserId(oauthUserId);
+            user = principalCacheService.getByOauthUserId(oauthUserId, userService::getByOauthUserId);
         }
 
         if (user == null) {
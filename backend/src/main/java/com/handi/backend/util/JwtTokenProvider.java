@@ -2,6 +2,7 @@ package com.handi.backend.util;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -17,13 +18,81 @@ import java.util.Date;
 @Getter
 public class JwtTokenProvider {
 
+    // 검증된 Claims 를 보관하는 request attribute 이름 (필터에서 한 번만 파싱)
+    public static final String CLAIMS_ATTRIBUTE = "jwtClaims";
+
     private final SecretKey secretKey;
+    private final JwtParser jwtParser;        // 서명 검증용 파서 ( 불변 객체라 재사용 )
     private final long accessTokenExpiration = 1000 * 60 * 60 * 24;  // 30분 ( 임시 24시간 )
     private final long refreshTokenExpiration = 1000 * 60 * 60 * 24 * 7; // 7일
 
     public JwtTokenProvider(
             @Value("${JWT_SECRET}") String secret) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes());
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+    }
+
+    // 서명 검증 + Claims 추출 ( 실패 시 예외 )
+    private Claims parseSignedClaims(String token) {
+        return jwtParser.parseSignedClaims(token).getPayload();
+    }
+
+    // 토큰을 한 번만 파싱해서 검증된 Claims 반환 ( 유효하지 않으면 null )
+    public Claims parseClaims(String token) {
+        try {
+            return parseSignedClaims(token);
+        } catch (MalformedJwtException ex) {
+            log.error("잘못된 JWT 토큰: {}", ex.getMessage());
+        } catch (ExpiredJwtException ex) {
+            log.error("만료된 JWT 토큰: {}", ex.getMessage());
+        } catch (UnsupportedJwtException ex) {
+            log.error("지원되지 않는 JWT 토큰: {}", ex.getMessage());
+        } catch (IllegalArgumentException ex) {
+            log.error("JWT 클레임이 비어있음: {}", ex.getMessage());
+        } catch (Exception ex) {
+            log.error("JWT 토큰 검증 실패: {}", ex.getMessage());
+        }
+        return null;
+    }
+
+    // Claims 에서 OAuth User ID 추출
+    public Integer getOauthUserId(Claims claims) {
+        return claims.get("oauthUserId", Integer.class);
+    }
+
+    // 요청의 Claims ( 필터가 검증해 둔 값 우선, 없으면 한 번만 파싱해서 요청에 보관 )
+    public Claims getClaims(HttpServletRequest request, String token) {
+        if (request.getAttribute(CLAIMS_ATTRIBUTE) instanceof Claims claims) {
+            return claims;
+        }
+        Claims claims = token != null ? parseClaims(token) : null;
+        if (claims != null) {
+            request.setAttribute(CLAIMS_ATTRIBUTE, claims);
+        }
+        return claims;
+    }
+
+    // 요청에서 OAuth User ID 추출 ( 유효한 토큰이 없으면 null )
+    public Integer getOauthUserId(HttpServletRequest request, String token) {
+        Claims claims = getClaims(request, token);
+        return claims != null ? getOauthUserId(claims) : null;
+    }
+
+    // Claims 에서 이름 추출
+    public String getName(Claims claims) {
+        return claims.get("name", String.class);
+    }
+
+    // Claims 에서 이메일 추출
+    public String getEmail(Claims claims) {
+        return claims.getSubject();
+    }
+
+    // Refresh Token Claims 인지 확인
+    public boolean isRefreshToken(Claims claims) {
+        return "refresh".equals(claims.get("type", String.class));
     }
 
     // Access Token 생성
@@ -67,11 +136,7 @@ public class JwtTokenProvider {
     // Refrsh Token에서 refreshId 추출
     public String getRefreshIdFromToken(String token) {
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(getSecretKey())
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            Claims claims = parseSignedClaims(token);
             return claims.get("refreshId", String.class);
         } catch (Exception e) {
             log.error("토큰에서 refreshId 추출 실패: {}", e.getMessage());
@@ -83,11 +148,7 @@ public class JwtTokenProvider {
     // 토큰에서 이메일 추출
     public String getEmailFromToken(String token) {
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(getSecretKey())
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            Claims claims = parseSignedClaims(token);
             return claims.getSubject();
         } catch (Exception e) {
             log.error("토큰에서 이메일 추출 실패: {}", e.getMessage());
@@ -98,11 +159,7 @@ public class JwtTokenProvider {
     // 토큰에서 역할 추출
     public String getNameFromToken(String token) {
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(getSecretKey())
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            Claims claims = parseSignedClaims(token);
             return claims.get("name", String.class);
         } catch (Exception e) {
             log.error("토큰에서 이름 추출 실패: {}", e.getMessage());
@@ -113,11 +170,7 @@ public class JwtTokenProvider {
     // 토큰에서 OAuth User ID 추출
     public Integer getOauthUserIdFromToken(String token) {
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(getSecretKey())
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            Claims claims = parseSignedClaims(token);
             return claims.get("oauthUserId", Integer.class);
         } catch (Exception e) {
             log.error("토큰에서 OAuth User ID 추출 실패: {}", e.getMessage());
@@ -128,11 +181,7 @@ public class JwtTokenProvider {
     // 토큰에서 type 추출
     public String getTokenType(String token) {
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(getSecretKey())
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            Claims claims = parseSignedClaims(token);
             return claims.get("type", String.class);
         } catch (Exception e) {
             log.error("토큰에서 타입 추출 실패: {}", e.getMessage());
@@ -142,24 +191,7 @@ public class JwtTokenProvider {
 
     // 토큰 유효성 검증
     public boolean validateToken(String token) {
-        try {
-            Jwts.parser()
-                    .verifyWith(getSecretKey())
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
-        } catch (MalformedJwtException ex) {
-            log.error("잘못된 JWT 토큰: {}", ex.getMessage());
-        } catch (ExpiredJwtException ex) {
-            log.error("만료된 JWT 토큰: {}", ex.getMessage());
-        } catch (UnsupportedJwtException ex) {
-            log.error("지원되지 않는 JWT 토큰: {}", ex.getMessage());
-        } catch (IllegalArgumentException ex) {
-            log.error("JWT 클레임이 비어있음: {}", ex.getMessage());
-        } catch (Exception ex) {
-            log.error("JWT 토큰 검증 실패: {}", ex.getMessage());
-        }
-        return false;
+        return parseClaims(token) != null;
     }
 
     // 너 RefreshToken 이니?
@@ -191,11 +223,7 @@ public class JwtTokenProvider {
     // 토큰 만료 시간 확인
     public boolean isTokenExpired(String token) {
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(getSecretKey())
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            Claims claims = parseSignedClaims(token);
             return claims.getExpiration().before(new Date());
         } catch (ExpiredJwtException e) {
             return true; // 이미 만료됨
@@ -0,0 +1,92 @@
+package com.handi.backend.util;
+
+import com.handi.backend.dto.medication.MedicationOccurrence;
+import com.handi.backend.entity.MedicationSchedules;
+import com.handi.backend.entity.Medications;
+import com.handi.backend.enums.MedicationTime;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 투약 기간 + 시간대 목록으로 투약 예정을 날짜순으로 생성
+ * 전체 목록을 미리 만들지 않고 Stream 으로 하나씩 만들어서 기간이 길어도 메모리 사용량 일정
+ */
+public final class MedicationOccurrenceGenerator {
+
+    private MedicationOccurrenceGenerator() {
+    }
+
+    /**
+     * @param startDate       시작일 ( 포함 )
+     * @param endDate         종료일 ( 포함 )
+     * @param medicationTimes 하루 중 투약 시간대 ( MedicationTime 이름 )
+     */
+    public static Stream<MedicationOccurrence> generate(LocalDate startDate, LocalDate endDate, String[] medicationTimes) {
+        if (endDate.isBefore(startDate)) {
+            return Stream.empty();
+        }
+        MedicationTime[] times = Arrays.stream(medicationTimes).map(MedicationTime::valueOf).toArray(MedicationTime[]::new);
+        return startDate.datesUntil(endDate.plusDays(1))
+                .flatMap(date -> Arrays.stream(times).map(time -> new MedicationOccurrence(date, time)));
+    }
+
+    /**
+     * 스케줄로 계산한 투약 예정과 저장된 투약 내역을 합쳐서 반환 ( 날짜, 시간대 순 )
+     * 저장된 내역이 없는 칸은 id 가 없는 가상 Medications 로 채움
+     *
+     * @param schedule  투약 스케줄
+     * @param persisted 해당 스케줄의 저장된 투약 내역 ( from ~ to 범위 )
+     * @param from      조회 시작일 ( 포함 )
+     * @param to        조회 종료일 ( 포함 )
+     */
+    public static List<Medications> merge(MedicationSchedules schedule, List<Medications> persisted, LocalDate from, LocalDate to) {
+        Map<MedicationOccurrence, Medications> byOccurrence = new HashMap<>();
+        List<Medications> result = new ArrayList<>();
+        for (Medications medications : persisted) {
+            byOccurrence.putIfAbsent(new MedicationOccurrence(medications.getMedicationDate(), medications.getMedicationSchedule()), medications);
+            result.add(medications);
+        }
+
+        // 삭제된 스케줄은 저장된 내역만 반환
+        if (!Boolean.TRUE.equals(schedule.getIsDeleted()) && schedule.getMedicationTime() != null
+                && schedule.getMedicationStartdate() != null && schedule.getMedicationEnddate() != null) {
+            LocalDate start = from.isAfter(schedule.getMedicationStartdate()) ? from : schedule.getMedicationStartdate();
+            LocalDate end = to.isBefore(schedule.getMedicationEnddate()) ? to : schedule.getMedicationEnddate();
+            generate(start, end, schedule.getMedicationTime())
+                    .filter(occurrence -> !byOccurrence.containsKey(occurrence))
+                    .forEach(occurrence -> result.add(virtualOf(schedule, occurrence)));
+        }
+
+        result.sort(Comparator.comparing(Medications::getMedicationDate, Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(Medications::getMedicationSchedule));
+        return result;
+    }
+
+    /**
+     * 아직 저장되지 않은 투약 예정 ( id 없음 )
+     */
+    public static Medications virtualOf(MedicationSchedules schedule, MedicationOccurrence occurrence) {
+        Medications medications = new Medications();
+        medications.setMedicationSchedules(schedule);
+        medications.setMedicationDate(occurrence.medicationDate());
+        medications.setMedicationSchedule(occurrence.medicationTime());
+        medications.setIsDeleted(false);
+        return medications;
+    }
+
+    /**
+     * 스케줄에 해당 날짜 / 시간대 투약 예정이 있는지
+     */
+    public static boolean isScheduled(MedicationSchedules schedule, LocalDate date, MedicationTime time) {
+        if (Boolean.TRUE.equals(schedule.getIsDeleted()) || schedule.getMedicationTime() == null) return false;
+        if (date.isBefore(schedule.getMedicationStartdate()) || date.isAfter(schedule.getMedicationEnddate())) return false;
+        return Arrays.asList(schedule.getMedicationTime()).contains(time.name());
+    }
+}
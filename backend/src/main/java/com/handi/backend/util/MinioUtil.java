@@ -1,5 +1,6 @@
 package com.handi.backend.util;
 
+import com.handi.backend.exception.UploadLimitExceededException;
 import io.minio.MinioClient;
 import io.minio.PutObjectArgs;
 import io.minio.RemoveObjectArgs;
@@ -9,6 +10,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
@@ -19,6 +21,7 @@ import java.util.List;
 public class MinioUtil {
 
    private final MinioClient minioClient;
+   private final UploadLimiter uploadLimiter;
 
     @Value("${minio.endpoint}")
     private String minioEndpoint;
@@ -30,6 +33,10 @@ public class MinioUtil {
     @Value("${minio.allowed-extensions}")
     private List<String> allowedExtensions;
 
+    // multipart 업로드 part 크기 ( 크기를 모르는 스트림도 이 단위로 나눠서 전송, 최소 5MB )
+    @Value("${minio.part-size-mb:10}")
+    private long partSizeMb;
+
 
     // 문서 파일 업로드
     public String uploadFile(Integer seniorId, Integer documentId, MultipartFile file) throws Exception {
@@ -43,23 +50,55 @@ public class MinioUtil {
 
             log.info("MiniO로 파일 업로드 시작, filePath={}", filePath);
 
-            minioClient.putObject(
-                    PutObjectArgs.builder()
-                            .bucket(bucketName)
-                            .object(filePath)
-                            .stream(file.getInputStream(), file.getSize(), -1)
-                            .contentType(file.getContentType())
-                            .build()
-            );
+            uploadLimiter.run(() -> {
+                try (InputStream in = file.getInputStream()) {
+                    putObject(filePath, in, file.getSize(), file.getContentType());
+                }
+                return null;
+            });
 
             log.info("MiniO 파일 업로드 완료 : filePath={}", filePath);
             return filePath;
+        } catch (UploadLimitExceededException e){
+            throw e;
         } catch (Exception e){
             log.error("파일 업로드 실패, fileName={}", file.getOriginalFilename(), e);
             throw new RuntimeException("파일 업로드에 실패했습니다. " + e.getMessage());
         }
     }
 
+    // 문서 파일 업로드 ( FastAPI 마스킹 응답 스트림을 그대로 저장, 크기를 모르면 size = -1 )
+    public String uploadFile(Integer seniorId, Integer documentId, String fileName, InputStream in, long size, String contentType) {
+        try{
+            if (!isValidFileExtension(fileName)) {
+                throw new IllegalArgumentException("허용되지 않은 파일 확장자입니다. 허용 확장자: " + allowedExtensions);
+            }
+
+            String filePath = generateFilePath(seniorId, documentId, fileName);
+
+            log.info("MiniO로 파일 스트림 업로드 시작, filePath={}", filePath);
+
+            putObject(filePath, in, size, contentType);
+
+            log.info("MiniO 파일 업로드 완료 : filePath={}", filePath);
+            return filePath;
+        } catch (Exception e){
+            log.error("파일 업로드 실패, fileName={}", fileName, e);
+            throw new RuntimeException("파일 업로드에 실패했습니다. " + e.getMessage());
+        }
+    }
+
+    private void putObject(String filePath, InputStream in, long size, String contentType) throws Exception {
+        minioClient.putObject(
+                PutObjectArgs.builder()
+                        .bucket(bucketName)
+                        .object(filePath)
+                        .stream(in, size > 0 ? size : -1, partSizeMb * 1024 * 1024)
+                        .contentType(contentType)
+                        .build()
+        );
+    }
+
     // MiniO 에서 파일 삭제
     public void deleteFile(String filePath) {
         try {
@@ -112,17 +151,17 @@ public class MinioUtil {
 
             log.info("MiniO로 파일 업로드 시작, filePath={}", filePath);
 
-            minioClient.putObject(
-                    PutObjectArgs.builder()
-                            .bucket(bucketName)
-                            .object(filePath)
-                            .stream(file.getInputStream(), file.getSize(), -1)
-                            .contentType(file.getContentType())
-                            .build()
-            );
+            uploadLimiter.run(() -> {
+                try (InputStream in = file.getInputStream()) {
+                    putObject(filePath, in, file.getSize(), file.getContentType());
+                }
+                return null;
+            });
 
             log.info("MiniO 파일 업로드 완료 : filePath={}", filePath);
             return filePath;
+        } catch (UploadLimitExceededException e){
+            throw e;
         } catch (Exception e){
             log.error("파일 업로드 실패, fileName={}", file.getOriginalFilename(), e);
             throw new RuntimeException("파일 업로드에 실패했습니다. " + e.getMessage());
@@ -0,0 +1,92 @@
+package com.handi.backend.util;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.StringJoiner;
+
+/**
+ * 커서 페이징 ( 무한 스크롤 ) 유틸리티
+ * - 커서 = 마지막 행의 정렬 키 + ID 를 이어 붙여 Base64(URL) 로 인코딩한 값 ( 클라이언트는 받은 그대로 다시 보내기만 함 )
+ * - 조회는 OFFSET 없이 "정렬 키가 커서 다음인 행" 조건으로, COUNT 없이 size + 1 건으로 다음 페이지 여부 판단 ( Slice )
+ */
+public final class PageCursor {
+
+    public static final int DEFAULT_SIZE = 20;
+    // spring.data.web.pageable.max-page-size 와 동일
+    public static final int MAX_SIZE = 200;
+
+    private static final String SEPARATOR = "|";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final String[] keys;
+
+    private PageCursor(String[] keys) {
+        this.keys = keys;
+    }
+
+    /**
+     * 정렬 키 순서대로 커서 만들기 ( 날짜는 ISO 형식 )
+     */
+    public static String encode(Object... keys) {
+        StringJoiner joiner = new StringJoiner(SEPARATOR);
+        for (Object key : keys) {
+            if (key == null) {
+                throw new IllegalArgumentException("커서 정렬 키는 null 일 수 없습니다.");
+            }
+            joiner.add(key.toString());
+        }
+        return ENCODER.encodeToString(joiner.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 해석
+     *
+     * @param cursor   클라이언트가 보낸 커서
+     * @param keyCount 엔드포인트별 정렬 키 개수
+     * @return 첫 페이지( 커서 없음 )면 null
+     */
+    public static PageCursor decode(String cursor, int keyCount) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+            String[] keys = decoded.split("\\|", -1);
+            if (keys.length != keyCount) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return new PageCursor(keys);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+
+    /**
+     * 커서 조회용 Pageable ( 항상 첫 페이지, 정렬은 쿼리에 고정 )
+     */
+    public static Pageable slice(Integer size) {
+        int pageSize = size == null ? DEFAULT_SIZE : Math.max(1, Math.min(size, MAX_SIZE));
+        return PageRequest.of(0, pageSize);
+    }
+
+    public int getInt(int index) {
+        try {
+            return Integer.parseInt(keys[index]);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+
+    public LocalDateTime getDateTime(int index) {
+        try {
+            return LocalDateTime.parse(keys[index]);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.handi.backend.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.handi.backend.dto.meeting.EmployeeScheduleData;
+import com.handi.backend.dto.meeting.GuardianRequestData;
+import com.handi.backend.enums.ConsultationStatus;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상담 일정 Redis 값 직렬화 ( 키 prefix 별로 하나씩 사용 )
+ * - 첫 바이트 = 형식 버전, 숫자는 가변 길이 정수 ( 7비트씩 )
+ * - 달력은 날짜를 이전 날짜와의 차이로, 슬롯 비트는 그대로 가변 길이로 저장 ( 날짜당 보통 7 ~ 8바이트 )
+ * - @class 타입 정보 / 이중 JSON 인코딩 없음
+ * 이전 형식( GenericJackson2JsonRedisSerializer 로 감싼 JSON 문자열 )도 읽을 수 있음 ( 다음 저장 시 새 형식으로 바뀜 )
+ */
+public abstract class ScheduleCodec<T> implements RedisSerializer<T> {
+
+    private static final byte VERSION = 1;
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final ObjectMapper objectMapper;
+    private final Class<T> type;
+
+    protected ScheduleCodec(ObjectMapper objectMapper, Class<T> type) {
+        this.objectMapper = objectMapper;
+        this.type = type;
+    }
+
+    /**
+     * employee:schedule:{간호사 ID}
+     */
+    public static ScheduleCodec<EmployeeScheduleData> employee(ObjectMapper objectMapper) {
+        return new ScheduleCodec<>(objectMapper, EmployeeScheduleData.class) {
+            @Override
+            protected void write(Writer out, EmployeeScheduleData data) {
+                out.intList(data.getSeniors());
+                out.calendar(data.slots());
+                out.string(data.getCreatedAt());
+                out.string(data.getExpiresAt());
+            }
+
+            @Override
+            protected EmployeeScheduleData read(Reader in) {
+                EmployeeScheduleData data = new EmployeeScheduleData();
+                data.setSeniors(in.intList());
+                data.setAvailableSlots(in.calendar());
+                data.setCreatedAt(in.string());
+                data.setExpiresAt(in.string());
+                return data;
+            }
+        };
+    }
+
+    /**
+     * senior:request:{시니어 ID}
+     */
+    public static ScheduleCodec<GuardianRequestData> guardian(ObjectMapper objectMapper) {
+        return new ScheduleCodec<>(objectMapper, GuardianRequestData.class) {
+            @Override
+            protected void write(Writer out, GuardianRequestData data) {
+                out.integer(data.getUserId());
+                out.calendar(data.slots());
+                out.string(data.getRequestedAt());
+                out.string(data.getStatus() != null ? data.getStatus().name() : null);
+            }
+
+            @Override
+            protected GuardianRequestData read(Reader in) {
+                GuardianRequestData data = new GuardianRequestData();
+                data.setUserId(in.integer());
+                data.setAvailableSlots(in.calendar());
+                data.setRequestedAt(in.string());
+                String status = in.string();
+                data.setStatus(status != null ? ConsultationStatus.valueOf(status) : null);
+                return data;
+            }
+        };
+    }
+
+    protected abstract void write(Writer out, T data);
+
+    protected abstract T read(Reader in);
+
+    @Override
+    public byte[] serialize(T data) throws SerializationException {
+        if (data == null) {
+            return null;
+        }
+        Writer out = new Writer();
+        out.buffer.write(VERSION);
+        write(out, data);
+        return out.buffer.toByteArray();
+    }
+
+    @Override
+    public T deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        try {
+            if (bytes[0] == VERSION) {
+                return read(new Reader(bytes));
+            }
+            return readLegacy(bytes);
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("스케줄 데이터를 읽는데 실패했습니다.", e);
+        }
+    }
+
+    // "{\"seniors\":...}" ( JSON 문자열을 한 번 더 JSON 으로 감싼 값 ) 또는 JSON 그대로
+    private T readLegacy(byte[] bytes) throws IOException {
+        if (bytes[0] == '"') {
+            return objectMapper.readValue(objectMapper.readValue(bytes, String.class), type);
+        }
+        return objectMapper.readValue(bytes, type);
+    }
+
+    protected static final class Writer {
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(64);
+
+        // 0 = null, 그 외 값 + 1
+        void integer(Integer value) {
+            varLong(value == null ? 0 : (value & 0xFFFFFFFFL) + 1);
+        }
+
+        // 0 = null, 그 외 개수 + 1
+        void intList(List<Integer> values) {
+            if (values == null) {
+                varLong(0);
+                return;
+            }
+            varLong(values.size() + 1L);
+            for (Integer value : values) {
+                integer(value);
+            }
+        }
+
+        void string(String value) {
+            if (value == null) {
+                varLong(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            varLong(bytes.length + 1L);
+            buffer.writeBytes(bytes);
+        }
+
+        void calendar(SlotCalendar calendar) {
+            Map<String, Long> days = calendar.toMap();
+            varLong(days.size());
+            long previous = 0;
+            for (Map.Entry<String, Long> day : days.entrySet()) {
+                long epochDay = LocalDate.parse(day.getKey(), DATE_FORMATTER).toEpochDay();
+                varLong(epochDay - previous);   // 날짜 순서대로라서 항상 0 이상 ( 첫 날짜는 그대로 )
+                varLong(day.getValue());
+                previous = epochDay;
+            }
+        }
+
+        void varLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                buffer.write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            buffer.write((int) value);
+        }
+    }
+
+    protected static final class Reader {
+        private final byte[] bytes;
+        private int position = 1;   // 버전 다음부터
+
+        Reader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        Integer integer() {
+            long value = varLong();
+            return value == 0 ? null : (int) (value - 1);
+        }
+
+        List<Integer> intList() {
+            long size = varLong();
+            if (size == 0) {
+                return null;
+            }
+            List<Integer> values = new ArrayList<>((int) size - 1);
+            for (long i = 1; i < size; i++) {
+                values.add(integer());
+            }
+            return values;
+        }
+
+        String string() {
+            long length = varLong();
+            if (length == 0) {
+                return null;
+            }
+            String value = new String(bytes, position, (int) length - 1, StandardCharsets.UTF_8);
+            position += (int) length - 1;
+            return value;
+        }
+
+        SlotCalendar calendar() {
+            SlotCalendar calendar = new SlotCalendar();
+            long size = varLong();
+            long epochDay = 0;
+            for (long i = 0; i < size; i++) {
+                epochDay += varLong();
+                calendar.addAll(LocalDate.ofEpochDay(epochDay).format(DATE_FORMATTER), varLong());
+            }
+            return calendar;
+        }
+
+        long varLong() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = bytes[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("잘못된 가변 길이 정수입니다.");
+        }
+    }
+}
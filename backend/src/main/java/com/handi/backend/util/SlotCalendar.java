@@ -0,0 +1,238 @@
+package com.handi.backend.util;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 상담 가능 시간 달력 ( 날짜별 30분 단위 슬롯 비트 )
+ * - 하루 48개 슬롯이라 날짜당 long 1개, n번째 비트 = 00:00 + 30분 × n
+ * - 교집합 / 첫 빈 슬롯 / 슬롯 사용 처리는 모두 비트 연산 한 번
+ * - JSON 은 { "yyyyMMdd": 비트 } 형식 ( Redis 저장용 )
+ * - API 는 기존처럼 yyyyMMddHHmmss 문자열 목록을 쓰므로 fromTimes / toTimes 로 변환
+ */
+public final class SlotCalendar {
+
+    public static final int SLOT_MINUTES = 30;
+    public static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+
+    // 날짜(yyyyMMdd) → 슬롯 비트, 문자열 순서 = 날짜 순서
+    private final TreeMap<String, Long> days;
+
+    public SlotCalendar() {
+        this.days = new TreeMap<>();
+    }
+
+    @JsonCreator
+    public static SlotCalendar fromMap(Map<String, Long> days) {
+        SlotCalendar calendar = new SlotCalendar();
+        if (days != null) {
+            days.forEach(calendar::addAll);
+        }
+        return calendar;
+    }
+
+    @JsonValue
+    public Map<String, Long> toMap() {
+        return Collections.unmodifiableMap(days);
+    }
+
+    /**
+     * yyyyMMddHHmmss 목록 → 달력
+     * 30분 단위가 아니거나 형식이 잘못된 시간이 있으면 IllegalArgumentException ( API 400 )
+     */
+    public static SlotCalendar fromTimes(Collection<String> times) {
+        SlotCalendar calendar = new SlotCalendar();
+        if (times != null) {
+            for (String time : times) {
+                calendar.add(time);
+            }
+        }
+        return calendar;
+    }
+
+    /**
+     * 이전 형식( availableTime )으로 저장된 Redis 값 → 달력
+     * 이미 저장된 값이라 거절할 수 없으므로 슬롯으로 표현할 수 없는 시간은 건너뜀
+     */
+    public static SlotCalendar fromLegacyTimes(Collection<String> times) {
+        SlotCalendar calendar = new SlotCalendar();
+        if (times != null) {
+            for (String time : times) {
+                try {
+                    calendar.add(time);
+                } catch (IllegalArgumentException e) {
+                    // 30분 단위가 아니거나 형식이 잘못된 시간 ( 어떤 슬롯과도 매칭되지 않음 )
+                }
+            }
+        }
+        return calendar;
+    }
+
+    /**
+     * 달력 → yyyyMMddHHmmss 목록 ( 빠른 순 )
+     */
+    public List<String> toTimes() {
+        List<String> times = new ArrayList<>();
+        days.forEach((date, bits) -> appendTimes(times, date, bits));
+        return times;
+    }
+
+    /**
+     * 하루치 슬롯 비트 → yyyyMMddHHmmss 목록 ( 빠른 순 )
+     */
+    public static List<String> toTimes(String date, long bits) {
+        List<String> times = new ArrayList<>(Long.bitCount(bits));
+        appendTimes(times, date, bits);
+        return times;
+    }
+
+    /**
+     * fromDate ~ toDate ( yyyyMMdd, 양 끝 포함 ) 구간만 남긴 달력
+     */
+    public SlotCalendar between(String fromDate, String toDate) {
+        SlotCalendar result = new SlotCalendar();
+        if (fromDate.compareTo(toDate) <= 0) {
+            result.days.putAll(days.subMap(fromDate, true, toDate, true));
+        }
+        return result;
+    }
+
+    /**
+     * 가능한 시간이 있는 마지막 날짜 ( 비어 있으면 null )
+     */
+    public String lastDate() {
+        return days.isEmpty() ? null : days.lastKey();
+    }
+
+    /**
+     * 해당 날짜의 슬롯 비트 ( 없으면 0 )
+     */
+    public long day(String date) {
+        return days.getOrDefault(date, 0L);
+    }
+
+    public void add(String time) {
+        addAll(dateOf(time), 1L << slotOf(time));
+    }
+
+    public void addAll(String date, long bits) {
+        if (bits != 0) {
+            days.merge(date, bits, (a, b) -> a | b);
+        }
+    }
+
+    public boolean contains(String time) {
+        return (day(dateOf(time)) & (1L << slotOf(time))) != 0;
+    }
+
+    /**
+     * 해당 날짜에 두 달력이 모두 가능한 슬롯
+     */
+    public long intersect(String date, SlotCalendar other) {
+        return day(date) & other.day(date);
+    }
+
+    /**
+     * 두 달력이 모두 가능한 슬롯 ( 전체 날짜 )
+     */
+    public SlotCalendar intersect(SlotCalendar other) {
+        SlotCalendar result = new SlotCalendar();
+        days.forEach((date, bits) -> result.addAll(date, bits & other.day(date)));
+        return result;
+    }
+
+    /**
+     * 해당 날짜에서 mask 와 겹치는 가장 빠른 슬롯 ( 없으면 null )
+     */
+    public String firstSlot(String date, long mask) {
+        long bits = day(date) & mask;
+        return bits == 0 ? null : timeOf(date, Long.numberOfTrailingZeros(bits));
+    }
+
+    /**
+     * 슬롯 사용 처리 ( 가능한 시간이었으면 true )
+     */
+    public boolean consume(String time) {
+        String date = dateOf(time);
+        long bit = 1L << slotOf(time);
+        if ((day(date) & bit) == 0) {
+            return false;
+        }
+        consumeAll(date, bit);
+        return true;
+    }
+
+    public void consumeAll(String date, long bits) {
+        Long remaining = days.computeIfPresent(date, (d, current) -> current & ~bits);
+        if (remaining != null && remaining == 0) {
+            days.remove(date);
+        }
+    }
+
+    public boolean isEmpty() {
+        return days.isEmpty();
+    }
+
+    public int count() {
+        int count = 0;
+        for (long bits : days.values()) {
+            count += Long.bitCount(bits);
+        }
+        return count;
+    }
+
+    /**
+     * yyyyMMddHHmmss → 슬롯 번호
+     * 30분 단위( 분 00 / 30, 초 00 )가 아닌 시간은 거절 ( 다른 슬롯으로 바꿔 저장하지 않도록 )
+     * 날짜( yyyyMMdd )도 BASIC_ISO_DATE 로 검증 ( 20250230 같은 값이 500 이 아니라 400 이 되도록 )
+     */
+    public static int slotOf(String time) {
+        if (time == null || time.length() != 14) {
+            throw new IllegalArgumentException("날짜시간 문자열은 14자리여야 합니다. (yyyyMMddHHmmss)");
+        }
+        try {
+            LocalDate.parse(time.substring(0, 8), DateTimeFormatter.BASIC_ISO_DATE);
+            int hour = Integer.parseInt(time, 8, 10, 10);
+            int minute = Integer.parseInt(time, 10, 12, 10);
+            int second = Integer.parseInt(time, 12, 14, 10);
+            if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+                throw new IllegalArgumentException("잘못된 날짜시간 형식입니다: " + time);
+            }
+            if (minute % SLOT_MINUTES != 0 || second != 0) {
+                throw new IllegalArgumentException("상담 시간은 30분 단위( 00분 / 30분 )여야 합니다: " + time);
+            }
+            return (hour * 60 + minute) / SLOT_MINUTES;
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 날짜시간 형식입니다: " + time, e);
+        }
+    }
+
+    private static String dateOf(String time) {
+        slotOf(time);
+        return time.substring(0, 8);
+    }
+
+    private static String timeOf(String date, int slot) {
+        int minutes = slot * SLOT_MINUTES;
+        int hour = minutes / 60;
+        int minute = minutes % 60;
+        return date + (hour < 10 ? "0" : "") + hour + (minute < 10 ? "0" : "") + minute + "00";
+    }
+
+    private static void appendTimes(List<String> times, String date, long bits) {
+        while (bits != 0) {
+            times.add(timeOf(date, Long.numberOfTrailingZeros(bits)));
+            bits &= bits - 1;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.handi.backend.util;
+
+import com.handi.backend.exception.UploadLimitExceededException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 파일 업로드 / FastAPI 이미지 전송 동시 처리 수 제한
+ * 대기 시간 안에 자리가 나지 않으면 UploadLimitExceededException ( 503 )
+ */
+@Component
+@Slf4j
+public class UploadLimiter {
+
+    private final Semaphore permits;
+    private final long acquireTimeoutMs;
+
+    public UploadLimiter(@Value("${upload.max-concurrent:8}") int maxConcurrent,
+                         @Value("${upload.acquire-timeout-ms:5000}") long acquireTimeoutMs) {
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.acquireTimeoutMs = acquireTimeoutMs;
+    }
+
+    public <T> T run(Callable<T> task) throws Exception {
+        if (!permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+            log.warn("업로드 동시 처리 한도 초과");
+            throw new UploadLimitExceededException("업로드 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        try {
+            return task.call();
+        } finally {
+            permits.release();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+-- 자주 쓰는 조회 조건용 인덱스
+-- 테이블은 Hibernate( ddl-auto: update )가 만들고, 이 마이그레이션은 그 뒤에 실행됨 ( FlywayConfig )
+-- 인덱스 이름은 SchemaIndexValidator 가 기동 시 이 파일들에서 읽어 존재 여부를 확인함
+-- is_deleted = false 부분 인덱스는 조회 조건에 is_deleted = false 가 항상 붙는 경우에만 사용
+-- 운영 테이블에 쓰기 잠금을 걸지 않도록 CONCURRENTLY 로 생성 ( 트랜잭션 밖에서 실행, .sql.conf )
+-- CONCURRENTLY 생성이 실패하면 INVALID 인덱스가 남고, 트랜잭션 밖이라 Flyway 이력에도 실패한 V1 이 기록됨 ( 다음 기동에서 검증 실패 )
+-- 복구: 원인 해결 → flyway repair ( 실패 이력 삭제 ) → 재기동하면 V1 을 처음부터 다시 실행
+-- 다시 실행할 때 INVALID 인덱스를 IF NOT EXISTS 가 건너뛰지 않도록 CREATE 전에 DROP INDEX CONCURRENTLY IF EXISTS 로 지움
+-- 남은 INVALID 인덱스는 SchemaIndexValidator 가 기동 시 알림
+
+-- 복약 내역: 당일 복약 목록 LEFT JOIN, 스케줄 + 날짜 조회 ( is_deleted IS NOT TRUE 조건이라 부분 인덱스 아님 )
+DROP INDEX CONCURRENTLY IF EXISTS idx_medications_schedule_date;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_medications_schedule_date
+    ON medications (medication_schedules_id, medication_date);
+
+-- 투약 스케줄: 환자별 진행 중 스케줄 ( 기간 조회, 당일 복약 목록 )
+DROP INDEX CONCURRENTLY IF EXISTS idx_medication_schedules_senior_period;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_medication_schedules_senior_period
+    ON medication_schedules (senior_id, medication_enddate, medication_startdate)
+    WHERE is_deleted = false;
+
+-- 상담: 지금 진행 중인 상담 ( started_at <= now <= ended_at )
+DROP INDEX CONCURRENTLY IF EXISTS idx_meeting_matches_employee_window;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_meeting_matches_employee_window
+    ON meeting_matches (employee_id, started_at, ended_at);
+DROP INDEX CONCURRENTLY IF EXISTS idx_meeting_matches_guardian_window;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_meeting_matches_guardian_window
+    ON meeting_matches (guardian_id, started_at, ended_at);
+
+-- 상담: 분류별 목록 / 커서 조회 ( 상담 시간, ID 순 )
+DROP INDEX CONCURRENTLY IF EXISTS idx_meeting_matches_employee_type_time;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_meeting_matches_employee_type_time
+    ON meeting_matches (employee_id, meeting_type, meeting_time, id);
+DROP INDEX CONCURRENTLY IF EXISTS idx_meeting_matches_guardian_type_time;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_meeting_matches_guardian_type_time
+    ON meeting_matches (guardian_id, meeting_type, meeting_time, id);
+
+-- 상담: 환자별 마지막 병원 방문 ( 관찰일지 대시보드 )
+DROP INDEX CONCURRENTLY IF EXISTS idx_meeting_matches_senior_type_time;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_meeting_matches_senior_type_time
+    ON meeting_matches (senior_id, meeting_type, meeting_time);
+
+-- 담당 관계: 사용자 → 담당 환자, 환자 → 담당자 ( 삭제되지 않은 관계만 조회하므로 양쪽 다 부분 인덱스 )
+DROP INDEX CONCURRENTLY IF EXISTS idx_senior_user_relations_user_active;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_senior_user_relations_user_active
+    ON senior_user_relations (user_id)
+    WHERE is_deleted = false;
+DROP INDEX CONCURRENTLY IF EXISTS idx_senior_user_relations_senior_active;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_senior_user_relations_senior_active
+    ON senior_user_relations (senior_id, role)
+    WHERE is_deleted = false;
+
+-- 활력 징후: 환자별 날짜 / 기간 조회
+DROP INDEX CONCURRENTLY IF EXISTS idx_vital_signs_senior_date;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_vital_signs_senior_date
+    ON vital_signs (senior_id, measured_date);
+
+-- 관찰일지: 환자별 목록 / 기간 / 커서 조회, 최근 7일 가장 위험한 일지
+DROP INDEX CONCURRENTLY IF EXISTS idx_observation_records_senior_created;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_observation_records_senior_created
+    ON observation_records (senior_id, created_at DESC, id DESC)
+    WHERE is_deleted = false;
+
+-- 환자: 기관별 활성 환자 목록
+DROP INDEX CONCURRENTLY IF EXISTS idx_seniors_organization_active;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_seniors_organization_active
+    ON seniors (organization_id)
+    WHERE is_deleted = false AND is_active = true;
@@ -0,0 +1,22 @@
+-- 투약 내역: 스케줄 + 날짜 + 시간대당 한 건 ( 동시에 생성해도 중복 저장되지 않도록 )
+-- MedicationsBulkRepositoryImpl 은 ON CONFLICT DO NOTHING 으로 이 인덱스에 걸린 건을 건너뜀
+-- V1 과 같이 CONCURRENTLY 로 생성 ( 트랜잭션 밖에서 실행, .sql.conf )
+-- 생성이 실패하면( 정리 후 새로 생긴 중복 등 ) INVALID 인덱스와 실패한 V2 이력이 남음
+-- 복구 절차는 V1 과 같음: flyway repair → 재기동 ( 중복 정리부터 다시 실행하고 INVALID 인덱스는 DROP 으로 지움 )
+
+-- 이미 중복 저장된 건 정리 ( 복약 완료 기록이 있는 건, 그 다음 먼저 저장된 건을 남김 )
+DELETE FROM medications m
+USING (
+    SELECT id,
+           ROW_NUMBER() OVER (
+               PARTITION BY medication_schedules_id, medication_date, medication_schedule
+               ORDER BY (medicated_at IS NULL), id
+           ) AS rn
+    FROM medications
+) d
+WHERE m.id = d.id
+  AND d.rn > 1;
+
+DROP INDEX CONCURRENTLY IF EXISTS uk_medications_schedule_date_time;
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS uk_medications_schedule_date_time
+    ON medications (medication_schedules_id, medication_date, medication_schedule);
@@ -0,0 +1,6 @@
+-- 상담 매칭 ID 시퀀스 증가값을 MeetingMatches 의 allocationSize(50) 와 맞춤
+-- pooled-lo 는 nextval 한 번으로 ID 50개를 미리 잡아 매칭 결과 일괄 저장 시 시퀀스 조회를 줄임
+-- 증가값이 1 로 남아 있으면 increment_size_mismatch_strategy=fix 가 allocationSize 를 1 로 낮춰 건마다 nextval 을 호출함
+-- Flyway 는 Hibernate 초기화 이후 실행되므로 적용된 첫 기동에서는 증가값 1 로 동작하고, 다음 기동부터 50 으로 동작함
+-- 시퀀스 기본값(nextval)으로 직접 INSERT 해도 미리 잡은 구간과 겹치지 않음
+ALTER SEQUENCE IF EXISTS meeting_matches_id_seq INCREMENT BY 50;
@@ -0,0 +1,37 @@
+-- 상담 시간 예약 되돌리기 ( DB 커밋 실패 시 reserve-meeting-slots.lua 로 바꾼 값을 복구 )
+-- KEYS[1]     : employee:schedule:{간호사 ID}
+-- KEYS[2..n]  : senior:request:{시니어 ID} ( 예약 때 삭제한 시니어만 )
+-- ARGV[1]     : 예약 때 저장한 간호사 일정 값
+-- ARGV[2]     : 예약 전 간호사 일정 값
+-- ARGV[2i-1]  : 예약 전 보호자 요청 값 ( KEYS[i] )
+-- ARGV[2i]    : 예약 때 남아 있던 보호자 요청 만료 시간(ms), 0 이하면 만료 없음
+-- 반환 : 1 = 전부 복구 / 0 = 예약 이후 다른 요청이 바꾼 키는 건드리지 않음 ( 나머지만 복구 )
+
+local restored = 1
+
+-- 간호사 일정은 예약 때 저장한 값 그대로일 때만 복구 ( 기존 만료 시간 유지 )
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    local ttl = redis.call('PTTL', KEYS[1])
+    if ttl > 0 then
+        redis.call('SET', KEYS[1], ARGV[2], 'PX', ttl)
+    else
+        redis.call('SET', KEYS[1], ARGV[2])
+    end
+else
+    restored = 0
+end
+
+-- 보호자 요청은 그 사이 새 요청이 없을 때만 복구
+for i = 2, #KEYS do
+    local ttl = tonumber(ARGV[2 * i])
+    local ok
+    if ttl > 0 then
+        ok = redis.call('SET', KEYS[i], ARGV[2 * i - 1], 'PX', ttl, 'NX')
+    else
+        ok = redis.call('SET', KEYS[i], ARGV[2 * i - 1], 'NX')
+    end
+    if not ok then
+        restored = 0
+    end
+end
+return restored
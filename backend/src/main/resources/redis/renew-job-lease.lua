@@ -0,0 +1,15 @@
+-- 작업 리더 임대 연장 / 반납
+-- KEYS[1] : job:lease:{작업 이름}
+-- ARGV[1] : 노드 ID ( 임대를 가진 노드만 변경 가능 )
+-- ARGV[2] : 새 만료 시간 (ms), 0 이면 삭제
+-- 반환 : 1 = 변경 / 0 = 다른 노드가 가지고 있거나 이미 만료됨
+
+if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+    return 0
+end
+if tonumber(ARGV[2]) > 0 then
+    redis.call('PEXPIRE', KEYS[1], ARGV[2])
+else
+    redis.call('DEL', KEYS[1])
+end
+return 1
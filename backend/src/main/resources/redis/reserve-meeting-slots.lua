@@ -0,0 +1,32 @@
+-- 상담 시간 예약 ( 간호사 일정 + 매칭된 보호자 요청을 한 번에 처리 )
+-- KEYS[1]     : employee:schedule:{간호사 ID}
+-- KEYS[2..n]  : senior:request:{시니어 ID} ( 매칭된 시니어만 )
+-- ARGV[1]     : 조회 당시 간호사 일정 값
+-- ARGV[2]     : 매칭된 시간을 뺀 간호사 일정 값
+-- ARGV[3..n+1]: 조회 당시 보호자 요청 값 ( KEYS[2..n] 순서 )
+-- 반환 : {1, 보호자 요청 남은 만료 시간(ms)...} = 예약 완료 ( KEYS[2..n] 순서, 되돌리기용 )
+--        {0} = 조회 이후 값이 바뀌어서 아무것도 변경하지 않음
+
+if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+    return {0}
+end
+for i = 2, #KEYS do
+    if redis.call('GET', KEYS[i]) ~= ARGV[i + 1] then
+        return {0}
+    end
+end
+
+-- 기존 만료 시간 유지
+local ttl = redis.call('PTTL', KEYS[1])
+if ttl > 0 then
+    redis.call('SET', KEYS[1], ARGV[2], 'PX', ttl)
+else
+    redis.call('SET', KEYS[1], ARGV[2])
+end
+
+local result = {1}
+for i = 2, #KEYS do
+    result[i] = redis.call('PTTL', KEYS[i])
+    redis.call('UNLINK', KEYS[i])
+end
+return result
@@ -0,0 +1,136 @@
+package com.handi.backend.repository;
+
+import com.handi.backend.support.PostgresJpaTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 자주 쓰는 조회가 V1 / V2 인덱스를 타는지 확인 ( EXPLAIN )
+ * - 테이블이 비어 있으면 순차 스캔이 항상 더 싸게 나오므로 enable_seqscan 을 끄고
+ *   "인덱스를 쓸 수 있는 조건인지" 를 확인 ( 부분 인덱스 조건 누락, 컬럼 순서 변경 등 회귀 )
+ * - 네이티브 쿼리는 리포지토리 상수를 그대로, JPQL 은 Hibernate 가 만드는 SQL 과 같은 조건으로 작성
+ */
+@PostgresJpaTest
+class HotQueryIndexPlanTest {
+
+    private static final String DATE = "DATE '2025-01-01'";
+    private static final String TIME = "TIMESTAMP '2025-01-01 10:00'";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void disableSeqScan() {
+        // 테스트 트랜잭션 안에서만 적용
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+    }
+
+    @Test
+    @DisplayName("오늘 복약 목록 ( MedicationsRepository.findTodayByUserId )")
+    void todayMedications() {
+        String sql = MedicationsRepository.TODAY_SELECT + MedicationsRepository.TODAY_FROM
+                + "ORDER BY " + MedicationsRepository.TODAY_SLOT_ORDER + ", s.id, ms.id";
+        String plan = explain(sql.replace(":date", DATE).replace(":userId", "1"));
+
+        assertUsesIndex(plan, "idx_senior_user_relations_user_active");
+        assertUsesIndex(plan, "idx_medication_schedules_senior_period");
+        assertUsesIndex(plan, "idx_medications_schedule_date", "uk_medications_schedule_date_time");
+    }
+
+    @Test
+    @DisplayName("투약 스케줄 기간 조회 ( MedicationSchedulesRepository.findProjectionBySeniorIdAndDateRange )")
+    void medicationSchedulesBySeniorPeriod() {
+        String plan = explain("SELECT s.id FROM medication_schedules s " +
+                "WHERE s.senior_id = 1 AND s.medication_enddate >= " + DATE +
+                " AND s.medication_startdate <= " + DATE + " AND s.is_deleted = false");
+
+        assertUsesIndex(plan, "idx_medication_schedules_senior_period");
+    }
+
+    @Test
+    @DisplayName("관찰일지 커서 조회 ( ObservationRecordsRepository.findSliceBySeniorId )")
+    void observationRecordsSlice() {
+        String plan = explain("SELECT o.id FROM observation_records o " +
+                "WHERE o.senior_id = 1 AND o.is_deleted = false " +
+                "AND (o.created_at < " + TIME + " OR (o.created_at = " + TIME + " AND o.id < 100)) " +
+                "ORDER BY o.created_at DESC, o.id DESC LIMIT 21");
+
+        assertUsesIndex(plan, "idx_observation_records_senior_created");
+    }
+
+    @Test
+    @DisplayName("상담 분류별 목록 ( MeetingMatchesRepository.findProjectionByEmployee / ByGuardian )")
+    void meetingsByType() {
+        String where = " = 1 AND m.meeting_type = 'withEmployee' AND m.meeting_time BETWEEN "
+                + TIME + " AND " + TIME + " + INTERVAL '30 days' ORDER BY m.meeting_time LIMIT 20";
+
+        assertUsesIndex(explain("SELECT m.id FROM meeting_matches m WHERE m.employee_id" + where),
+                "idx_meeting_matches_employee_type_time");
+        assertUsesIndex(explain("SELECT m.id FROM meeting_matches m WHERE m.guardian_id" + where),
+                "idx_meeting_matches_guardian_type_time");
+    }
+
+    @Test
+    @DisplayName("진행 중인 상담 ( 간호사 / 보호자 )")
+    void meetingsInProgress() {
+        String where = " = 1 AND m.started_at <= " + TIME + " AND m.ended_at >= " + TIME;
+
+        assertUsesIndex(explain("SELECT m.id FROM meeting_matches m WHERE m.employee_id" + where),
+                "idx_meeting_matches_employee_window");
+        assertUsesIndex(explain("SELECT m.id FROM meeting_matches m WHERE m.guardian_id" + where),
+                "idx_meeting_matches_guardian_window");
+    }
+
+    @Test
+    @DisplayName("환자별 마지막 병원 방문 ( MeetingMatchesRepository.findLastMeetingTimeBySeniorIdIn )")
+    void lastHospitalVisit() {
+        String plan = explain("SELECT m.senior_id, MAX(m.meeting_time) FROM meeting_matches m " +
+                "WHERE m.senior_id IN (1, 2, 3) AND m.meeting_type = 'withDoctor' GROUP BY m.senior_id");
+
+        assertUsesIndex(plan, "idx_meeting_matches_senior_type_time");
+    }
+
+    @Test
+    @DisplayName("기관별 활성 환자 ( SeniorsRepository.findActiveProjectionByOrganizationId )")
+    void activeSeniorsByOrganization() {
+        String plan = explain("SELECT s.id FROM seniors s " +
+                "WHERE s.organization_id = 1 AND s.is_active = true AND s.is_deleted = false");
+
+        assertUsesIndex(plan, "idx_seniors_organization_active");
+    }
+
+    @Test
+    @DisplayName("환자의 담당자 ( 삭제되지 않은 관계 )")
+    void relationsBySenior() {
+        String plan = explain("SELECT r.user_id FROM senior_user_relations r " +
+                "WHERE r.senior_id = 1 AND r.role = 'GUARDIAN' AND r.is_deleted = false");
+
+        assertUsesIndex(plan, "idx_senior_user_relations_senior_active");
+    }
+
+    @Test
+    @DisplayName("활력 징후 날짜별 조회")
+    void vitalSignsByDate() {
+        String plan = explain("SELECT v.id FROM vital_signs v WHERE v.senior_id = 1 AND v.measured_date = " + DATE);
+
+        assertUsesIndex(plan, "idx_vital_signs_senior_date");
+    }
+
+    private String explain(String sql) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+    }
+
+    // 후보 인덱스 중 하나라도 쓰면 통과 ( 같은 선두 컬럼 인덱스가 여럿인 경우 )
+    private static void assertUsesIndex(String plan, String... indexes) {
+        assertThat(Arrays.stream(indexes).anyMatch(plan::contains))
+                .as("%s 를 사용해야 함\n%s", Arrays.toString(indexes), plan)
+                .isTrue();
+    }
+}
@@ -0,0 +1,141 @@
+package com.handi.backend.repository;
+
+import com.handi.backend.dto.medication.MedicationOccurrence;
+import com.handi.backend.entity.MedicationSchedules;
+import com.handi.backend.entity.Seniors;
+import com.handi.backend.enums.Gender;
+import com.handi.backend.enums.MedicationTime;
+import com.handi.backend.support.PostgresJpaTest;
+import com.handi.backend.util.MedicationOccurrenceGenerator;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 투약 내역 생성: 건마다 save ( 기존 ) vs JDBC batch ( MedicationsBulkRepositoryImpl ) 를 실제 PostgreSQL 에서 비교
+ * - 30 / 180 / 365일, 하루 3회 ( 90 / 540 / 1095건 )
+ * - 걸린 시간과 JDBC 호출 수를 로그로 남기고, 호출 수와 저장 건수만 검증 ( 시간은 환경마다 달라서 검증하지 않음 )
+ * - save 는 Hibernate 통계( PrepareStatementCount ), batch 는 JdbcTemplate 호출 수로 셈 ( batch 1번 = 왕복 1번 )
+ */
+@PostgresJpaTest
+class MedicationsBulkInsertComparisonTest {
+
+    private static final Logger log = LoggerFactory.getLogger(MedicationsBulkInsertComparisonTest.class);
+
+    private static final int BATCH_SIZE = 1000;     // MedicationsBulkRepositoryImpl 과 같은 크기
+    private static final String[] MEDICATION_TIMES = {
+            MedicationTime.AFTER_BREAKFAST.name(), MedicationTime.AFTER_LUNCH.name(), MedicationTime.AFTER_DINNER.name()};
+    private static final LocalDate START_DATE = LocalDate.of(2025, 6, 1);
+
+    @Autowired
+    private TestEntityManager em;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private MedicationsRepository medicationsRepository;
+
+    private Seniors senior;
+
+    @BeforeEach
+    void setUp() {
+        senior = new Seniors();
+        senior.setName("환자");
+        senior.setBirthDate(LocalDate.of(1940, 1, 1));
+        senior.setGender(Gender.FEMALE);
+        em.persist(senior);
+    }
+
+    @ParameterizedTest(name = "{0}일")
+    @ValueSource(ints = {30, 180, 365})
+    @DisplayName("건마다 save 와 JDBC batch 의 시간 / 호출 수 비교")
+    void compare(int days) {
+        LocalDate endDate = START_DATE.plusDays(days - 1);
+        int expected = days * MEDICATION_TIMES.length;
+
+        // 기존: 날짜 x 시간대마다 save ( IDENTITY 라서 INSERT 가 건마다 바로 실행됨 )
+        MedicationSchedules legacySchedule = schedule(endDate);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        long legacyStart = System.nanoTime();
+        MedicationOccurrenceGenerator.generate(START_DATE, endDate, MEDICATION_TIMES)
+                .forEach(occurrence -> medicationsRepository.save(MedicationOccurrenceGenerator.virtualOf(legacySchedule, occurrence)));
+        em.flush();
+        long legacyMillis = (System.nanoTime() - legacyStart) / 1_000_000;
+        long legacyCalls = statistics.getPrepareStatementCount();
+        em.clear();
+
+        // 변경: ID 일괄 할당 + batch INSERT ( 1000건씩 )
+        MedicationSchedules bulkSchedule = schedule(endDate);
+        CountingJdbcTemplate jdbcTemplate = new CountingJdbcTemplate(dataSource);
+        MedicationsBulkRepositoryImpl bulkRepository = new MedicationsBulkRepositoryImpl(jdbcTemplate);
+        long bulkStart = System.nanoTime();
+        int inserted = bulkRepository.bulkInsert(bulkSchedule.getId(),
+                MedicationOccurrenceGenerator.generate(START_DATE, endDate, MEDICATION_TIMES));
+        long bulkMillis = (System.nanoTime() - bulkStart) / 1_000_000;
+
+        log.info("투약 내역 {}일 {}건: save {}ms / JDBC {}회, batch {}ms / JDBC {}회",
+                days, expected, legacyMillis, legacyCalls, bulkMillis, jdbcTemplate.calls);
+
+        assertThat(legacyCalls).isGreaterThanOrEqualTo(expected);
+        assertThat(inserted).isEqualTo(expected);
+        assertThat(jdbcTemplate.calls).isEqualTo(2 * ((expected + BATCH_SIZE - 1) / BATCH_SIZE));
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM medications WHERE medication_schedules_id = ?", Integer.class, bulkSchedule.getId()))
+                .isEqualTo(expected);
+
+        // 다시 저장해도 이미 있는 건은 건너뜀 ( uk_medications_schedule_date_time )
+        assertThat(bulkRepository.bulkInsert(bulkSchedule.getId(),
+                Stream.of(new MedicationOccurrence(START_DATE, MedicationTime.AFTER_BREAKFAST)))).isZero();
+    }
+
+    private MedicationSchedules schedule(LocalDate endDate) {
+        MedicationSchedules schedule = new MedicationSchedules();
+        schedule.setSenior(senior);
+        schedule.setMedicationName("약");
+        schedule.setMedicationStartdate(START_DATE);
+        schedule.setMedicationEnddate(endDate);
+        schedule.setMedicationTime(MEDICATION_TIMES);
+        return em.persistFlushFind(schedule);
+    }
+
+    // 왕복 수 ( 조회 1번, batch 1번 ) 를 세는 JdbcTemplate, 테스트 트랜잭션 커넥션을 그대로 사용
+    private static class CountingJdbcTemplate extends JdbcTemplate {
+
+        private int calls;
+
+        CountingJdbcTemplate(DataSource dataSource) {
+            super(dataSource);
+        }
+
+        @Override
+        public <T> List<T> queryForList(String sql, Class<T> elementType, Object... args) {
+            calls++;
+            return super.queryForList(sql, elementType, args);
+        }
+
+        @Override
+        public int[] batchUpdate(String sql, BatchPreparedStatementSetter pss) {
+            calls++;
+            return super.batchUpdate(sql, pss);
+        }
+    }
+}
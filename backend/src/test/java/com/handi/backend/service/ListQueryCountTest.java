@@ -0,0 +1,165 @@
+package com.handi.backend.service;
+
+import com.handi.backend.converter.DateTimeConverter;
+import com.handi.backend.dto.common.PageResponseDto;
+import com.handi.backend.entity.*;
+import com.handi.backend.enums.Gender;
+import com.handi.backend.enums.Level;
+import com.handi.backend.enums.Role;
+import com.handi.backend.support.PostgresJpaTest;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 API 한 페이지당 JDBC 쿼리 수 ( Hibernate Statistics.getPrepareStatementCount )
+ * - 행 수와 상관없이 고정이어야 함 ( 행마다 연관 엔티티를 로딩하면 페이지 크기만큼 늘어남 )
+ * - 페이지보다 데이터가 많게 저장해서 COUNT 쿼리까지 포함해 확인
+ */
+@PostgresJpaTest
+@Import({DateTimeConverter.class, ObservationRecordService.class, MedicationSchedulesService.class,
+        SeniorService.class, MeetingMatchesService.class})
+class ListQueryCountTest {
+
+    private static final int ROWS = 30;
+    private static final PageRequest PAGE = PageRequest.of(0, 10);
+
+    @MockitoBean
+    private MedicationsService medicationsService;
+    @MockitoBean
+    private RabbitMQService rabbitMQService;
+    @MockitoBean
+    private AlertService alertService;
+
+    @Autowired
+    private TestEntityManager em;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObservationRecordService observationRecordService;
+    @Autowired
+    private MedicationSchedulesService medicationSchedulesService;
+    @Autowired
+    private SeniorService seniorService;
+    @Autowired
+    private MeetingMatchesService meetingMatchesService;
+
+    private Statistics statistics;
+    private Organizations organization;
+    private Users nurse;
+    private Seniors senior;
+
+    @BeforeEach
+    void setUp() {
+        organization = new Organizations();
+        organization.setName("기관");
+        em.persist(organization);
+
+        nurse = user(Role.EMPLOYEE, "nurse@handi.test");
+        Users guardian = user(Role.GUARDIAN, "guardian@handi.test");
+
+        for (int i = 0; i < ROWS; i++) {
+            Seniors s = new Seniors();
+            s.setOrganization(organization);
+            s.setName("환자" + i);
+            s.setBirthDate(LocalDate.of(1940, 1, 1));
+            s.setGender(Gender.FEMALE);
+            s.setIsActive(true);
+            em.persist(s);
+            if (i == 0) {
+                senior = s;
+            }
+        }
+        em.persist(new SeniorUserRelations(nurse, senior, Role.EMPLOYEE));
+        em.persist(new SeniorUserRelations(guardian, senior, Role.GUARDIAN));
+
+        for (int i = 0; i < ROWS; i++) {
+            ObservationRecords record = new ObservationRecords();
+            record.setSenior(senior);
+            record.setContent("관찰일지" + i);
+            record.setLevel(Level.LOW);
+            em.persist(record);
+
+            MedicationSchedules schedule = new MedicationSchedules();
+            schedule.setSenior(senior);
+            schedule.setMedicationName("약" + i);
+            schedule.setMedicationStartdate(LocalDate.of(2025, 1, 1));
+            schedule.setMedicationEnddate(LocalDate.of(2025, 12, 31));
+            schedule.setMedicationTime(new String[]{"AFTER_BREAKFAST"});
+            em.persist(schedule);
+
+            MeetingMatches meeting = new MeetingMatches();
+            meeting.setEmployee(nurse);
+            meeting.setGuardian(guardian);
+            meeting.setSenior(senior);
+            meeting.setMeetingTime(LocalDateTime.of(2025, 3, 1, 10, 0).plusDays(i));
+            em.persist(meeting);
+        }
+
+        // 저장한 엔티티가 1차 캐시에서 조회되지 않도록 비우고 통계 초기화
+        em.flush();
+        em.clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("관찰일지 목록: 목록 + COUNT + 환자 + 담당자 = 4")
+    void observationRecords() {
+        PageResponseDto<?> page = observationRecordService.getList(senior.getId(), PAGE);
+
+        assertThat(page.getResult()).hasSize(PAGE.getPageSize());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("투약 일정 기간 조회: 목록 + COUNT = 2")
+    void medicationSchedules() {
+        PageResponseDto<?> page = medicationSchedulesService.getListByDate(senior.getId(), "20250101", "20251231", PAGE);
+
+        assertThat(page.getResult()).hasSize(PAGE.getPageSize());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("기관별 환자 목록: 목록 + COUNT = 2")
+    void seniorsByOrganization() {
+        PageResponseDto<?> page = seniorService.getSeniorsByOrganization(organization.getId(), PAGE);
+
+        assertThat(page.getResult()).hasSize(PAGE.getPageSize());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("상담 분류별 목록: 목록 + COUNT = 2")
+    void meetingsByType() {
+        PageResponseDto<?> page = meetingMatchesService.findByMeetingType(nurse, "withEmployee", PAGE, "20250101", "20251231");
+
+        assertThat(page.getResult()).hasSize(PAGE.getPageSize());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    private Users user(Role role, String email) {
+        Users user = new Users();
+        user.setOrganizationId(organization.getId());
+        user.setRole(role);
+        user.setEmail(email);
+        user.setName(role.getLabel());
+        user.setPhoneNumber("010-0000-0000");
+        return em.persist(user);
+    }
+}
@@ -0,0 +1,30 @@
+package com.handi.backend.support;
+
+import com.handi.backend.config.FlywayConfig;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 실제 PostgreSQL( Testcontainers ) 위의 JPA 테스트
+ * - 스키마는 운영과 같이 Hibernate 가 만들고, FlywayConfig 가 그 뒤에 db/migration 인덱스를 적용
+ * - Hibernate 통계를 켜서 테스트에서 실행된 쿼리 수를 확인할 수 있음
+ * - Docker 가 없는 환경에서는 건너뜀
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PostgresTestConfig.class, FlywayConfig.class})
+@Testcontainers(disabledWithoutDocker = true)
+public @interface PostgresJpaTest {
+}
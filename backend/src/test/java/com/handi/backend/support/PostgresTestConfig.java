@@ -0,0 +1,21 @@
+package com.handi.backend.support;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * 테스트용 PostgreSQL 컨테이너
+ * - 운영과 같은 DB 에서 실행 계획 / 쿼리 수를 확인하기 위해 H2 대신 사용
+ * - 컨테이너는 테스트 컨텍스트당 1개 ( 컨텍스트 캐시로 테스트 클래스끼리 재사용 )
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class PostgresTestConfig {
+
+    @Bean
+    @ServiceConnection
+    PostgreSQLContainer<?> postgresContainer() {
+        return new PostgreSQLContainer<>("postgres:16-alpine");
+    }
+}
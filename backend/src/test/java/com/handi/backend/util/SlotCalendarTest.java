@@ -0,0 +1,64 @@
+package com.handi.backend.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 상담 시간 → 슬롯 변환
+ * - API 입력( fromTimes )은 30분 단위가 아니면 거절 ( IllegalArgumentException → 400 )
+ * - 이미 저장된 이전 형식 값( fromLegacyTimes )은 거절할 수 없으므로 건너뜀
+ */
+class SlotCalendarTest {
+
+    @Test
+    @DisplayName("30분 단위 시간은 해당 슬롯으로 변환")
+    void onSlotTimes() {
+        assertThat(SlotCalendar.slotOf("20250605000000")).isEqualTo(0);
+        assertThat(SlotCalendar.slotOf("20250605093000")).isEqualTo(19);
+        assertThat(SlotCalendar.slotOf("20250605233000")).isEqualTo(SlotCalendar.SLOTS_PER_DAY - 1);
+
+        SlotCalendar calendar = SlotCalendar.fromTimes(List.of("20250605090000", "20250605093000"));
+        assertThat(calendar.toTimes()).containsExactly("20250605090000", "20250605093000");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"20250605091500", "20250605090001", "20250605092959"})
+    @DisplayName("30분 단위가 아닌 시간은 내림하지 않고 거절")
+    void offSlotTimesAreRejected(String time) {
+        assertThatThrownBy(() -> SlotCalendar.slotOf(time))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(time);
+        assertThatThrownBy(() -> SlotCalendar.fromTimes(List.of("20250605090000", time)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"20250230090000", "20251301090000", "2025060a090000"})
+    @DisplayName("날짜( yyyyMMdd )가 잘못된 시간은 IllegalArgumentException ( 400 )")
+    void malformedDatesAreRejected(String time) {
+        assertThatThrownBy(() -> SlotCalendar.slotOf(time))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(time);
+
+        SlotCalendar calendar = new SlotCalendar();
+        assertThatThrownBy(() -> calendar.contains(time))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> calendar.consume(time))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("이전 형식 저장 값은 슬롯으로 표현할 수 없는 시간만 건너뜀")
+    void legacyTimesSkipOffSlot() {
+        SlotCalendar calendar = SlotCalendar.fromLegacyTimes(List.of("20250605090000", "20250605091500", "bad"));
+
+        assertThat(calendar.toTimes()).containsExactly("20250605090000");
+    }
+}